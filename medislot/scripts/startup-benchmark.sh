@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+#
+# Startup Benchmark
+# Measures time-to-first-request for the plain jar and the fast-start build
+#
+# Usage: scripts/startup-benchmark.sh [runs] [port]
+#   Build both variants first:
+#     ./mvnw -DskipTests package && cp target/medislot-0.0.1-SNAPSHOT.jar target/baseline.jar
+#     ./mvnw -DskipTests -Pproduction package
+#   A PostgreSQL instance with the schema must be reachable (DB_URL, DB_USERNAME, DB_PASSWORD)
+#
+# For every run it records:
+#   ready_ms - launch until /actuator/health/readiness answers 200
+#   first_ms - launch until the first database-backed API request (a failed login) completes
+#
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${2:-18080}"
+BASE_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+TARGET="$BASE_DIR/target"
+JAR_NAME="medislot-0.0.1-SNAPSHOT.jar"
+BASE_URL="http://localhost:$PORT"
+
+now_ms() {
+  date +%s%3N
+}
+
+wait_for() {
+  local url="$1" start="$2"
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "$url")" = "200" ]; do
+    if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+      echo "Timed out waiting for $url" >&2
+      return 1
+    fi
+    sleep 0.01
+  done
+}
+
+first_request() {
+  # Any response from the login endpoint means the user repository answered
+  curl -s -o /dev/null -X POST "$BASE_URL/api/auth/login" \
+    -H 'Content-Type: application/json' \
+    -d '{"email":"startup-benchmark@medislot.test","password":"not-a-password"}'
+}
+
+measure() {
+  local name="$1" dir="$2"
+  shift 2
+  local total_ready=0 total_first=0
+  for run in $(seq 1 "$RUNS"); do
+    local start pid ready first
+    start=$(now_ms)
+    (cd "$dir" && exec java "$@" -Dserver.port="$PORT" -Dlogging.level.root=WARN > /dev/null 2>&1) &
+    pid=$!
+    wait_for "$BASE_URL/actuator/health/readiness" "$start"
+    ready=$(( $(now_ms) - start ))
+    first_request
+    first=$(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    printf '%-10s run %-3s ready_ms=%-6s first_ms=%s\n' "$name" "$run" "$ready" "$first"
+    total_ready=$(( total_ready + ready ))
+    total_first=$(( total_first + first ))
+  done
+  printf '%-10s avg     ready_ms=%-6s first_ms=%s\n\n' "$name" $(( total_ready / RUNS )) $(( total_first / RUNS ))
+}
+
+if [ -f "$TARGET/baseline.jar" ]; then
+  # Default profile plus probes so both variants are polled the same way
+  measure baseline "$TARGET" \
+    -Dmanagement.endpoint.health.probes.enabled=true -jar baseline.jar
+fi
+
+if [ -f "$TARGET/application/application.aot" ]; then
+  measure fast-start "$TARGET/application" \
+    -XX:AOTCache=application.aot -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar "$JAR_NAME"
+else
+  echo "No AOT cache found - build the fast-start variant with ./mvnw -Pproduction package" >&2
+fi
@@ -0,0 +1,111 @@
+package com.medislot.medislot.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.medislot.medislot.filter.RequestLoggingFilter;
+import com.medislot.medislot.logging.AccessLogWriter;
+import com.medislot.medislot.util.ClientIpResolver;
+import com.medislot.medislot.util.CorrelationIdHolder;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of the access logging filter
+ * The access logger itself is switched off so the numbers reflect only the work done on the
+ * request thread; the writer thread still drains the buffer. legacyFormatting reproduces the
+ * eager String.format and split-based IP parsing the filter used to do on every request
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessLogBenchmark {
+
+    @Param({"1.0", "0.1"})
+    public double sampleRate;
+
+    private AccessLogWriter accessLogWriter;
+    private RequestLoggingFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(AccessLogWriter.ACCESS_LOGGER_NAME)).setLevel(Level.OFF);
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.medislot")).setLevel(Level.WARN);
+
+        accessLogWriter = new AccessLogWriter(8192, 256);
+        accessLogWriter.start();
+        filter = new RequestLoggingFilter(accessLogWriter, new ClientIpResolver(new String[] {"127.0.0.1"}), sampleRate, 500);
+
+        request = new MockHttpServletRequest("GET", "/api/doctors/active");
+        request.setQueryString("specialization=cardiology");
+        request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+        request.addHeader("Authorization", "Bearer benchmark-token");
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> { };
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        accessLogWriter.stop();
+    }
+
+    /**
+     * Correlation ID is thread-local, so it has to be set on each benchmark thread
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup
+        public void setUp() {
+            CorrelationIdHolder.setCorrelationId("3f2b9c4e-8a1d-4f6e-9b7c-2d5e8f1a0c3b");
+        }
+
+        @TearDown
+        public void tearDown() {
+            CorrelationIdHolder.clear();
+        }
+    }
+
+    @Benchmark
+    public void passThrough(RequestThread thread) throws Exception {
+        chain.doFilter(request, response);
+    }
+
+    @Benchmark
+    public void accessLogFilter(RequestThread thread) throws Exception {
+        filter.doFilter(request, response, chain);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void accessLogFilterContended(RequestThread thread) throws Exception {
+        filter.doFilter(request, response, chain);
+    }
+
+    @Benchmark
+    public void legacyFormatting(RequestThread thread, Blackhole blackhole) throws Exception {
+        long start = System.currentTimeMillis();
+        String correlationId = CorrelationIdHolder.getCorrelationId();
+        String ip = request.getHeader("X-Forwarded-For");
+        if (ip.contains(",")) {
+            ip = ip.split(",")[0].trim();
+        }
+        String path = request.getRequestURI();
+        String fullPath = request.getQueryString() != null ? path + "?" + request.getQueryString() : path;
+        blackhole.consume(ip);
+        blackhole.consume(fullPath);
+        chain.doFilter(request, response);
+        blackhole.consume(String.format("← Response [%s] %s %s - Status: %d - Time: %dms",
+                correlationId, request.getMethod(), path, response.getStatus(), System.currentTimeMillis() - start));
+    }
+}
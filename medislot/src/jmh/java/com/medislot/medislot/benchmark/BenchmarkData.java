@@ -0,0 +1,89 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.dto.appointment.AppointmentCreateRequest;
+import com.medislot.medislot.dto.slot.SlotCreateRequest;
+import com.medislot.medislot.entity.Appointment;
+import com.medislot.medislot.entity.AppointmentStatus;
+import com.medislot.medislot.entity.Doctor;
+import com.medislot.medislot.entity.Slot;
+import com.medislot.medislot.entity.SlotStatus;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Realistic sample entities and requests shared by the benchmarks
+ */
+final class BenchmarkData {
+
+    static final UUID DOCTOR_ID = UUID.fromString("6f1c2a9e-3b4d-4e5f-8a7b-1c2d3e4f5a6b");
+    static final UUID HOSPITAL_ID = UUID.fromString("0a1b2c3d-4e5f-4a7b-8c9d-0e1f2a3b4c5d");
+    static final UUID PATIENT_ID = UUID.fromString("9e8d7c6b-5a4f-4e3d-8c2b-1a0f9e8d7c6b");
+    static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 3, 10, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private BenchmarkData() {
+    }
+
+    static Slot slot(int index) {
+        Slot slot = new Slot();
+        slot.setId(new UUID(0x5107L, index));
+        slot.setDoctorId(DOCTOR_ID);
+        slot.setHospitalId(HOSPITAL_ID);
+        slot.setStartTime(BASE_TIME.plusMinutes(30L * index));
+        slot.setEndTime(BASE_TIME.plusMinutes(30L * index + 30));
+        slot.setStatus(index % 3 == 0 ? SlotStatus.BOOKED : SlotStatus.AVAILABLE);
+        slot.setCreatedAt(BASE_TIME.minusDays(7));
+        return slot;
+    }
+
+    static List<Slot> slots(int count) {
+        List<Slot> slots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            slots.add(slot(i));
+        }
+        return slots;
+    }
+
+    static Appointment appointment() {
+        Appointment appointment = new Appointment();
+        appointment.setId(UUID.fromString("1d2e3f4a-5b6c-4d7e-8f9a-0b1c2d3e4f5a"));
+        appointment.setDoctorId(DOCTOR_ID);
+        appointment.setHospitalId(HOSPITAL_ID);
+        appointment.setSlotId(new UUID(0x5107L, 1));
+        appointment.setPatientId(PATIENT_ID);
+        appointment.setStatus(AppointmentStatus.BOOKED);
+        appointment.setCreatedAt(BASE_TIME.minusDays(1));
+        return appointment;
+    }
+
+    static Doctor doctor() {
+        Doctor doctor = new Doctor();
+        doctor.setId(DOCTOR_ID);
+        doctor.setFullName("Dr. Leyla Mammadova");
+        doctor.setSpecialty("Cardiology");
+        doctor.setActive(true);
+        doctor.setCreatedAt(BASE_TIME.minusDays(30));
+        return doctor;
+    }
+
+    static SlotCreateRequest slotCreateRequest() {
+        SlotCreateRequest request = new SlotCreateRequest();
+        request.setDoctorId(DOCTOR_ID);
+        request.setHospitalId(HOSPITAL_ID);
+        request.setStartTime(BASE_TIME);
+        request.setEndTime(BASE_TIME.plusMinutes(30));
+        return request;
+    }
+
+    static AppointmentCreateRequest appointmentCreateRequest() {
+        AppointmentCreateRequest request = new AppointmentCreateRequest();
+        request.setDoctorId(DOCTOR_ID);
+        request.setHospitalId(HOSPITAL_ID);
+        request.setSlotId(new UUID(0x5107L, 1));
+        request.setPatientId(PATIENT_ID);
+        return request;
+    }
+}
@@ -0,0 +1,53 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.filter.CorrelationIdFilter;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request overhead of CorrelationIdFilter
+ * Covers both an incoming X-Request-Id and a generated one (UUID.randomUUID)
+ * RequestLoggingFilter overhead is measured by AccessLogBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CorrelationIdFilterBenchmark {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter();
+    private final FilterChain chain = (req, res) -> { };
+
+    private MockHttpServletRequest requestWithId;
+    private MockHttpServletRequest requestWithoutId;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        requestWithId = new MockHttpServletRequest("GET", "/api/doctors/active");
+        requestWithId.addHeader("X-Request-Id", "3f2b9c4e-8a1d-4f6e-9b7c-2d5e8f1a0c3b");
+        requestWithoutId = new MockHttpServletRequest("GET", "/api/doctors/active");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void passThrough() throws Exception {
+        chain.doFilter(requestWithId, response);
+    }
+
+    @Benchmark
+    public void incomingRequestId() throws Exception {
+        filter.doFilter(requestWithId, response, chain);
+    }
+
+    @Benchmark
+    public void generatedRequestId() throws Exception {
+        filter.doFilter(requestWithoutId, response, chain);
+    }
+}
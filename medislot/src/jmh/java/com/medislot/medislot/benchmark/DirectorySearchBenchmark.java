@@ -0,0 +1,88 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.search.DirectoryIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete latency of DirectoryIndex over a synthetic directory
+ * Exact prefixes, misspelled words and multi-word queries against doctors and hospitals
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DirectorySearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "Aysel", "Elvin", "Leyla", "Murad", "Nigar", "Orxan", "Sabina", "Tural", "Anna", "Daniel",
+        "Emma", "James", "Laura", "Lucas", "Maria", "Noah", "Olivia", "Samuel", "Fatima", "Kamran"
+    };
+    private static final String[] LAST_NAMES = {
+        "Aliyev", "Mammadova", "Huseynov", "Hasanova", "Guliyev", "Smith", "Johnson", "Brown",
+        "Garcia", "Miller", "Davis", "Wilson", "Rahimov", "Jafarova", "Nasirov", "Valiyeva"
+    };
+    private static final String[] SPECIALTIES = {
+        "Cardiology", "Dermatology", "Endocrinology", "Gastroenterology", "General Practice",
+        "Neurology", "Obstetrics", "Oncology", "Ophthalmology", "Orthopedics", "Pediatrics", "Urology"
+    };
+    private static final String[] CITIES = {
+        "Baku", "Ganja", "Sumqayit", "Mingachevir", "Lankaran", "Shaki", "Shirvan", "Nakhchivan"
+    };
+
+    @Param({"1000", "10000"})
+    public int doctors;
+
+    private DirectoryIndex index;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new DirectoryIndex();
+        for (int i = 0; i < doctors; i++) {
+            index.putDoctor(new UUID(0xD0C7L, i),
+                    pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES),
+                    pick(random, SPECIALTIES), random.nextInt(10) > 0);
+        }
+        for (int i = 0; i < doctors / 20; i++) {
+            String city = pick(random, CITIES);
+            index.putHospital(new UUID(0x4057L, i), city + " " + pick(random, SPECIALTIES) + " Center " + i,
+                    (i + 1) + " Nizami Street, " + city, true);
+        }
+    }
+
+    @Benchmark
+    public List<DirectoryIndex.Match> shortPrefix() {
+        return index.search("car", null, true, 10);
+    }
+
+    @Benchmark
+    public List<DirectoryIndex.Match> wordPrefix() {
+        return index.search("gastro", DirectoryIndex.Kind.DOCTOR, true, 10);
+    }
+
+    @Benchmark
+    public List<DirectoryIndex.Match> misspelled() {
+        return index.search("cardiolgy", DirectoryIndex.Kind.DOCTOR, true, 10);
+    }
+
+    @Benchmark
+    public List<DirectoryIndex.Match> nameAndSpecialty() {
+        return index.search("leyla neuro", null, true, 10);
+    }
+
+    @Benchmark
+    public List<DirectoryIndex.Match> hospitalByCity() {
+        return index.search("ganja cent", DirectoryIndex.Kind.HOSPITAL, true, 10);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
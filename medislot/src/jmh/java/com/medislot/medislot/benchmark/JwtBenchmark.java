@@ -0,0 +1,57 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.service.impl.JwtServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT signing and parsing cost
+ * extractUsername runs on every authenticated request (twice: rate limiting and authentication),
+ * validateToken once more inside the authentication filter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    // Same default secret as application.properties
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970337336763979244226452948404D635166546A576E5A7234753778214125442A";
+
+    private JwtServiceImpl jwtService;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtServiceImpl();
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", 86_400_000L);
+        userDetails = User.withUsername("patient@medislot.test")
+                .password("{noop}unused")
+                .roles("PATIENT")
+                .build();
+        token = jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtService.extractUsername(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(token, userDetails);
+    }
+}
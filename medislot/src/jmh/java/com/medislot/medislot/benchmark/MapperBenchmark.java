@@ -0,0 +1,87 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.dto.appointment.AppointmentCreateRequest;
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.dto.doctor.DoctorResponse;
+import com.medislot.medislot.dto.slot.SlotCreateRequest;
+import com.medislot.medislot.dto.slot.SlotResponse;
+import com.medislot.medislot.entity.Appointment;
+import com.medislot.medislot.entity.Doctor;
+import com.medislot.medislot.entity.Slot;
+import com.medislot.medislot.mapper.AppointmentMapper;
+import com.medislot.medislot.mapper.DoctorMapper;
+import com.medislot.medislot.mapper.SlotMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Entity/DTO conversion cost of the mappers
+ * slotListToResponses mirrors the stream-and-collect pattern the services use for list endpoints
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int listSize;
+
+    private final SlotMapper slotMapper = new SlotMapper();
+    private final AppointmentMapper appointmentMapper = new AppointmentMapper();
+    private final DoctorMapper doctorMapper = new DoctorMapper();
+
+    private Slot slot;
+    private List<Slot> slots;
+    private Appointment appointment;
+    private Doctor doctor;
+    private SlotCreateRequest slotCreateRequest;
+    private AppointmentCreateRequest appointmentCreateRequest;
+
+    @Setup
+    public void setUp() {
+        slot = BenchmarkData.slot(1);
+        slots = BenchmarkData.slots(listSize);
+        appointment = BenchmarkData.appointment();
+        doctor = BenchmarkData.doctor();
+        slotCreateRequest = BenchmarkData.slotCreateRequest();
+        appointmentCreateRequest = BenchmarkData.appointmentCreateRequest();
+    }
+
+    @Benchmark
+    public SlotResponse slotToResponse() {
+        return slotMapper.toResponse(slot);
+    }
+
+    @Benchmark
+    public Slot slotToEntity() {
+        return slotMapper.toEntity(slotCreateRequest);
+    }
+
+    @Benchmark
+    public AppointmentResponse appointmentToResponse() {
+        return appointmentMapper.toResponse(appointment);
+    }
+
+    @Benchmark
+    public Appointment appointmentToEntity() {
+        return appointmentMapper.toEntity(appointmentCreateRequest);
+    }
+
+    @Benchmark
+    public DoctorResponse doctorToResponse() {
+        return doctorMapper.toResponse(doctor);
+    }
+
+    @Benchmark
+    public List<SlotResponse> slotListToResponses() {
+        return slots.stream()
+                .map(slotMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+}
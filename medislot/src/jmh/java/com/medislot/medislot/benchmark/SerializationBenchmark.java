@@ -0,0 +1,107 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.config.BinaryFormatConfig;
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.dto.slot.SlotResponse;
+import com.medislot.medislot.entity.Appointment;
+import com.medislot.medislot.mapper.AppointmentMapper;
+import com.medislot.medislot.mapper.SlotMapper;
+import com.medislot.medislot.util.FieldSelectionFilter;
+import com.medislot.medislot.util.ResponseHelper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson serialization of ApiResponse&lt;List&lt;SlotResponse&gt;&gt; and ApiResponse&lt;List&lt;AppointmentResponse&gt;&gt;
+ * in JSON, CBOR and Smile, with the mappers the message converters use.
+ * List sizes cover a single doctor's day up to a hospital-wide availability listing;
+ * the payload size of every format is printed once per trial
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int listSize;
+
+    private JsonMapper jsonMapper;
+    private ObjectMapper cborMapper;
+    private ObjectMapper smileMapper;
+    private ApiResponse<List<SlotResponse>> response;
+    private ApiResponse<List<AppointmentResponse>> appointments;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().filterProvider(FieldSelectionFilter.provider()).build();
+        cborMapper = BinaryFormatConfig.createCborMapper();
+        smileMapper = BinaryFormatConfig.createSmileMapper();
+
+        SlotMapper slotMapper = new SlotMapper();
+        List<SlotResponse> slots = BenchmarkData.slots(listSize).stream()
+                .map(slotMapper::toResponse)
+                .collect(Collectors.toList());
+        response = ResponseHelper.success(slots, "Slots retrieved successfully");
+
+        AppointmentMapper appointmentMapper = new AppointmentMapper();
+        List<AppointmentResponse> appointmentList = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Appointment appointment = BenchmarkData.appointment();
+            appointment.setId(new UUID(0xA990L, i));
+            appointment.setSlotId(new UUID(0x5107L, i));
+            appointmentList.add(appointmentMapper.toResponse(appointment));
+        }
+        appointments = ResponseHelper.success(appointmentList, "Appointments retrieved successfully");
+
+        System.out.printf("%nPayload bytes (listSize=%d) slots: json=%d cbor=%d smile=%d"
+                        + " | appointments: json=%d cbor=%d smile=%d%n",
+                listSize,
+                jsonMapper.writeValueAsBytes(response).length,
+                cborMapper.writeValueAsBytes(response).length,
+                smileMapper.writeValueAsBytes(response).length,
+                jsonMapper.writeValueAsBytes(appointments).length,
+                cborMapper.writeValueAsBytes(appointments).length,
+                smileMapper.writeValueAsBytes(appointments).length);
+    }
+
+    @Benchmark
+    public byte[] slotListToJson() {
+        return jsonMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] slotListToCbor() {
+        return cborMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] slotListToSmile() {
+        return smileMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] appointmentListToJson() {
+        return jsonMapper.writeValueAsBytes(appointments);
+    }
+
+    @Benchmark
+    public byte[] appointmentListToCbor() {
+        return cborMapper.writeValueAsBytes(appointments);
+    }
+
+    @Benchmark
+    public byte[] appointmentListToSmile() {
+        return smileMapper.writeValueAsBytes(appointments);
+    }
+}
@@ -0,0 +1,87 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.dto.slot.SlotResponse;
+import com.medislot.medislot.entity.Appointment;
+import com.medislot.medislot.mapper.AppointmentMapper;
+import com.medislot.medislot.mapper.SlotMapper;
+import com.medislot.medislot.serialization.ResponseSerializersModule;
+import com.medislot.medislot.util.FieldSelectionFilter;
+import com.medislot.medislot.util.ResponseHelper;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * JSON serialization of large slot and appointment lists: Jackson bean serialization
+ * against the streaming serializers of ResponseSerializersModule
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StreamingSerializerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int listSize;
+
+    private JsonMapper beanMapper;
+    private JsonMapper streamingMapper;
+    private ApiResponse<List<SlotResponse>> slots;
+    private ApiResponse<List<AppointmentResponse>> appointments;
+
+    @Setup
+    public void setUp() {
+        beanMapper = JsonMapper.builder()
+                .filterProvider(FieldSelectionFilter.provider())
+                .build();
+        streamingMapper = JsonMapper.builder()
+                .filterProvider(FieldSelectionFilter.provider())
+                .addModule(new ResponseSerializersModule())
+                .build();
+
+        SlotMapper slotMapper = new SlotMapper();
+        List<SlotResponse> slotList = BenchmarkData.slots(listSize).stream()
+                .map(slotMapper::toResponse)
+                .collect(Collectors.toList());
+        slots = ResponseHelper.success(slotList, "Slots retrieved successfully");
+
+        AppointmentMapper appointmentMapper = new AppointmentMapper();
+        List<AppointmentResponse> appointmentList = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            Appointment appointment = BenchmarkData.appointment();
+            appointment.setId(new UUID(0xA990L, i));
+            appointment.setSlotId(new UUID(0x5107L, i));
+            appointmentList.add(appointmentMapper.toResponse(appointment));
+        }
+        appointments = ResponseHelper.success(appointmentList, "Appointments retrieved successfully");
+    }
+
+    @Benchmark
+    public byte[] slotListBean() {
+        return beanMapper.writeValueAsBytes(slots);
+    }
+
+    @Benchmark
+    public byte[] slotListStreaming() {
+        return streamingMapper.writeValueAsBytes(slots);
+    }
+
+    @Benchmark
+    public byte[] appointmentListBean() {
+        return beanMapper.writeValueAsBytes(appointments);
+    }
+
+    @Benchmark
+    public byte[] appointmentListStreaming() {
+        return streamingMapper.writeValueAsBytes(appointments);
+    }
+}
@@ -0,0 +1,132 @@
+package com.medislot.medislot.benchmark;
+
+import com.medislot.medislot.dto.appointment.AppointmentCreateRequest;
+import com.medislot.medislot.dto.slot.SlotCreateRequest;
+import com.medislot.medislot.entity.Slot;
+import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.repository.BookingPreflight;
+import com.medislot.medislot.repository.EntityLookup;
+import com.medislot.medislot.validation.ValidAppointmentTimeValidator;
+import com.medislot.medislot.validation.ValidTimeRange;
+import com.medislot.medislot.validation.ValidTimeRangeValidator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the custom constraint validators
+ * The entity lookup is an in-memory stub, so ValidAppointmentTimeValidator is measured
+ * without its database round trip
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    private ValidTimeRangeValidator timeRangeValidator;
+    private ValidAppointmentTimeValidator appointmentTimeValidator;
+    private SlotCreateRequest slotCreateRequest;
+    private AppointmentCreateRequest appointmentCreateRequest;
+
+    @Setup
+    public void setUp() {
+        timeRangeValidator = new ValidTimeRangeValidator();
+        timeRangeValidator.initialize(SlotCreateRequest.class.getAnnotation(ValidTimeRange.class));
+        slotCreateRequest = BenchmarkData.slotCreateRequest();
+
+        Slot slot = BenchmarkData.slot(1);
+        slot.setStatus(SlotStatus.AVAILABLE);
+        appointmentTimeValidator = new ValidAppointmentTimeValidator();
+        ReflectionTestUtils.setField(appointmentTimeValidator, "entityLookup", stubLookup(preflight(slot)));
+        appointmentCreateRequest = BenchmarkData.appointmentCreateRequest();
+    }
+
+    private static EntityLookup stubLookup(BookingPreflight preflight) {
+        return new EntityLookup(null, null) {
+            @Override
+            public BookingPreflight bookingPreflight(UUID slotId, UUID doctorId, UUID hospitalId, UUID patientId) {
+                return preflight;
+            }
+        };
+    }
+
+    private static BookingPreflight preflight(Slot slot) {
+        return new BookingPreflight() {
+            @Override
+            public UUID getSlotId() {
+                return slot.getId();
+            }
+
+            @Override
+            public UUID getSlotDoctorId() {
+                return slot.getDoctorId();
+            }
+
+            @Override
+            public UUID getSlotHospitalId() {
+                return slot.getHospitalId();
+            }
+
+            @Override
+            public OffsetDateTime getSlotStartTime() {
+                return slot.getStartTime();
+            }
+
+            @Override
+            public OffsetDateTime getSlotEndTime() {
+                return slot.getEndTime();
+            }
+
+            @Override
+            public String getSlotStatus() {
+                return slot.getStatus().name();
+            }
+
+            @Override
+            public boolean getDoctorExists() {
+                return true;
+            }
+
+            @Override
+            public boolean getHospitalExists() {
+                return true;
+            }
+
+            @Override
+            public boolean getPatientExists() {
+                return true;
+            }
+
+            @Override
+            public boolean getAffiliated() {
+                return true;
+            }
+
+            @Override
+            public boolean getSlotHasAppointment() {
+                return false;
+            }
+
+            @Override
+            public boolean getDoctorTimeConflict() {
+                return false;
+            }
+        };
+    }
+
+    @Benchmark
+    public boolean validTimeRange() {
+        return timeRangeValidator.isValid(slotCreateRequest, null);
+    }
+
+    @Benchmark
+    public boolean validAppointmentTime() {
+        return appointmentTimeValidator.isValid(appointmentCreateRequest, null);
+    }
+}
@@ -0,0 +1,317 @@
+package com.medislot.medislot.affiliation;
+
+import com.medislot.medislot.event.AffiliationChangedEvent;
+import com.medislot.medislot.event.DoctorChangedEvent;
+import com.medislot.medislot.event.HospitalChangedEvent;
+import com.medislot.medislot.repository.DoctorHospitalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Affiliation Index
+ * In-memory doctor <-> hospital adjacency, answering "active doctors of specialty S at
+ * hospital H" and affiliation checks without a join.
+ *
+ * Doctor and hospital ids are numbered densely; each side keeps sorted int arrays of the other
+ * side's numbers, and doctor specialty / active flags sit in arrays indexed by the same number.
+ * Readers use an immutable snapshot without locking. Writers apply committed changes to the
+ * source maps and publish a new snapshot (copy-on-write); a periodic reload picks up changes
+ * made on other nodes. Changes committed while the reload reads the table are recorded and
+ * replayed on top of what it read, so they are not lost when the reload replaces the maps
+ */
+@Component
+public class AffiliationIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(AffiliationIndex.class);
+
+    private final DoctorHospitalRepository doctorHospitalRepository;
+
+    // Source of the snapshot, guarded by this
+    private final Map<UUID, DoctorAttributes> doctors = new HashMap<>();
+    private final Map<UUID, Set<UUID>> hospitalsByDoctor = new HashMap<>();
+    // Changes applied since the running reload started, null when none is running; guarded by this
+    private List<Object> replay;
+    private final Object reloadLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    public AffiliationIndex(DoctorHospitalRepository doctorHospitalRepository) {
+        this.doctorHospitalRepository = doctorHospitalRepository;
+    }
+
+    /**
+     * Whether the index has been loaded; callers fall back to the database before that
+     */
+    public boolean isLoaded() {
+        return snapshot != null;
+    }
+
+    public boolean isAffiliated(UUID doctorId, UUID hospitalId) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return false;
+        }
+        Integer doctor = current.doctorNumbers.get(doctorId);
+        Integer hospital = current.hospitalNumbers.get(hospitalId);
+        return doctor != null && hospital != null
+                && Arrays.binarySearch(current.hospitalsOfDoctor[doctor], hospital) >= 0;
+    }
+
+    /**
+     * Doctors affiliated with a hospital, optionally only active ones of a specialty
+     * (case-insensitive, null for any)
+     */
+    public List<UUID> doctorsAt(UUID hospitalId, String specialty, boolean activeOnly) {
+        Snapshot current = snapshot;
+        Integer hospital = current == null ? null : current.hospitalNumbers.get(hospitalId);
+        if (hospital == null) {
+            return Collections.emptyList();
+        }
+        int[] doctorNumbers = current.doctorsOfHospital[hospital];
+        List<UUID> result = new ArrayList<>(doctorNumbers.length);
+        for (int doctor : doctorNumbers) {
+            if (activeOnly && !current.active[doctor]) {
+                continue;
+            }
+            if (specialty != null && !specialty.equalsIgnoreCase(current.specialties[doctor])) {
+                continue;
+            }
+            result.add(current.doctorIds[doctor]);
+        }
+        return result;
+    }
+
+    public List<UUID> hospitalsOf(UUID doctorId) {
+        Snapshot current = snapshot;
+        Integer doctor = current == null ? null : current.doctorNumbers.get(doctorId);
+        if (doctor == null) {
+            return Collections.emptyList();
+        }
+        int[] hospitalNumbers = current.hospitalsOfDoctor[doctor];
+        List<UUID> result = new ArrayList<>(hospitalNumbers.length);
+        for (int hospital : hospitalNumbers) {
+            result.add(current.hospitalIds[hospital]);
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    /**
+     * Rebuild from the database, picking up affiliations changed on other nodes
+     */
+    @Scheduled(fixedDelayString = "${affiliation-index.refresh-interval-ms:60000}",
+               initialDelayString = "${affiliation-index.refresh-interval-ms:60000}")
+    public void reload() {
+        synchronized (reloadLock) {
+            try {
+                synchronized (this) {
+                    replay = new ArrayList<>();
+                }
+                List<DoctorHospitalRepository.AffiliationRow> rows = doctorHospitalRepository.findAllRows();
+                synchronized (this) {
+                    doctors.clear();
+                    hospitalsByDoctor.clear();
+                    for (DoctorHospitalRepository.AffiliationRow row : rows) {
+                        doctors.put(row.getDoctorId(), new DoctorAttributes(row.getSpecialty(), Boolean.TRUE.equals(row.getActive())));
+                        hospitalsByDoctor.computeIfAbsent(row.getDoctorId(), id -> new LinkedHashSet<>()).add(row.getHospitalId());
+                    }
+                    // Re-applying a change the rows already contain leaves the maps unchanged
+                    for (Object event : replay) {
+                        apply(event);
+                    }
+                    publish();
+                }
+                logger.debug("Affiliation index loaded: {} affiliations", rows.size());
+            } catch (Exception e) {
+                logger.warn("Affiliation index reload failed: {}", e.getMessage());
+            } finally {
+                synchronized (this) {
+                    replay = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onAffiliationChanged(AffiliationChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onDoctorChanged(DoctorChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public synchronized void onHospitalChanged(HospitalChangedEvent event) {
+        record(event);
+    }
+
+    /**
+     * Apply a committed change and keep it for the running reload; caller holds the lock
+     */
+    private void record(Object event) {
+        if (replay != null) {
+            replay.add(event);
+        }
+        if (apply(event)) {
+            publish();
+        }
+    }
+
+    /**
+     * Apply a change to the source maps; caller holds the lock
+     * @return whether the maps changed
+     */
+    private boolean apply(Object event) {
+        if (event instanceof AffiliationChangedEvent affiliation) {
+            return applyAffiliation(affiliation);
+        }
+        if (event instanceof DoctorChangedEvent doctor) {
+            return applyDoctor(doctor);
+        }
+        if (event instanceof HospitalChangedEvent hospital) {
+            return applyHospital(hospital);
+        }
+        return false;
+    }
+
+    private boolean applyAffiliation(AffiliationChangedEvent event) {
+        if (event.affiliated()) {
+            doctors.put(event.doctorId(), new DoctorAttributes(event.specialty(), Boolean.TRUE.equals(event.active())));
+            hospitalsByDoctor.computeIfAbsent(event.doctorId(), id -> new LinkedHashSet<>()).add(event.hospitalId());
+            return true;
+        }
+        Set<UUID> hospitals = hospitalsByDoctor.get(event.doctorId());
+        if (hospitals == null || !hospitals.remove(event.hospitalId())) {
+            return false;
+        }
+        if (hospitals.isEmpty()) {
+            hospitalsByDoctor.remove(event.doctorId());
+            doctors.remove(event.doctorId());
+        }
+        return true;
+    }
+
+    private boolean applyDoctor(DoctorChangedEvent event) {
+        if (!doctors.containsKey(event.doctorId())) {
+            return false;
+        }
+        if (DoctorChangedEvent.DELETED.equals(event.change())) {
+            doctors.remove(event.doctorId());
+            hospitalsByDoctor.remove(event.doctorId());
+        } else {
+            doctors.put(event.doctorId(), new DoctorAttributes(event.specialty(), Boolean.TRUE.equals(event.active())));
+        }
+        return true;
+    }
+
+    private boolean applyHospital(HospitalChangedEvent event) {
+        if (!HospitalChangedEvent.DELETED.equals(event.change())) {
+            return false;
+        }
+        boolean changed = false;
+        for (Set<UUID> hospitals : hospitalsByDoctor.values()) {
+            changed |= hospitals.remove(event.hospitalId());
+        }
+        if (changed) {
+            hospitalsByDoctor.values().removeIf(Set::isEmpty);
+            doctors.keySet().retainAll(hospitalsByDoctor.keySet());
+        }
+        return changed;
+    }
+
+    /**
+     * Number doctors and hospitals and build both adjacency directions; caller holds the lock
+     */
+    private void publish() {
+        int doctorCount = hospitalsByDoctor.size();
+        Map<UUID, Integer> doctorNumbers = new HashMap<>(doctorCount * 2);
+        UUID[] doctorIds = new UUID[doctorCount];
+        String[] specialties = new String[doctorCount];
+        boolean[] active = new boolean[doctorCount];
+        int[][] hospitalsOfDoctor = new int[doctorCount][];
+
+        Map<UUID, Integer> hospitalNumbers = new HashMap<>();
+        List<UUID> hospitalIds = new ArrayList<>();
+        List<int[]> doctorsOfHospital = new ArrayList<>();
+        int[] hospitalDegree = new int[0];
+
+        int doctor = 0;
+        for (Map.Entry<UUID, Set<UUID>> entry : hospitalsByDoctor.entrySet()) {
+            DoctorAttributes attributes = doctors.get(entry.getKey());
+            doctorNumbers.put(entry.getKey(), doctor);
+            doctorIds[doctor] = entry.getKey();
+            specialties[doctor] = attributes == null ? null : attributes.specialty();
+            active[doctor] = attributes != null && attributes.active();
+
+            int[] hospitals = new int[entry.getValue().size()];
+            int i = 0;
+            for (UUID hospitalId : entry.getValue()) {
+                Integer hospital = hospitalNumbers.get(hospitalId);
+                if (hospital == null) {
+                    hospital = hospitalIds.size();
+                    hospitalNumbers.put(hospitalId, hospital);
+                    hospitalIds.add(hospitalId);
+                }
+                if (hospital >= hospitalDegree.length) {
+                    hospitalDegree = Arrays.copyOf(hospitalDegree, Math.max(16, hospitalDegree.length * 2));
+                }
+                hospitalDegree[hospital]++;
+                hospitals[i++] = hospital;
+            }
+            Arrays.sort(hospitals);
+            hospitalsOfDoctor[doctor] = hospitals;
+            doctor++;
+        }
+
+        // Reverse direction; doctors are visited in number order, so every row comes out sorted
+        for (int hospital = 0; hospital < hospitalIds.size(); hospital++) {
+            doctorsOfHospital.add(new int[hospitalDegree[hospital]]);
+        }
+        int[] fill = new int[hospitalIds.size()];
+        for (doctor = 0; doctor < doctorCount; doctor++) {
+            for (int hospital : hospitalsOfDoctor[doctor]) {
+                doctorsOfHospital.get(hospital)[fill[hospital]++] = doctor;
+            }
+        }
+
+        snapshot = new Snapshot(doctorNumbers, doctorIds, specialties, active, hospitalsOfDoctor,
+                hospitalNumbers, hospitalIds.toArray(new UUID[0]), doctorsOfHospital.toArray(new int[0][]));
+    }
+
+    private record DoctorAttributes(String specialty, boolean active) {
+    }
+
+    private record Snapshot(
+            Map<UUID, Integer> doctorNumbers,
+            UUID[] doctorIds,
+            String[] specialties,
+            boolean[] active,
+            int[][] hospitalsOfDoctor,
+            Map<UUID, Integer> hospitalNumbers,
+            UUID[] hospitalIds,
+            int[][] doctorsOfHospital
+    ) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.medislot.medislot.calendar;
+
+import com.medislot.medislot.versioning.EntityVersionRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Availability Calendar Cache
+ * Per-day available slot counts per (doctor or hospital, month, time zone).
+ * Entries are stamped with the slots version of their doctor or hospital (EntityVersionRegistry),
+ * which moves after every commit touching its slots, on this node immediately and on other nodes
+ * within one change log poll; a stale entry is recomputed, never served.
+ * At most max-entries are kept, the least recently read being dropped first
+ */
+@Component
+public class AvailabilityCalendarCache {
+
+    private final EntityVersionRegistry entityVersionRegistry;
+    private final Map<Key, Entry> entries;
+
+    public AvailabilityCalendarCache(EntityVersionRegistry entityVersionRegistry,
+                                     @Value("${availability-calendar.max-entries:20000}") int maxEntries) {
+        this.entityVersionRegistry = entityVersionRegistry;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    public int[] doctorMonth(UUID doctorId, YearMonth month, ZoneId zone, Supplier<int[]> loader) {
+        return get(new Key(false, doctorId, month, zone), entityVersionRegistry.doctorSlotsVersion(doctorId), loader);
+    }
+
+    public int[] hospitalMonth(UUID hospitalId, YearMonth month, ZoneId zone, Supplier<int[]> loader) {
+        return get(new Key(true, hospitalId, month, zone), entityVersionRegistry.hospitalSlotsVersion(hospitalId), loader);
+    }
+
+    /**
+     * The version is read before loading: a commit in between leaves the entry behind the
+     * registry, so it is reloaded on the next call
+     */
+    private int[] get(Key key, String version, Supplier<int[]> loader) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version().equals(version)) {
+            return entry.availableByDay();
+        }
+        int[] availableByDay = loader.get();
+        entries.put(key, new Entry(version, availableByDay));
+        return availableByDay;
+    }
+
+    private record Key(boolean hospital, UUID id, YearMonth month, ZoneId zone) {
+    }
+
+    private record Entry(String version, int[] availableByDay) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.medislot.medislot.changefeed;
+
+import com.medislot.medislot.repository.ChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Change Log Retention
+ * Deletes change log entries past the retention period so the table does not grow forever.
+ * Pruning goes by position, not by timestamp: changed_at comes from the writing node's clock, so
+ * the cut is made below the highest-positioned expired entry, which stays as the PRUNED marker.
+ * Clients resuming from before the marker, or starting without a token, are sent 410 Gone by the
+ * change feed and must resync the full lists; the latest entry is always kept
+ */
+@Component
+public class ChangeLogRetention {
+
+    private static final Logger logger = LoggerFactory.getLogger(ChangeLogRetention.class);
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long retentionHours;
+
+    public ChangeLogRetention(ChangeLogRepository changeLogRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${change-feed.retention-hours:168}") long retentionHours) {
+        this.changeLogRepository = changeLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Remove entries past the retention period
+     */
+    @Scheduled(fixedDelayString = "${change-feed.cleanup-interval-ms:3600000}")
+    public void cleanup() {
+        try {
+            OffsetDateTime before = OffsetDateTime.now().minusHours(retentionHours);
+            Integer deleted = transactionTemplate.execute(status -> changeLogRepository.findPruneBoundary(before)
+                    .map(boundary -> {
+                        changeLogRepository.markPruned(boundary.getSeq());
+                        return changeLogRepository.deleteBefore(boundary.getTxId(), boundary.getSeq());
+                    })
+                    .orElse(0));
+            if (deleted != null && deleted > 0) {
+                logger.info("Removed {} change log entries older than {}h", deleted, retentionHours);
+            }
+        } catch (Exception e) {
+            logger.warn("Change log cleanup failed: {}", e.getMessage());
+        }
+    }
+}
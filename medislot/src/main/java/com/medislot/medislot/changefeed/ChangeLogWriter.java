@@ -0,0 +1,68 @@
+package com.medislot.medislot.changefeed;
+
+import com.medislot.medislot.event.AppointmentChangedEvent;
+import com.medislot.medislot.event.DoctorChangedEvent;
+import com.medislot.medislot.event.DomainEvent;
+import com.medislot.medislot.event.HospitalChangedEvent;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.repository.ChangeLogRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Change Log Writer
+ * Appends every domain event to the change log in the transaction that made the change
+ */
+@Component
+public class ChangeLogWriter {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+    // Operation of the oldest retained entry once ChangeLogRetention has pruned what came before it
+    public static final String PRUNED = "PRUNED";
+
+    private final ChangeLogRepository changeLogRepository;
+
+    public ChangeLogWriter(ChangeLogRepository changeLogRepository) {
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDomainEvent(DomainEvent event) {
+        UUID doctorId = null;
+        UUID hospitalId = null;
+        if (event instanceof SlotChangedEvent slot) {
+            doctorId = slot.doctorId();
+            hospitalId = slot.hospitalId();
+        } else if (event instanceof AppointmentChangedEvent appointment) {
+            doctorId = appointment.doctorId();
+            hospitalId = appointment.hospitalId();
+        } else if (event instanceof DoctorChangedEvent doctor) {
+            doctorId = doctor.doctorId();
+        } else if (event instanceof HospitalChangedEvent hospital) {
+            hospitalId = hospital.hospitalId();
+        }
+        changeLogRepository.append(event.aggregateType(), event.aggregateId(),
+                operationOf(event), doctorId, hospitalId, event.occurredAt());
+    }
+
+    /**
+     * Collapse domain changes into create/update/delete
+     * Booking is what creates an appointment; slot bookings and releases are updates
+     */
+    static String operationOf(DomainEvent event) {
+        String change = event.change();
+        if ("deleted".equals(change)) {
+            return DELETED;
+        }
+        if ("created".equals(change)
+                || (event instanceof AppointmentChangedEvent && AppointmentChangedEvent.BOOKED.equals(change))) {
+            return CREATED;
+        }
+        return UPDATED;
+    }
+}
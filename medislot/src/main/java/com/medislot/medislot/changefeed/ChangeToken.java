@@ -0,0 +1,37 @@
+package com.medislot.medislot.changefeed;
+
+import com.medislot.medislot.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque sync token of the change feed: the (transaction ID, sequence) position of the last
+ * change a client has seen, encoded as URL-safe base64
+ */
+public record ChangeToken(long txId, long seq) {
+
+    public static final ChangeToken START = new ChangeToken(0, 0);
+
+    public String encode() {
+        String raw = txId + ":" + seq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decode a token; null or blank means "from the beginning"
+     */
+    public static ChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            return new ChangeToken(Long.parseLong(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid change token: " + token);
+        }
+    }
+}
@@ -22,6 +22,9 @@ public class ApplicationStartupListener {
     @Value("${springdoc.swagger-ui.path:/api-documentation}")
     private String swaggerPath;
 
+    @Value("${springdoc.api-docs.path:/api-docs}")
+    private String apiDocsPath;
+
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
         String baseUrl = "http://localhost:" + serverPort;
@@ -44,7 +47,7 @@ public class ApplicationStartupListener {
                 "     " + baseUrl + swaggerPath + "\n" +
                 "\n" +
                 "  📋 OpenAPI JSON Spec:\n" +
-                "     " + baseUrl + "/api-docs\n" +
+                "     " + baseUrl + apiDocsPath + "\n" +
                 "\n" +
                 "  🔗 API Endpoints:\n" +
                 "     Doctors:       " + baseUrl + "/api/doctors\n" +
@@ -0,0 +1,26 @@
+package com.medislot.medislot.config;
+
+import com.medislot.medislot.util.CorrelationIdHolder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Async Execution Configuration
+ * Enables @Async on the auto-configured application task executor, which runs on
+ * virtual threads when spring.threads.virtual.enabled=true
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    /**
+     * Carry the request correlation ID over to async tasks
+     * Picked up automatically by the auto-configured task executor
+     */
+    @Bean
+    public TaskDecorator correlationIdTaskDecorator() {
+        return CorrelationIdHolder::wrap;
+    }
+}
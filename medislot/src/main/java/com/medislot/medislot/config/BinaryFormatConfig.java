@@ -0,0 +1,60 @@
+package com.medislot.medislot.config;
+
+import com.medislot.medislot.util.FieldSelectionFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.smile.SmileWriteFeature;
+
+/**
+ * Binary Format Configuration
+ * Adds CBOR (application/cbor) and Smile (application/x-jackson-smile) next to JSON; clients pick
+ * one with the Accept / Content-Type headers and JSON stays the default.
+ * Both write UUIDs as 16-byte binary values and timestamps as epoch milliseconds (UTC) instead of
+ * ISO-8601 strings; property names and order are the same as in JSON (@JsonPropertyOrder on the DTOs)
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public JacksonCborHttpMessageConverter cborHttpMessageConverter() {
+        return new JacksonCborHttpMessageConverter(createCborMapper());
+    }
+
+    @Bean
+    public JacksonSmileHttpMessageConverter smileHttpMessageConverter() {
+        return new JacksonSmileHttpMessageConverter(createSmileMapper());
+    }
+
+    /**
+     * CBOR mapper used for responses
+     * Deliberately not a bean: a second ObjectMapper bean would make injection of the JSON mapper ambiguous
+     */
+    public static CBORMapper createCborMapper() {
+        return CBORMapper.builder()
+                .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .filterProvider(FieldSelectionFilter.provider())
+                .build();
+    }
+
+    /**
+     * Smile mapper used for responses (not a bean, see createCborMapper)
+     */
+    public static SmileMapper createSmileMapper() {
+        return SmileMapper.builder()
+                .enable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DateTimeFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                // Status values repeat on every row; Smile back-references them after the first one
+                .enable(SmileWriteFeature.CHECK_SHARED_STRING_VALUES)
+                .filterProvider(FieldSelectionFilter.provider())
+                .build();
+    }
+}
@@ -30,7 +30,7 @@ public class CorsConfig {
     @Value("${cors.allowed-headers:*}")
     private String[] allowedHeaders;
     
-    @Value("${cors.exposed-headers:X-Request-Id,X-Total-Count,X-Page-Number,X-Page-Size}")
+    @Value("${cors.exposed-headers:X-Request-Id,X-Total-Count,X-Page-Number,X-Page-Size,Retry-After}")
     private String[] exposedHeaders;
     
     @Value("${cors.allow-credentials:true}")
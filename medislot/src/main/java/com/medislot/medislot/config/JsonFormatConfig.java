@@ -0,0 +1,28 @@
+package com.medislot.medislot.config;
+
+import com.medislot.medislot.serialization.ResponseSerializersModule;
+import com.medislot.medislot.util.FieldSelectionFilter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * JSON Format Configuration
+ * Response settings of the JSON mapper, the counterpart of BinaryFormatConfig for CBOR and Smile:
+ * ?fields= selections are applied through FieldSelectionFilter and slot and appointment responses
+ * are streamed with the hand-written serializers of ResponseSerializersModule
+ */
+public final class JsonFormatConfig {
+
+    private JsonFormatConfig() {
+    }
+
+    /**
+     * JSON mapper used for responses, derived from the auto-configured one
+     * Not a bean, for the same reason as BinaryFormatConfig.createCborMapper
+     */
+    public static JsonMapper createJsonMapper(JsonMapper jsonMapper) {
+        return jsonMapper.rebuild()
+                .filterProvider(FieldSelectionFilter.provider())
+                .addModule(new ResponseSerializersModule())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.medislot.medislot.config;
+
+import com.medislot.medislot.monitoring.TimedJsonHttpMessageConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Metrics Configuration
+ * HTTP, repository, JVM and Hikari pool meters come from Spring Boot auto-configuration;
+ * this adds the application-specific instrumentation. Scraped at /actuator/prometheus
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Jackson converter that records response serialization time
+     * Takes the place of the auto-configured JSON converter, writing with the response mapper of JsonFormatConfig
+     */
+    @Bean
+    public TimedJsonHttpMessageConverter timedJsonHttpMessageConverter(JsonMapper jsonMapper,
+                                                                       MeterRegistry meterRegistry) {
+        return new TimedJsonHttpMessageConverter(JsonFormatConfig.createJsonMapper(jsonMapper), meterRegistry);
+    }
+}
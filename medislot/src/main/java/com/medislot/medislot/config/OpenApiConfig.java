@@ -16,14 +16,16 @@ import java.util.List;
 /**
  * OpenAPI/Swagger Configuration
  * Configures API documentation accessible at /api-documentation
+ * In production the document is generated at build time and served from /openapi/openapi.json
  */
 @Configuration
 public class OpenApiConfig {
 
     private static final Logger logger = LoggerFactory.getLogger(OpenApiConfig.class);
 
-    @Value("${server.port:8080}")
-    private String serverPort;
+    // Relative ("/") for the document generated at build time, which is served from every node
+    @Value("${openapi.server-url:http://localhost:${server.port:8080}}")
+    private String serverUrl;
 
     @Bean
     public OpenAPI medislotOpenAPI() {
@@ -31,7 +33,7 @@ public class OpenApiConfig {
             logger.info("Initializing OpenAPI configuration...");
             
             Server localServer = new Server();
-            localServer.setUrl("http://localhost:" + serverPort);
+            localServer.setUrl(serverUrl);
             localServer.setDescription("Local Development Server");
 
             Contact contact = new Contact();
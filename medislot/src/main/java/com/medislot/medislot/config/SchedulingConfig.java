@@ -0,0 +1,14 @@
+package com.medislot.medislot.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * Enables @Scheduled background jobs (outbox relay) on the auto-configured task scheduler,
+ * which runs on virtual threads when spring.threads.virtual.enabled=true
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,9 @@
 package com.medislot.medislot.config;
 
 import com.medislot.medislot.filter.JwtAuthenticationFilter;
+import com.medislot.medislot.monitoring.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
@@ -56,15 +59,24 @@ public class SecurityConfig {
             
             // Configure authorization
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches continue a request that was already authorized (SSE streams)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                
                 // Public endpoints - no authentication required
                 .requestMatchers(
                     "/api/auth/**",           // Auth endpoints (login, register)
                     "/api-docs/**",           // OpenAPI JSON spec
                     "/api-documentation/**",  // Swagger UI
                     "/swagger-ui/**",         // Swagger UI resources
-                    "/v3/api-docs/**"         // OpenAPI docs
+                    "/v3/api-docs/**",        // OpenAPI docs
+                    "/openapi/**",            // Build-time OpenAPI document and its Swagger UI page
+                    "/webjars/**",            // Swagger UI assets for the static page
+                    "/actuator/health/**"     // Health checks
                 ).permitAll()
                 
+                // Metrics expose latencies, booking outcomes and pool stats - scrape with an ADMIN token
+                .requestMatchers("/actuator/prometheus").hasRole("ADMIN")
+                
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
@@ -86,8 +98,11 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt encoder, timed so hashing cost shows up in the metrics
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(), meterRegistry);
     }
 }
@@ -0,0 +1,87 @@
+package com.medislot.medislot.config;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Virtual Thread Pinning Monitor
+ * Streams the JFR jdk.VirtualThreadPinned event in-process and logs every pinned section that
+ * blocks its carrier longer than the configured threshold, with the offending stack frames.
+ * Only active in virtual-thread mode (spring.threads.virtual.enabled=true)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_LOGGED_FRAMES = 8;
+
+    @Value("${virtual-threads.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recordingStream;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT)
+                    .withThreshold(Duration.ofMillis(thresholdMs))
+                    .withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::logPinnedEvent);
+            recordingStream.startAsync();
+            logger.info("Virtual thread pinning monitor started (threshold: {}ms)", thresholdMs);
+        } catch (Exception e) {
+            // JFR may be unavailable (e.g. disabled in the runtime image) - run without the monitor
+            logger.warn("Virtual thread pinning monitor could not be started: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Log a pinned event with the top of its stack trace
+     */
+    private void logPinnedEvent(RecordedEvent event) {
+        StringBuilder frames = new StringBuilder();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            List<RecordedFrame> recordedFrames = stackTrace.getFrames();
+            int limit = Math.min(MAX_LOGGED_FRAMES, recordedFrames.size());
+            for (int i = 0; i < limit; i++) {
+                RecordedFrame frame = recordedFrames.get(i);
+                frames.append("\n    at ")
+                        .append(frame.getMethod().getType().getName())
+                        .append('.')
+                        .append(frame.getMethod().getName())
+                        .append(':')
+                        .append(frame.getLineNumber());
+            }
+        }
+
+        logger.warn("Virtual thread pinned for {}ms on thread '{}'{}",
+                event.getDuration().toMillis(),
+                event.getThread() != null ? event.getThread().getJavaName() : "unknown",
+                frames);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            logger.info("Virtual thread pinning monitor stopped");
+        }
+    }
+}
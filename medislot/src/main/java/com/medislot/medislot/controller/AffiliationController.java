@@ -0,0 +1,94 @@
+package com.medislot.medislot.controller;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.affiliation.AffiliationResponse;
+import com.medislot.medislot.dto.doctor.DoctorResponse;
+import com.medislot.medislot.dto.hospital.HospitalResponse;
+import com.medislot.medislot.service.AffiliationService;
+import com.medislot.medislot.util.ResponseHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for doctor-hospital affiliations
+ * Manages which doctors practise at which hospitals
+ */
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Affiliations", description = "Doctor-hospital affiliation APIs - Which doctors practise at which hospitals")
+public class AffiliationController {
+
+    private final AffiliationService affiliationService;
+
+    public AffiliationController(AffiliationService affiliationService) {
+        this.affiliationService = affiliationService;
+    }
+
+    /**
+     * Get doctors practising at a hospital
+     * GET /api/hospitals/{hospitalId}/doctors?specialty=Cardiology&active=true
+     */
+    @GetMapping("/hospitals/{hospitalId}/doctors")
+    @Operation(summary = "Get doctors of a hospital", description = "Retrieves doctors affiliated with a hospital, optionally only active ones of a specialty (case-insensitive)")
+    public ResponseEntity<ApiResponse<List<DoctorResponse>>> getDoctorsAtHospital(
+            @Parameter(description = "Hospital UUID") @PathVariable UUID hospitalId,
+            @Parameter(description = "Filter by specialty (case-insensitive)") @RequestParam(required = false) String specialty,
+            @Parameter(description = "Only active doctors") @RequestParam(defaultValue = "true") boolean active) {
+        List<DoctorResponse> doctors = affiliationService.findDoctorsAtHospital(
+                hospitalId, specialty == null || specialty.isBlank() ? null : specialty, active);
+        return ResponseEntity.ok(
+                ResponseHelper.success(doctors, "Hospital doctors retrieved successfully"));
+    }
+
+    /**
+     * Get hospitals a doctor practises at
+     * GET /api/doctors/{doctorId}/hospitals
+     */
+    @GetMapping("/doctors/{doctorId}/hospitals")
+    @Operation(summary = "Get hospitals of a doctor", description = "Retrieves hospitals a doctor is affiliated with")
+    public ResponseEntity<ApiResponse<List<HospitalResponse>>> getHospitalsOfDoctor(
+            @Parameter(description = "Doctor UUID") @PathVariable UUID doctorId) {
+        List<HospitalResponse> hospitals = affiliationService.findHospitalsOfDoctor(doctorId);
+        return ResponseEntity.ok(
+                ResponseHelper.success(hospitals, "Doctor hospitals retrieved successfully"));
+    }
+
+    /**
+     * Affiliate a doctor with a hospital (idempotent)
+     * PUT /api/hospitals/{hospitalId}/doctors/{doctorId}
+     * Access: ADMIN only
+     */
+    @PutMapping("/hospitals/{hospitalId}/doctors/{doctorId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Affiliate a doctor with a hospital", description = "Adds the doctor to the hospital; repeating the call is a no-op (ADMIN only)")
+    public ResponseEntity<ApiResponse<AffiliationResponse>> affiliate(
+            @PathVariable UUID hospitalId,
+            @PathVariable UUID doctorId) {
+        AffiliationResponse affiliation = affiliationService.affiliate(doctorId, hospitalId);
+        return ResponseEntity.ok(
+                ResponseHelper.success(affiliation, "Doctor affiliated with hospital successfully"));
+    }
+
+    /**
+     * Remove a doctor from a hospital
+     * DELETE /api/hospitals/{hospitalId}/doctors/{doctorId}
+     * Access: ADMIN only
+     */
+    @DeleteMapping("/hospitals/{hospitalId}/doctors/{doctorId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Remove a doctor from a hospital", description = "Removes the affiliation (ADMIN only)")
+    public ResponseEntity<ApiResponse<Void>> removeAffiliation(
+            @PathVariable UUID hospitalId,
+            @PathVariable UUID doctorId) {
+        affiliationService.remove(doctorId, hospitalId);
+        return ResponseEntity.ok(
+                ResponseHelper.success(null, "Affiliation removed successfully"));
+    }
+}
@@ -6,6 +6,7 @@ import com.medislot.medislot.dto.appointment.AppointmentResponse;
 import com.medislot.medislot.entity.AppointmentStatus;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.service.AppointmentService;
+import com.medislot.medislot.util.FieldSelection;
 import com.medislot.medislot.util.ResponseHelper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -65,7 +66,9 @@ public class AppointmentController {
             @RequestParam(required = false) UUID patientId,
             @RequestParam(required = false) UUID hospitalId,
             @RequestParam(required = false) AppointmentStatus status,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.forRequest(fields, AppointmentResponse.class);
         
         List<AppointmentResponse> appointments;
         
@@ -74,26 +77,19 @@ public class AppointmentController {
             OffsetDateTime dateTime = date.atStartOfDay().atOffset(ZoneOffset.UTC);
             appointments = appointmentService.findByDoctorIdAndDate(doctorId, dateTime);
         } 
-        // Use the multi-criteria query when multiple filters are provided
-        else if ((doctorId != null || patientId != null || hospitalId != null) && status != null) {
+        // Use the multi-criteria query whenever a status is given (it also covers status-only filtering)
+        else if (status != null) {
             appointments = appointmentService.findByCriteria(doctorId, patientId, hospitalId, status);
         }
         // Priority filtering by specific criteria
         else if (patientId != null) {
-            appointments = appointmentService.findByPatientId(patientId);
+            appointments = appointmentService.findByPatientId(patientId, selection);
         } else if (doctorId != null) {
-            appointments = appointmentService.findByDoctorId(doctorId);
+            appointments = appointmentService.findByDoctorId(doctorId, selection);
         } else if (hospitalId != null) {
-            appointments = appointmentService.findByHospitalId(hospitalId);
+            appointments = appointmentService.findByHospitalId(hospitalId, selection);
         } else {
-            appointments = appointmentService.findAll();
-        }
-        
-        // Apply status filter if not already applied and provided
-        if (status != null && (doctorId == null && patientId == null && hospitalId == null)) {
-            appointments = appointments.stream()
-                    .filter(a -> a.getStatus() == status)
-                    .toList();
+            appointments = appointmentService.findAll(selection);
         }
         
         return ResponseEntity.ok(
@@ -107,8 +103,10 @@ public class AppointmentController {
      */
     @GetMapping("/patient/{patientId}")
     public ResponseEntity<ApiResponse<List<AppointmentResponse>>> getAppointmentsByPatient(
-            @PathVariable UUID patientId) {
-        List<AppointmentResponse> appointments = appointmentService.findByPatientId(patientId);
+            @PathVariable UUID patientId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.forRequest(fields, AppointmentResponse.class);
+        List<AppointmentResponse> appointments = appointmentService.findByPatientId(patientId, selection);
         return ResponseEntity.ok(
                 ResponseHelper.success(appointments, "Patient appointments retrieved successfully"));
     }
@@ -120,7 +118,9 @@ public class AppointmentController {
     @GetMapping("/doctor/{doctorId}")
     public ResponseEntity<ApiResponse<List<AppointmentResponse>>> getAppointmentsByDoctor(
             @PathVariable UUID doctorId,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.forRequest(fields, AppointmentResponse.class);
         
         List<AppointmentResponse> appointments;
         
@@ -128,7 +128,7 @@ public class AppointmentController {
             OffsetDateTime dateTime = date.atStartOfDay().atOffset(ZoneOffset.UTC);
             appointments = appointmentService.findByDoctorIdAndDate(doctorId, dateTime);
         } else {
-            appointments = appointmentService.findByDoctorId(doctorId);
+            appointments = appointmentService.findByDoctorId(doctorId, selection);
         }
         
         return ResponseEntity.ok(
@@ -141,8 +141,10 @@ public class AppointmentController {
      */
     @GetMapping("/hospital/{hospitalId}")
     public ResponseEntity<ApiResponse<List<AppointmentResponse>>> getAppointmentsByHospital(
-            @PathVariable UUID hospitalId) {
-        List<AppointmentResponse> appointments = appointmentService.findByHospitalId(hospitalId);
+            @PathVariable UUID hospitalId,
+            @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.forRequest(fields, AppointmentResponse.class);
+        List<AppointmentResponse> appointments = appointmentService.findByHospitalId(hospitalId, selection);
         return ResponseEntity.ok(
                 ResponseHelper.success(appointments, "Hospital appointments retrieved successfully"));
     }
@@ -153,7 +155,10 @@ public class AppointmentController {
      * NOTE: This generic /{id} endpoint must be defined AFTER more specific paths
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<AppointmentResponse>> getAppointmentById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<AppointmentResponse>> getAppointmentById(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields) {
+        FieldSelection.forRequest(fields, AppointmentResponse.class);
         AppointmentResponse appointment = appointmentService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Appointment", id));
         return ResponseEntity.ok(
@@ -1,21 +1,34 @@
 package com.medislot.medislot.controller;
 
 import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.slot.AvailabilityCalendarResponse;
 import com.medislot.medislot.dto.slot.SlotCreateRequest;
 import com.medislot.medislot.dto.slot.SlotResponse;
 import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.exception.BadRequestException;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.service.AvailabilityService;
+import com.medislot.medislot.util.FieldSelection;
+import com.medislot.medislot.sse.AvailabilityStreamBroker;
 import com.medislot.medislot.util.ResponseHelper;
+import com.medislot.medislot.versioning.ETags;
+import com.medislot.medislot.versioning.EntityVersionRegistry;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.DateTimeException;
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,10 +41,21 @@ import java.util.UUID;
 @Tag(name = "Availability", description = "Slot/Availability management APIs - Manage doctor availability slots and schedules")
 public class AvailabilityController {
 
+    private static final ZoneId UTC = ZoneId.of("UTC");
+    // Calendar months accepted around the current one
+    private static final int CALENDAR_MONTHS_BACK = 12;
+    private static final int CALENDAR_MONTHS_AHEAD = 24;
+
     private final AvailabilityService availabilityService;
+    private final AvailabilityStreamBroker availabilityStreamBroker;
+    private final EntityVersionRegistry entityVersionRegistry;
 
-    public AvailabilityController(AvailabilityService availabilityService) {
+    public AvailabilityController(AvailabilityService availabilityService,
+                                  AvailabilityStreamBroker availabilityStreamBroker,
+                                  EntityVersionRegistry entityVersionRegistry) {
         this.availabilityService = availabilityService;
+        this.availabilityStreamBroker = availabilityStreamBroker;
+        this.entityVersionRegistry = entityVersionRegistry;
     }
 
     /**
@@ -54,9 +78,16 @@ public class AvailabilityController {
      * GET /api/availability
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<SlotResponse>>> getAllSlots() {
-        List<SlotResponse> slots = availabilityService.findAll();
-        return ResponseEntity.ok(
+    public ResponseEntity<ApiResponse<List<SlotResponse>>> getAllSlots(
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, SlotResponse.class);
+        String etag = ETags.of(entityVersionRegistry.slotsVersion(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<SlotResponse> slots = availabilityService.findAll(selection);
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(slots, "Slots retrieved successfully"));
     }
 
@@ -65,10 +96,18 @@ public class AvailabilityController {
      * GET /api/availability/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<SlotResponse>> getSlotById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<SlotResponse>> getSlotById(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection.forRequest(fields, SlotResponse.class);
+        String etag = ETags.of(entityVersionRegistry.slotsVersion(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         SlotResponse slot = availabilityService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Slot", id));
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(slot, "Slot retrieved successfully"));
     }
 
@@ -78,9 +117,16 @@ public class AvailabilityController {
      */
     @GetMapping("/doctor/{doctorId}/available")
     public ResponseEntity<ApiResponse<List<SlotResponse>>> getAvailableSlotsByDoctor(
-            @PathVariable UUID doctorId) {
-        List<SlotResponse> slots = availabilityService.findAvailableSlotsByDoctor(doctorId);
-        return ResponseEntity.ok(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, SlotResponse.class);
+        String etag = ETags.of(entityVersionRegistry.doctorSlotsVersion(doctorId), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<SlotResponse> slots = availabilityService.findAvailableSlotsByDoctor(doctorId, selection);
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(slots, "Available slots for doctor retrieved successfully"));
     }
 
@@ -90,12 +136,85 @@ public class AvailabilityController {
      */
     @GetMapping("/hospital/{hospitalId}/available")
     public ResponseEntity<ApiResponse<List<SlotResponse>>> getAvailableSlotsByHospital(
-            @PathVariable UUID hospitalId) {
-        List<SlotResponse> slots = availabilityService.findAvailableSlotsByHospital(hospitalId);
-        return ResponseEntity.ok(
+            @PathVariable UUID hospitalId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, SlotResponse.class);
+        String etag = ETags.of(entityVersionRegistry.hospitalSlotsVersion(hospitalId), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<SlotResponse> slots = availabilityService.findAvailableSlotsByHospital(hospitalId, selection);
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(slots, "Available slots for hospital retrieved successfully"));
     }
 
+    /**
+     * Get the number of available slots of a doctor per day of a month
+     * GET /api/availability/doctor/{doctorId}/calendar?month=2026-11&zone=Asia/Baku
+     * month defaults to the current month and must lie within 12 months back and 24 ahead,
+     * zone (a region ID) defaults to UTC
+     */
+    @GetMapping("/doctor/{doctorId}/calendar")
+    public ResponseEntity<ApiResponse<AvailabilityCalendarResponse>> getDoctorCalendar(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) String zone,
+            WebRequest webRequest) {
+        ZoneId zoneId = parseZone(zone);
+        YearMonth yearMonth = parseMonth(month, zoneId);
+        String etag = ETags.of(calendarVersion(entityVersionRegistry.doctorSlotsVersion(doctorId), yearMonth, zoneId),
+                webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        AvailabilityCalendarResponse calendar = availabilityService.getDoctorCalendar(doctorId, yearMonth, zoneId);
+        return ResponseEntity.ok().eTag(etag).body(
+                ResponseHelper.success(calendar, "Doctor availability calendar retrieved successfully"));
+    }
+
+    /**
+     * Get the number of available slots at a hospital per day of a month
+     * GET /api/availability/hospital/{hospitalId}/calendar?month=2026-11&zone=Asia/Baku
+     */
+    @GetMapping("/hospital/{hospitalId}/calendar")
+    public ResponseEntity<ApiResponse<AvailabilityCalendarResponse>> getHospitalCalendar(
+            @PathVariable UUID hospitalId,
+            @RequestParam(required = false) String month,
+            @RequestParam(required = false) String zone,
+            WebRequest webRequest) {
+        ZoneId zoneId = parseZone(zone);
+        YearMonth yearMonth = parseMonth(month, zoneId);
+        String etag = ETags.of(calendarVersion(entityVersionRegistry.hospitalSlotsVersion(hospitalId), yearMonth, zoneId),
+                webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        AvailabilityCalendarResponse calendar = availabilityService.getHospitalCalendar(hospitalId, yearMonth, zoneId);
+        return ResponseEntity.ok().eTag(etag).body(
+                ResponseHelper.success(calendar, "Hospital availability calendar retrieved successfully"));
+    }
+
+    /**
+     * Stream slot changes for a doctor (Server-Sent Events)
+     * GET /api/availability/doctor/{doctorId}/stream
+     * Sends "slots" events with the latest state of changed slots, and "resync" when the client
+     * fell too far behind and should reload /api/availability/doctor/{doctorId}/available
+     */
+    @GetMapping(value = "/doctor/{doctorId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDoctorAvailability(@PathVariable UUID doctorId) {
+        return availabilityStreamBroker.subscribeToDoctor(doctorId);
+    }
+
+    /**
+     * Stream slot changes for a hospital (Server-Sent Events)
+     * GET /api/availability/hospital/{hospitalId}/stream
+     */
+    @GetMapping(value = "/hospital/{hospitalId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamHospitalAvailability(@PathVariable UUID hospitalId) {
+        return availabilityStreamBroker.subscribeToHospital(hospitalId);
+    }
+
     /**
      * Get available slots by doctor and hospital
      * GET /api/availability/doctor/{doctorId}/hospital/{hospitalId}/available
@@ -103,10 +222,17 @@ public class AvailabilityController {
     @GetMapping("/doctor/{doctorId}/hospital/{hospitalId}/available")
     public ResponseEntity<ApiResponse<List<SlotResponse>>> getAvailableSlotsByDoctorAndHospital(
             @PathVariable UUID doctorId,
-            @PathVariable UUID hospitalId) {
+            @PathVariable UUID hospitalId,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, SlotResponse.class);
+        String etag = ETags.of(entityVersionRegistry.doctorSlotsVersion(doctorId), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<SlotResponse> slots = availabilityService.findAvailableSlotsByDoctorAndHospital(
-                doctorId, hospitalId);
-        return ResponseEntity.ok(
+                doctorId, hospitalId, selection);
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(slots, 
                         "Available slots for doctor at hospital retrieved successfully"));
     }
@@ -119,10 +245,17 @@ public class AvailabilityController {
     public ResponseEntity<ApiResponse<List<SlotResponse>>> getSlotsByDoctorAndTimeRange(
             @PathVariable UUID doctorId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime startTime,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime endTime) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime endTime,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, SlotResponse.class);
+        String etag = ETags.of(entityVersionRegistry.doctorSlotsVersion(doctorId), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<SlotResponse> slots = availabilityService.findSlotsByDoctorAndTimeRange(
-                doctorId, startTime, endTime);
-        return ResponseEntity.ok(
+                doctorId, startTime, endTime, selection);
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(slots, "Slots in time range retrieved successfully"));
     }
 
@@ -179,4 +312,54 @@ public class AvailabilityController {
         return ResponseEntity.ok(
                 ResponseHelper.success(null, "Slot deleted successfully"));
     }
+
+    /**
+     * Region time zone (e.g. Asia/Baku), or UTC when absent
+     * Fixed offsets other than UTC are rejected: the database reads "+04:00" as a POSIX zone,
+     * i.e. four hours west of UTC
+     */
+    private static ZoneId parseZone(String zone) {
+        if (zone == null || zone.isBlank()) {
+            return UTC;
+        }
+        ZoneId zoneId;
+        try {
+            zoneId = ZoneId.of(zone.trim());
+        } catch (DateTimeException e) {
+            throw new BadRequestException("Unknown time zone: " + zone);
+        }
+        if (zoneId instanceof ZoneOffset || zoneId.getId().matches("(?i)(GMT|UTC|UT)[+-].*")) {
+            if (!ZoneOffset.UTC.equals(zoneId.normalized())) {
+                throw new BadRequestException("Time zone must be a region ID such as Asia/Baku, not an offset");
+            }
+            return UTC;
+        }
+        return zoneId;
+    }
+
+    private static YearMonth parseMonth(String month, ZoneId zone) {
+        YearMonth current = YearMonth.now(zone);
+        if (month == null || month.isBlank()) {
+            return current;
+        }
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.parse(month.trim());
+        } catch (DateTimeException e) {
+            throw new BadRequestException("Month must be formatted as yyyy-MM: " + month);
+        }
+        if (yearMonth.isBefore(current.minusMonths(CALENDAR_MONTHS_BACK))
+                || yearMonth.isAfter(current.plusMonths(CALENDAR_MONTHS_AHEAD))) {
+            throw new BadRequestException("Month must be within " + CALENDAR_MONTHS_BACK + " months before and "
+                    + CALENDAR_MONTHS_AHEAD + " months after " + current);
+        }
+        return yearMonth;
+    }
+
+    /**
+     * The slots version alone is shared by every month and zone of the calendar
+     */
+    private static String calendarVersion(String slotsVersion, YearMonth yearMonth, ZoneId zoneId) {
+        return slotsVersion + "-" + yearMonth + "-" + zoneId.getId();
+    }
 }
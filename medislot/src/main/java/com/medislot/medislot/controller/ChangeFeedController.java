@@ -0,0 +1,95 @@
+package com.medislot.medislot.controller;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.change.ChangeFeedResponse;
+import com.medislot.medislot.event.AppointmentChangedEvent;
+import com.medislot.medislot.event.DoctorChangedEvent;
+import com.medislot.medislot.event.HospitalChangedEvent;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.exception.BadRequestException;
+import com.medislot.medislot.service.ChangeFeedService;
+import com.medislot.medislot.util.ResponseHelper;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * REST Controller for the incremental change feed
+ * Lets clients sync slots, appointments, doctors and hospitals by fetching only what changed
+ * since their last sync token instead of re-downloading full lists
+ */
+@RestController
+@RequestMapping("/api/changes")
+@Tag(name = "Change Feed", description = "Incremental sync APIs - Entities created, updated or deleted since a sync token")
+public class ChangeFeedController {
+
+    private static final int MAX_LIMIT = 1000;
+    private static final Set<String> PUBLIC_TYPES = Set.of(
+            SlotChangedEvent.AGGREGATE_TYPE, DoctorChangedEvent.AGGREGATE_TYPE, HospitalChangedEvent.AGGREGATE_TYPE);
+
+    private final ChangeFeedService changeFeedService;
+
+    public ChangeFeedController(ChangeFeedService changeFeedService) {
+        this.changeFeedService = changeFeedService;
+    }
+
+    /**
+     * Get changes since a sync token
+     * GET /api/changes?since={token}&types=slot,doctor&limit=500
+     * For the first sync call GET /api/changes/token, download the full lists, then sync from that
+     * token. Appointments are only included for ADMIN. A token from before the retained part of
+     * the change log (or no token once it has been pruned) gets 410 Gone: start over the same way
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) List<String> types,
+            @RequestParam(defaultValue = "500") int limit,
+            Authentication authentication) {
+        Set<String> allowedTypes = new LinkedHashSet<>(PUBLIC_TYPES);
+        if (isAdmin(authentication)) {
+            allowedTypes.add(AppointmentChangedEvent.AGGREGATE_TYPE);
+        }
+
+        Set<String> entityTypes = allowedTypes;
+        if (types != null && !types.isEmpty()) {
+            entityTypes = new LinkedHashSet<>();
+            for (String type : types) {
+                String normalized = type.trim().toLowerCase(Locale.ROOT);
+                if (!allowedTypes.contains(normalized)) {
+                    throw new BadRequestException("Unsupported change type: " + type);
+                }
+                entityTypes.add(normalized);
+            }
+        }
+
+        ChangeFeedResponse changes = changeFeedService.getChanges(
+                since, entityTypes, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return ResponseEntity.ok(ResponseHelper.success(changes, "Changes retrieved successfully"));
+    }
+
+    /**
+     * Get a sync token for the current head of the feed
+     * GET /api/changes/token
+     * Fetch it before downloading the full lists, then sync from it with GET /api/changes
+     */
+    @GetMapping("/token")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<String>> getCurrentToken() {
+        String token = changeFeedService.getCurrentToken();
+        return ResponseEntity.ok(ResponseHelper.success(token, "Sync token retrieved successfully"));
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
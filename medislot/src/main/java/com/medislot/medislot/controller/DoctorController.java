@@ -6,7 +6,10 @@ import com.medislot.medislot.dto.doctor.DoctorResponse;
 import com.medislot.medislot.dto.doctor.DoctorUpdateRequest;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.service.DoctorService;
+import com.medislot.medislot.util.FieldSelection;
 import com.medislot.medislot.util.ResponseHelper;
+import com.medislot.medislot.versioning.ETags;
+import com.medislot.medislot.versioning.EntityVersionRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -29,9 +33,11 @@ import java.util.UUID;
 public class DoctorController {
 
     private final DoctorService doctorService;
+    private final EntityVersionRegistry entityVersionRegistry;
 
-    public DoctorController(DoctorService doctorService) {
+    public DoctorController(DoctorService doctorService, EntityVersionRegistry entityVersionRegistry) {
         this.doctorService = doctorService;
+        this.entityVersionRegistry = entityVersionRegistry;
     }
 
     /**
@@ -59,24 +65,31 @@ public class DoctorController {
     @Operation(summary = "Get all doctors", description = "Retrieves all doctors with optional filtering by specialization (case-insensitive) and active status")
     public ResponseEntity<ApiResponse<List<DoctorResponse>>> getAllDoctors(
             @Parameter(description = "Filter by specialty (case-insensitive)") @RequestParam(required = false) String specialization,
-            @Parameter(description = "Filter by active status") @RequestParam(required = false) Boolean active) {
+            @Parameter(description = "Filter by active status") @RequestParam(required = false) Boolean active,
+            @Parameter(description = "Comma-separated response fields, e.g. id,fullName") @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, DoctorResponse.class);
+        String etag = ETags.of(entityVersionRegistry.doctorsVersion(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         List<DoctorResponse> doctors;
         
         // Filter by both specialization and active status
         if (specialization != null && !specialization.isEmpty()) {
             if (active != null && active) {
-                doctors = doctorService.findActiveBySpecialtyIgnoreCase(specialization);
+                doctors = doctorService.findActiveBySpecialtyIgnoreCase(specialization, selection);
             } else {
-                doctors = doctorService.findBySpecialtyIgnoreCase(specialization);
+                doctors = doctorService.findBySpecialtyIgnoreCase(specialization, selection);
             }
         } else if (active != null && active) {
-            doctors = doctorService.findAllActive();
+            doctors = doctorService.findAllActive(selection);
         } else {
-            doctors = doctorService.findAll();
+            doctors = doctorService.findAll(selection);
         }
         
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(doctors, "Doctors retrieved successfully"));
     }
 
@@ -86,9 +99,16 @@ public class DoctorController {
      * NOTE: This must be defined BEFORE /{id} to avoid path matching conflicts
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<DoctorResponse>>> getActiveDoctors() {
-        List<DoctorResponse> doctors = doctorService.findAllActive();
-        return ResponseEntity.ok(
+    public ResponseEntity<ApiResponse<List<DoctorResponse>>> getActiveDoctors(
+            @Parameter(description = "Comma-separated response fields, e.g. id,fullName") @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection selection = FieldSelection.forRequest(fields, DoctorResponse.class);
+        String etag = ETags.of(entityVersionRegistry.doctorsVersion(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<DoctorResponse> doctors = doctorService.findAllActive(selection);
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(doctors, "Active doctors retrieved successfully"));
     }
 
@@ -99,10 +119,17 @@ public class DoctorController {
     @GetMapping("/{id}")
     @Operation(summary = "Get doctor by ID", description = "Retrieves a specific doctor by their unique identifier")
     public ResponseEntity<ApiResponse<DoctorResponse>> getDoctorById(
-            @Parameter(description = "Doctor UUID") @PathVariable UUID id) {
+            @Parameter(description = "Doctor UUID") @PathVariable UUID id,
+            @Parameter(description = "Comma-separated response fields, e.g. id,fullName") @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection.forRequest(fields, DoctorResponse.class);
+        String etag = ETags.of(entityVersionRegistry.doctorVersion(id), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         DoctorResponse doctor = doctorService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Doctor", id));
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(doctor, "Doctor retrieved successfully"));
     }
 
@@ -5,13 +5,17 @@ import com.medislot.medislot.dto.hospital.HospitalCreateRequest;
 import com.medislot.medislot.dto.hospital.HospitalResponse;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.service.HospitalService;
+import com.medislot.medislot.util.FieldSelection;
 import com.medislot.medislot.util.ResponseHelper;
+import com.medislot.medislot.versioning.ETags;
+import com.medislot.medislot.versioning.EntityVersionRegistry;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -26,9 +30,11 @@ import java.util.UUID;
 public class HospitalController {
 
     private final HospitalService hospitalService;
+    private final EntityVersionRegistry entityVersionRegistry;
 
-    public HospitalController(HospitalService hospitalService) {
+    public HospitalController(HospitalService hospitalService, EntityVersionRegistry entityVersionRegistry) {
         this.hospitalService = hospitalService;
+        this.entityVersionRegistry = entityVersionRegistry;
     }
 
     /**
@@ -53,7 +59,14 @@ public class HospitalController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<HospitalResponse>>> getAllHospitals(
             @RequestParam(required = false) Boolean active,
-            @RequestParam(required = false) String city) {
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection.forRequest(fields, HospitalResponse.class);
+        String etag = ETags.of(entityVersionRegistry.hospitalsVersion(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
         List<HospitalResponse> hospitals;
         
@@ -71,7 +84,7 @@ public class HospitalController {
                     .toList();
         }
         
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(hospitals, "Hospitals retrieved successfully"));
     }
 
@@ -81,9 +94,16 @@ public class HospitalController {
      * NOTE: This must be defined BEFORE /{id} to avoid path matching conflicts
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<HospitalResponse>>> getActiveHospitals() {
+    public ResponseEntity<ApiResponse<List<HospitalResponse>>> getActiveHospitals(
+            @RequestParam(required = false) String fields,
+            WebRequest webRequest) {
+        FieldSelection.forRequest(fields, HospitalResponse.class);
+        String etag = ETags.of(entityVersionRegistry.hospitalsVersion(), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<HospitalResponse> hospitals = hospitalService.findAllActive();
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(hospitals, "Active hospitals retrieved successfully"));
     }
 
@@ -92,10 +112,17 @@ public class HospitalController {
      * GET /api/hospitals/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<HospitalResponse>> getHospitalById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<HospitalResponse>> getHospitalById(@PathVariable UUID id,
+                                                                         @RequestParam(required = false) String fields,
+                                                                         WebRequest webRequest) {
+        FieldSelection.forRequest(fields, HospitalResponse.class);
+        String etag = ETags.of(entityVersionRegistry.hospitalVersion(id), webRequest);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         HospitalResponse hospital = hospitalService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Hospital", id));
-        return ResponseEntity.ok(
+        return ResponseEntity.ok().eTag(etag).body(
                 ResponseHelper.success(hospital, "Hospital retrieved successfully"));
     }
 
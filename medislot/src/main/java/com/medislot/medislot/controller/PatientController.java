@@ -3,14 +3,19 @@ package com.medislot.medislot.controller;
 import com.medislot.medislot.dto.ApiResponse;
 import com.medislot.medislot.dto.patient.PatientCreateRequest;
 import com.medislot.medislot.dto.patient.PatientResponse;
+import com.medislot.medislot.dto.patient.PatientSearchResponse;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.service.PatientService;
+import com.medislot.medislot.util.FieldSelection;
 import com.medislot.medislot.util.ResponseHelper;
+import com.medislot.medislot.validation.OnCreate;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -25,6 +30,8 @@ import java.util.UUID;
 @Tag(name = "Patients", description = "Patient management APIs - Create, read, update, and manage patients")
 public class PatientController {
 
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final PatientService patientService;
 
     public PatientController(PatientService patientService) {
@@ -37,7 +44,7 @@ public class PatientController {
      */
     @PostMapping
     public ResponseEntity<ApiResponse<PatientResponse>> createPatient(
-            @Valid @RequestBody PatientCreateRequest request) {
+            @Validated({Default.class, OnCreate.class}) @RequestBody PatientCreateRequest request) {
         PatientResponse patient = patientService.create(request);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -50,7 +57,9 @@ public class PatientController {
      */
     @GetMapping
     public ResponseEntity<ApiResponse<List<PatientResponse>>> getAllPatients(
-            @RequestParam(required = false) Boolean active) {
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String fields) {
+        FieldSelection.forRequest(fields, PatientResponse.class);
         
         List<PatientResponse> patients;
         
@@ -70,18 +79,44 @@ public class PatientController {
      * NOTE: This must be defined BEFORE /{id} to avoid path matching conflicts
      */
     @GetMapping("/active")
-    public ResponseEntity<ApiResponse<List<PatientResponse>>> getActivePatients() {
+    public ResponseEntity<ApiResponse<List<PatientResponse>>> getActivePatients(
+            @RequestParam(required = false) String fields) {
+        FieldSelection.forRequest(fields, PatientResponse.class);
         List<PatientResponse> patients = patientService.findAllActive();
         return ResponseEntity.ok(
                 ResponseHelper.success(patients, "Active patients retrieved successfully"));
     }
 
+    /**
+     * Search patients by part of their name, email or phone number
+     * GET /api/patients/search?q=aliyev&page=0&size=20
+     * Digits-only queries (spaces, dashes, "+" and parentheses allowed) match phone numbers
+     * Access: ADMIN or DOCTOR
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'DOCTOR')")
+    public ResponseEntity<ApiResponse<PatientSearchResponse>> searchPatients(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "false") boolean active,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields) {
+        FieldSelection.forRequest(fields, PatientResponse.class);
+        PatientSearchResponse patients = patientService.search(
+                q, active, Math.max(0, page), Math.max(1, Math.min(size, MAX_SEARCH_SIZE)));
+        return ResponseEntity.ok(
+                ResponseHelper.success(patients, "Patients retrieved successfully"));
+    }
+
     /**
      * Get patient by ID
      * GET /api/patients/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<PatientResponse>> getPatientById(@PathVariable UUID id) {
+    public ResponseEntity<ApiResponse<PatientResponse>> getPatientById(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String fields) {
+        FieldSelection.forRequest(fields, PatientResponse.class);
         PatientResponse patient = patientService.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Patient", id));
         return ResponseEntity.ok(
@@ -0,0 +1,76 @@
+package com.medislot.medislot.controller;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.search.SearchSuggestionResponse;
+import com.medislot.medislot.exception.BadRequestException;
+import com.medislot.medislot.exception.ServiceUnavailableException;
+import com.medislot.medislot.mapper.SearchMapper;
+import com.medislot.medislot.search.DirectoryIndex;
+import com.medislot.medislot.search.DirectorySearchIndex;
+import com.medislot.medislot.util.ResponseHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for directory search
+ * Autocomplete over doctor names and specialties and hospital names and addresses
+ */
+@RestController
+@RequestMapping("/api/search")
+@Tag(name = "Search", description = "Directory search APIs - Typo-tolerant autocomplete for doctors and hospitals")
+public class SearchController {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final DirectorySearchIndex directorySearchIndex;
+    private final SearchMapper searchMapper;
+
+    public SearchController(DirectorySearchIndex directorySearchIndex, SearchMapper searchMapper) {
+        this.directorySearchIndex = directorySearchIndex;
+        this.searchMapper = searchMapper;
+    }
+
+    /**
+     * Autocomplete doctors and hospitals
+     * GET /api/search/autocomplete?q=cardio&type=doctor&limit=10
+     * Every word of q matches as a prefix, tolerating one typo from 4 characters and two from 8
+     */
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Autocomplete", description = "Typo-tolerant prefix search over doctor names and specialties and hospital names and addresses")
+    public ResponseEntity<ApiResponse<List<SearchSuggestionResponse>>> autocomplete(
+            @Parameter(description = "Search text") @RequestParam String q,
+            @Parameter(description = "Restrict to doctor or hospital") @RequestParam(required = false) String type,
+            @Parameter(description = "Only active doctors and hospitals") @RequestParam(defaultValue = "true") boolean active,
+            @Parameter(description = "Maximum suggestions (1-50)") @RequestParam(defaultValue = "10") int limit) {
+        if (!directorySearchIndex.isLoaded()) {
+            throw new ServiceUnavailableException("Search index is loading");
+        }
+        List<SearchSuggestionResponse> suggestions = directorySearchIndex
+                .search(q, parseKind(type), active, Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+                .map(searchMapper::toResponse)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(
+                ResponseHelper.success(suggestions, "Suggestions retrieved successfully"));
+    }
+
+    private static DirectoryIndex.Kind parseKind(String type) {
+        if (type == null || type.isBlank()) {
+            return null;
+        }
+        try {
+            return DirectoryIndex.Kind.valueOf(type.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown type '" + type + "'. Allowed types: doctor, hospital");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.medislot.medislot.controller;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.admin.NPlusOneIncidentResponse;
+import com.medislot.medislot.dto.admin.SqlStatementStatsResponse;
+import com.medislot.medislot.monitoring.sql.SqlStatsRegistry;
+import com.medislot.medislot.util.ResponseHelper;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for SQL statistics
+ * Exposes per-statement latency and row statistics and recent N+1 incidents
+ * Access: ADMIN only
+ */
+@RestController
+@RequestMapping("/api/admin/sql-stats")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "SQL Statistics", description = "Admin APIs - Per-statement SQL latency statistics and N+1 detection")
+public class SqlStatsController {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    public SqlStatsController(SqlStatsRegistry sqlStatsRegistry) {
+        this.sqlStatsRegistry = sqlStatsRegistry;
+    }
+
+    /**
+     * Get statistics per SQL fingerprint, most expensive first
+     * GET /api/admin/sql-stats?limit=50
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SqlStatementStatsResponse>>> getStatistics(
+            @RequestParam(defaultValue = "50") int limit) {
+        List<SqlStatementStatsResponse> statistics = sqlStatsRegistry.getStatistics(Math.max(1, limit));
+        return ResponseEntity.ok(ResponseHelper.success(statistics, "SQL statistics retrieved successfully"));
+    }
+
+    /**
+     * Get the most recent N+1 incidents
+     * GET /api/admin/sql-stats/n-plus-one
+     */
+    @GetMapping("/n-plus-one")
+    public ResponseEntity<ApiResponse<List<NPlusOneIncidentResponse>>> getNPlusOneIncidents() {
+        List<NPlusOneIncidentResponse> incidents = sqlStatsRegistry.getRecentIncidents();
+        return ResponseEntity.ok(ResponseHelper.success(incidents, "N+1 incidents retrieved successfully"));
+    }
+
+    /**
+     * Reset all statistics
+     * DELETE /api/admin/sql-stats
+     */
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<Void>> resetStatistics() {
+        sqlStatsRegistry.reset();
+        return ResponseEntity.ok(ResponseHelper.success("SQL statistics reset successfully"));
+    }
+}
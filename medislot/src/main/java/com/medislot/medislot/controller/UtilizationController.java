@@ -0,0 +1,74 @@
+package com.medislot.medislot.controller;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.utilization.UtilizationReportResponse;
+import com.medislot.medislot.service.UtilizationService;
+import com.medislot.medislot.util.ResponseHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * REST Controller for slot utilization reports
+ * Booked vs available slots per day for management dashboards
+ * Access: ADMIN only
+ */
+@RestController
+@RequestMapping("/api/admin/utilization")
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Utilization", description = "Admin APIs - Daily booked vs available slot counts per doctor and hospital")
+public class UtilizationController {
+
+    private final UtilizationService utilizationService;
+
+    public UtilizationController(UtilizationService utilizationService) {
+        this.utilizationService = utilizationService;
+    }
+
+    /**
+     * Get daily utilization of a doctor
+     * GET /api/admin/utilization/doctors/{doctorId}?from=2026-01-01&to=2026-01-31&hospitalId=...
+     */
+    @GetMapping("/doctors/{doctorId}")
+    @Operation(summary = "Doctor utilization", description = "Available and booked slots and cancellations per UTC day, across all hospitals or at one")
+    public ResponseEntity<ApiResponse<UtilizationReportResponse>> getDoctorUtilization(
+            @Parameter(description = "Doctor UUID") @PathVariable UUID doctorId,
+            @Parameter(description = "First day, inclusive") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (at most 366 days)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Only slots at this hospital") @RequestParam(required = false) UUID hospitalId) {
+        UtilizationReportResponse report = utilizationService.doctorReport(doctorId, hospitalId, from, to);
+        return ResponseEntity.ok(ResponseHelper.success(report, "Doctor utilization retrieved successfully"));
+    }
+
+    /**
+     * Get daily utilization of a hospital
+     * GET /api/admin/utilization/hospitals/{hospitalId}?from=2026-01-01&to=2026-01-31
+     */
+    @GetMapping("/hospitals/{hospitalId}")
+    @Operation(summary = "Hospital utilization", description = "Available and booked slots and cancellations per UTC day across the hospital's doctors")
+    public ResponseEntity<ApiResponse<UtilizationReportResponse>> getHospitalUtilization(
+            @Parameter(description = "Hospital UUID") @PathVariable UUID hospitalId,
+            @Parameter(description = "First day, inclusive") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive (at most 366 days)") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        UtilizationReportResponse report = utilizationService.hospitalReport(hospitalId, from, to);
+        return ResponseEntity.ok(ResponseHelper.success(report, "Hospital utilization retrieved successfully"));
+    }
+
+    /**
+     * Recount all counters from the slots and appointments tables
+     * POST /api/admin/utilization/rebuild
+     * Needed after slots or appointments were changed outside the API
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuild() {
+        int rows = utilizationService.rebuild();
+        return ResponseEntity.ok(ResponseHelper.success(rows, "Utilization counters rebuilt successfully"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.medislot.medislot.datagen;
+
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Row buffer for PostgreSQL COPY ... FROM STDIN in text format
+ * Rows are appended field by field and sent to the server in one COPY per flush
+ */
+class CopyBuffer {
+
+    private final String copySql;
+    private final StringBuilder buffer;
+    private boolean rowStarted;
+    private long rows;
+
+    CopyBuffer(String table, String columns, int initialCapacity) {
+        this.copySql = "COPY " + table + " (" + columns + ") FROM STDIN (FORMAT text)";
+        this.buffer = new StringBuilder(initialCapacity);
+    }
+
+    CopyBuffer field(String value) {
+        separator();
+        if (value == null) {
+            buffer.append("\\N");
+            return this;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> buffer.append("\\\\");
+                case '\t' -> buffer.append("\\t");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                default -> buffer.append(c);
+            }
+        }
+        return this;
+    }
+
+    CopyBuffer field(UUID value) {
+        separator();
+        if (value == null) {
+            buffer.append("\\N");
+        } else {
+            buffer.append(value);
+        }
+        return this;
+    }
+
+    CopyBuffer field(OffsetDateTime value) {
+        separator();
+        buffer.append(value);
+        return this;
+    }
+
+    CopyBuffer field(boolean value) {
+        separator();
+        buffer.append(value ? 't' : 'f');
+        return this;
+    }
+
+    void endRow() {
+        buffer.append('\n');
+        rowStarted = false;
+        rows++;
+    }
+
+    private void separator() {
+        if (rowStarted) {
+            buffer.append('\t');
+        }
+        rowStarted = true;
+    }
+
+    int length() {
+        return buffer.length();
+    }
+
+    /**
+     * Send the buffered rows to the server and clear the buffer
+     * @return number of rows written
+     */
+    long flush(CopyManager copyManager) throws SQLException {
+        if (rows == 0) {
+            return 0;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        CopyIn copyIn = copyManager.copyIn(copySql);
+        try {
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+        long written = rows;
+        buffer.setLength(0);
+        rows = 0;
+        return written;
+    }
+}
@@ -0,0 +1,370 @@
+package com.medislot.medislot.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Synthetic Data Generator
+ * Fills the database with a realistic, reproducible dataset for benchmarks and query-plan checks:
+ * hospitals, doctors with hospital affiliations, patients, a user account for each of them,
+ * and years of weekday slots with an appointment history. Everything is written with
+ * PostgreSQL COPY; slots and appointments are generated per doctor in parallel.
+ * Run with: ./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen
+ * Scale is set through the datagen.* properties (see application-datagen.properties)
+ */
+@Component
+@Profile("datagen")
+public class DataGeneratorRunner implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataGeneratorRunner.class);
+    private static final int FLUSH_BYTES = 8 * 1024 * 1024;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final DataSource dataSource;
+    private final int hospitals;
+    private final int doctors;
+    private final int maxAffiliationsPerDoctor;
+    private final int patients;
+    private final int historyDays;
+    private final int futureDays;
+    private final int slotsPerDay;
+    private final int slotMinutes;
+    private final double pastBookedRate;
+    private final double futureBookedRate;
+    private final double cancelledRate;
+    private final int threads;
+    private final long seed;
+    private final boolean truncate;
+    private final String userPassword;
+
+    private final AtomicLong slotsWritten = new AtomicLong();
+    private final AtomicLong appointmentsWritten = new AtomicLong();
+
+    public DataGeneratorRunner(DataSource dataSource,
+                               @Value("${datagen.hospitals:50}") int hospitals,
+                               @Value("${datagen.doctors:2000}") int doctors,
+                               @Value("${datagen.max-affiliations-per-doctor:3}") int maxAffiliationsPerDoctor,
+                               @Value("${datagen.patients:200000}") int patients,
+                               @Value("${datagen.history-days:730}") int historyDays,
+                               @Value("${datagen.future-days:90}") int futureDays,
+                               @Value("${datagen.slots-per-day:16}") int slotsPerDay,
+                               @Value("${datagen.slot-minutes:30}") int slotMinutes,
+                               @Value("${datagen.past-booked-rate:0.72}") double pastBookedRate,
+                               @Value("${datagen.future-booked-rate:0.35}") double futureBookedRate,
+                               @Value("${datagen.cancelled-rate:0.08}") double cancelledRate,
+                               @Value("${datagen.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+                               @Value("${datagen.seed:42}") long seed,
+                               @Value("${datagen.truncate:false}") boolean truncate,
+                               @Value("${datagen.user-password:password123}") String userPassword) {
+        this.dataSource = dataSource;
+        this.hospitals = hospitals;
+        this.doctors = doctors;
+        this.maxAffiliationsPerDoctor = Math.max(1, Math.min(maxAffiliationsPerDoctor, hospitals));
+        this.patients = patients;
+        this.historyDays = historyDays;
+        this.futureDays = futureDays;
+        this.slotsPerDay = slotsPerDay;
+        this.slotMinutes = slotMinutes;
+        this.pastBookedRate = pastBookedRate;
+        this.futureBookedRate = futureBookedRate;
+        this.cancelledRate = cancelledRate;
+        this.threads = Math.max(1, threads);
+        this.seed = seed;
+        this.truncate = truncate;
+        this.userPassword = userPassword;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        long started = System.nanoTime();
+        logger.info("Generating dataset: {} hospitals, {} doctors, {} patients, {} days of slots ({} per weekday), {} threads",
+                hospitals, doctors, patients, historyDays + futureDays, slotsPerDay, threads);
+
+        // Every user shares one password hash; hashing per row would dominate the run
+        String passwordHash = new BCryptPasswordEncoder().encode(userPassword);
+
+        UUID[] hospitalIds;
+        UUID[] doctorIds;
+        int[][] affiliations;
+        long[] patientIdBits;
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            if (truncate) {
+                truncateTables(connection);
+            }
+            hospitalIds = generateHospitals(copyManager);
+            doctorIds = generateDoctors(copyManager, passwordHash);
+            affiliations = generateAffiliations(copyManager, doctorIds, hospitalIds);
+            patientIdBits = generatePatients(copyManager, passwordHash);
+            generateAdmin(copyManager, passwordHash);
+        }
+
+        generateSlotsAndAppointments(doctorIds, hospitalIds, affiliations, patientIdBits);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            logger.info("Analyzing tables...");
+            statement.execute("ANALYZE");
+        }
+
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        logger.info("Dataset generated in {}s: {} slots, {} appointments ({} rows/s)",
+                String.format("%.1f", seconds), slotsWritten.get(), appointmentsWritten.get(),
+                String.format("%.0f", (slotsWritten.get() + appointmentsWritten.get()) / seconds));
+    }
+
+    private void truncateTables(Connection connection) throws SQLException {
+        logger.warn("Truncating existing data");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE outbox_events, change_log, slot_utilization, appointments, slots, doctor_hospitals, users, patients, doctors, hospitals CASCADE");
+        }
+    }
+
+    private UUID[] generateHospitals(CopyManager copyManager) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusDays(historyDays + 30L);
+        UUID[] ids = new UUID[hospitals];
+        CopyBuffer buffer = new CopyBuffer("hospitals", "id, created_at, name, address, active", 1 << 16);
+        for (int i = 0; i < hospitals; i++) {
+            ids[i] = SyntheticNames.uuid(random);
+            String city = SyntheticNames.city(random);
+            buffer.field(ids[i]).field(createdAt)
+                    .field(city + " " + SyntheticNames.specialty(random) + " Center " + (i + 1))
+                    .field((10 + random.nextInt(190)) + " " + SyntheticNames.lastName(random) + " Street, " + city)
+                    .field(random.nextDouble() < 0.95);
+            buffer.endRow();
+        }
+        logger.info("Hospitals: {}", buffer.flush(copyManager));
+        return ids;
+    }
+
+    private UUID[] generateDoctors(CopyManager copyManager, String passwordHash) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusDays(historyDays + 7L);
+        UUID[] ids = new UUID[doctors];
+        CopyBuffer doctorRows = new CopyBuffer("doctors", "id, created_at, full_name, specialty, active", 1 << 20);
+        CopyBuffer userRows = new CopyBuffer("users",
+                "id, created_at, email, password, first_name, last_name, role, active, profile_id", 1 << 20);
+        for (int i = 0; i < doctors; i++) {
+            ids[i] = SyntheticNames.uuid(random);
+            String firstName = SyntheticNames.firstName(random);
+            String lastName = SyntheticNames.lastName(random);
+            boolean active = random.nextDouble() < 0.97;
+            doctorRows.field(ids[i]).field(createdAt).field("Dr. " + firstName + " " + lastName)
+                    .field(SyntheticNames.specialty(random)).field(active);
+            doctorRows.endRow();
+            userRows.field(SyntheticNames.uuid(random)).field(createdAt).field("doctor" + i + "@medislot.test")
+                    .field(passwordHash).field(firstName).field(lastName).field("DOCTOR").field(active).field(ids[i]);
+            userRows.endRow();
+        }
+        logger.info("Doctors: {}", doctorRows.flush(copyManager));
+        logger.info("Doctor users: {}", userRows.flush(copyManager));
+        return ids;
+    }
+
+    /**
+     * Give every doctor between one and max-affiliations-per-doctor distinct hospitals
+     */
+    private int[][] generateAffiliations(CopyManager copyManager, UUID[] doctorIds, UUID[] hospitalIds) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        OffsetDateTime createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusDays(historyDays + 7L);
+        int[][] affiliations = new int[doctorIds.length][];
+        CopyBuffer buffer = new CopyBuffer("doctor_hospitals", "doctor_id, hospital_id, created_at", 1 << 20);
+        for (int d = 0; d < doctorIds.length; d++) {
+            int count = 1 + random.nextInt(maxAffiliationsPerDoctor);
+            int first = random.nextInt(hospitalIds.length);
+            affiliations[d] = new int[count];
+            for (int a = 0; a < count; a++) {
+                // Consecutive hospital indices are distinct as long as count <= hospitals
+                affiliations[d][a] = (first + a) % hospitalIds.length;
+                buffer.field(doctorIds[d]).field(hospitalIds[affiliations[d][a]]).field(createdAt);
+                buffer.endRow();
+            }
+        }
+        logger.info("Doctor-hospital affiliations: {}", buffer.flush(copyManager));
+        return affiliations;
+    }
+
+    /**
+     * Patients and their user accounts
+     * Returns the patient ids as packed (msb, lsb) pairs to keep millions of them compact
+     */
+    private long[] generatePatients(CopyManager copyManager, String passwordHash) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 3);
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        long[] idBits = new long[patients * 2];
+        CopyBuffer patientRows = new CopyBuffer("patients", "id, created_at, full_name, phone, email, active", FLUSH_BYTES);
+        CopyBuffer userRows = new CopyBuffer("users",
+                "id, created_at, email, password, first_name, last_name, role, active, profile_id", FLUSH_BYTES);
+        long written = 0;
+        for (int i = 0; i < patients; i++) {
+            UUID id = SyntheticNames.uuid(random);
+            idBits[2 * i] = id.getMostSignificantBits();
+            idBits[2 * i + 1] = id.getLeastSignificantBits();
+            String firstName = SyntheticNames.firstName(random);
+            String lastName = SyntheticNames.lastName(random);
+            String email = "patient" + i + "@medislot.test";
+            OffsetDateTime createdAt = now.minusDays(random.nextInt(historyDays + 1));
+            boolean active = random.nextDouble() < 0.98;
+            patientRows.field(id).field(createdAt).field(firstName + " " + lastName)
+                    .field("+99450" + (1_000_000 + random.nextInt(9_000_000)))
+                    .field(email).field(active);
+            patientRows.endRow();
+            userRows.field(SyntheticNames.uuid(random)).field(createdAt).field(email).field(passwordHash)
+                    .field(firstName).field(lastName).field("PATIENT").field(active).field(id);
+            userRows.endRow();
+            if (patientRows.length() >= FLUSH_BYTES) {
+                written += patientRows.flush(copyManager);
+                userRows.flush(copyManager);
+            }
+        }
+        written += patientRows.flush(copyManager);
+        userRows.flush(copyManager);
+        logger.info("Patients (and users): {}", written);
+        return idBits;
+    }
+
+    private void generateAdmin(CopyManager copyManager, String passwordHash) throws SQLException {
+        CopyBuffer buffer = new CopyBuffer("users",
+                "id, created_at, email, password, first_name, last_name, role, active, profile_id", 256);
+        buffer.field(SyntheticNames.uuid(new SplittableRandom(seed + 4)))
+                .field(OffsetDateTime.now(ZoneOffset.UTC)).field("admin@medislot.test").field(passwordHash)
+                .field("Admin").field("User").field("ADMIN").field(true).field((UUID) null);
+        buffer.endRow();
+        buffer.flush(copyManager);
+        logger.info("Admin user: admin@medislot.test");
+    }
+
+    /**
+     * Slots and appointments, partitioned by doctor across worker threads
+     * Each doctor has its own random stream, so output does not depend on the thread count
+     */
+    private void generateSlotsAndAppointments(UUID[] doctorIds, UUID[] hospitalIds, int[][] affiliations,
+                                              long[] patientIdBits) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            int perTask = Math.max(1, doctorIds.length / (threads * 8));
+            for (int from = 0; from < doctorIds.length; from += perTask) {
+                int start = from;
+                int end = Math.min(doctorIds.length, from + perTask);
+                tasks.add(executor.submit(() -> {
+                    generateForDoctors(start, end, doctorIds, hospitalIds, affiliations, patientIdBits);
+                    return null;
+                }));
+            }
+
+            executor.shutdown();
+            while (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                logger.info("Progress: {} slots, {} appointments", slotsWritten.get(), appointmentsWritten.get());
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void generateForDoctors(int from, int to, UUID[] doctorIds, UUID[] hospitalIds,
+                                    int[][] affiliations, long[] patientIdBits) throws SQLException {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        LocalDate firstDay = now.toLocalDate().minusDays(historyDays);
+        LocalDate lastDay = now.toLocalDate().plusDays(futureDays);
+        int patientCount = patientIdBits.length / 2;
+
+        CopyBuffer slots = new CopyBuffer("slots",
+                "id, created_at, doctor_id, hospital_id, start_time, end_time, status", FLUSH_BYTES + (1 << 20));
+        CopyBuffer appointments = new CopyBuffer("appointments",
+                "id, created_at, doctor_id, hospital_id, slot_id, patient_id, status", FLUSH_BYTES);
+
+        try (Connection connection = dataSource.getConnection()) {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            for (int d = from; d < to; d++) {
+                SplittableRandom random = new SplittableRandom(seed ^ (GOLDEN_GAMMA * (d + 1)));
+                UUID doctorId = doctorIds[d];
+                int dayIndex = 0;
+                for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1), dayIndex++) {
+                    if (day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                        continue;
+                    }
+                    // Doctors rotate between their hospitals by day
+                    UUID hospitalId = hospitalIds[affiliations[d][dayIndex % affiliations[d].length]];
+                    OffsetDateTime dayStart = day.atTime(8, 0).atOffset(ZoneOffset.UTC);
+                    for (int s = 0; s < slotsPerDay; s++) {
+                        OffsetDateTime startTime = dayStart.plusMinutes((long) s * slotMinutes);
+                        OffsetDateTime createdAt = startTime.minusDays(1 + random.nextInt(60));
+                        if (createdAt.isAfter(now)) {
+                            createdAt = now;
+                        }
+                        boolean past = startTime.isBefore(now);
+                        double roll = random.nextDouble();
+                        boolean cancelled = roll < cancelledRate;
+                        boolean booked = !cancelled && roll < cancelledRate + (past ? pastBookedRate : futureBookedRate);
+
+                        UUID slotId = SyntheticNames.uuid(random);
+                        slots.field(slotId).field(createdAt).field(doctorId).field(hospitalId)
+                                .field(startTime).field(startTime.plusMinutes(slotMinutes))
+                                .field(booked ? "BOOKED" : "AVAILABLE");
+                        slots.endRow();
+
+                        if (booked || cancelled) {
+                            int patient = random.nextInt(patientCount);
+                            OffsetDateTime bookedAt = createdAt.plusHours(1 + random.nextInt(24 * 20));
+                            if (bookedAt.isAfter(startTime)) {
+                                bookedAt = startTime;
+                            }
+                            if (bookedAt.isAfter(now)) {
+                                bookedAt = now;
+                            }
+                            appointments.field(SyntheticNames.uuid(random))
+                                    .field(bookedAt)
+                                    .field(doctorId).field(hospitalId).field(slotId)
+                                    .field(new UUID(patientIdBits[2 * patient], patientIdBits[2 * patient + 1]))
+                                    .field(booked ? "BOOKED" : "CANCELLED");
+                            appointments.endRow();
+                        }
+
+                        if (slots.length() >= FLUSH_BYTES) {
+                            flush(copyManager, slots, appointments);
+                        }
+                    }
+                }
+            }
+            flush(copyManager, slots, appointments);
+        }
+    }
+
+    /**
+     * Slots go first so appointment foreign keys resolve
+     */
+    private void flush(CopyManager copyManager, CopyBuffer slots, CopyBuffer appointments) throws SQLException {
+        slotsWritten.addAndGet(slots.flush(copyManager));
+        appointmentsWritten.addAndGet(appointments.flush(copyManager));
+    }
+}
@@ -0,0 +1,60 @@
+package com.medislot.medislot.datagen;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Name, specialty and identifier pools for synthetic data
+ */
+final class SyntheticNames {
+
+    private static final String[] FIRST_NAMES = {
+        "Aysel", "Elvin", "Leyla", "Murad", "Nigar", "Orxan", "Sabina", "Tural", "Ulviyya", "Vusal",
+        "Anna", "Daniel", "Emma", "James", "Laura", "Lucas", "Maria", "Noah", "Olivia", "Samuel",
+        "Fatima", "Kamran", "Lala", "Rashad", "Gunel", "Farid", "Sevda", "Ilham", "Nargiz", "Zaur"
+    };
+
+    private static final String[] LAST_NAMES = {
+        "Aliyev", "Mammadova", "Huseynov", "Hasanova", "Guliyev", "Ismayilova", "Abbasov", "Karimova",
+        "Smith", "Johnson", "Brown", "Garcia", "Miller", "Davis", "Wilson", "Anderson",
+        "Rahimov", "Jafarova", "Nasirov", "Valiyeva", "Safarov", "Mustafayeva", "Bayramov", "Qasimova"
+    };
+
+    private static final String[] SPECIALTIES = {
+        "Cardiology", "Dermatology", "Endocrinology", "Gastroenterology", "General Practice",
+        "Neurology", "Obstetrics", "Oncology", "Ophthalmology", "Orthopedics",
+        "Otolaryngology", "Pediatrics", "Psychiatry", "Pulmonology", "Radiology", "Urology"
+    };
+
+    private static final String[] CITIES = {
+        "Baku", "Ganja", "Sumqayit", "Mingachevir", "Lankaran", "Shaki", "Shirvan", "Nakhchivan"
+    };
+
+    private SyntheticNames() {
+    }
+
+    static String firstName(SplittableRandom random) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+    }
+
+    static String lastName(SplittableRandom random) {
+        return LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    static String specialty(SplittableRandom random) {
+        return SPECIALTIES[random.nextInt(SPECIALTIES.length)];
+    }
+
+    static String city(SplittableRandom random) {
+        return CITIES[random.nextInt(CITIES.length)];
+    }
+
+    /**
+     * Random (version 4) UUID drawn from the given generator, so runs with the same seed repeat
+     */
+    static UUID uuid(SplittableRandom random) {
+        long msb = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -1,7 +1,10 @@
 package com.medislot.medislot.dto;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
 import java.time.OffsetDateTime;
 
+@JsonPropertyOrder({"data", "message", "timestamp"})
 public class ApiResponse<T> {
     private T data;
     private String message;
@@ -0,0 +1,85 @@
+package com.medislot.medislot.dto.admin;
+
+import java.time.OffsetDateTime;
+
+/**
+ * A request that executed the same SQL statement shape more often than the N+1 threshold
+ */
+public class NPlusOneIncidentResponse {
+    private OffsetDateTime timestamp;
+    private String method;
+    private String path;
+    private String correlationId;
+    private String fingerprintId;
+    private String fingerprint;
+    private int executions;
+
+    public NPlusOneIncidentResponse() {
+    }
+
+    public NPlusOneIncidentResponse(OffsetDateTime timestamp, String method, String path, String correlationId, String fingerprintId, String fingerprint, int executions) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.correlationId = correlationId;
+        this.fingerprintId = fingerprintId;
+        this.fingerprint = fingerprint;
+        this.executions = executions;
+    }
+
+    public OffsetDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(OffsetDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public void setCorrelationId(String correlationId) {
+        this.correlationId = correlationId;
+    }
+
+    public String getFingerprintId() {
+        return fingerprintId;
+    }
+
+    public void setFingerprintId(String fingerprintId) {
+        this.fingerprintId = fingerprintId;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public int getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(int executions) {
+        this.executions = executions;
+    }
+}
@@ -0,0 +1,116 @@
+package com.medislot.medislot.dto.admin;
+
+/**
+ * Execution statistics for one SQL statement shape
+ * Times are in milliseconds; percentiles are bucket upper bounds
+ */
+public class SqlStatementStatsResponse {
+    private String id;
+    private String fingerprint;
+    private long executions;
+    private long errors;
+    private double totalTimeMs;
+    private double meanTimeMs;
+    private double p50TimeMs;
+    private double p95TimeMs;
+    private double p99TimeMs;
+    private double maxTimeMs;
+    private long rows;
+    private long flaggedRequests;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public long getExecutions() {
+        return executions;
+    }
+
+    public void setExecutions(long executions) {
+        this.executions = executions;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    public double getTotalTimeMs() {
+        return totalTimeMs;
+    }
+
+    public void setTotalTimeMs(double totalTimeMs) {
+        this.totalTimeMs = totalTimeMs;
+    }
+
+    public double getMeanTimeMs() {
+        return meanTimeMs;
+    }
+
+    public void setMeanTimeMs(double meanTimeMs) {
+        this.meanTimeMs = meanTimeMs;
+    }
+
+    public double getP50TimeMs() {
+        return p50TimeMs;
+    }
+
+    public void setP50TimeMs(double p50TimeMs) {
+        this.p50TimeMs = p50TimeMs;
+    }
+
+    public double getP95TimeMs() {
+        return p95TimeMs;
+    }
+
+    public void setP95TimeMs(double p95TimeMs) {
+        this.p95TimeMs = p95TimeMs;
+    }
+
+    public double getP99TimeMs() {
+        return p99TimeMs;
+    }
+
+    public void setP99TimeMs(double p99TimeMs) {
+        this.p99TimeMs = p99TimeMs;
+    }
+
+    public double getMaxTimeMs() {
+        return maxTimeMs;
+    }
+
+    public void setMaxTimeMs(double maxTimeMs) {
+        this.maxTimeMs = maxTimeMs;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    public long getFlaggedRequests() {
+        return flaggedRequests;
+    }
+
+    public void setFlaggedRequests(long flaggedRequests) {
+        this.flaggedRequests = flaggedRequests;
+    }
+}
@@ -0,0 +1,34 @@
+package com.medislot.medislot.dto.affiliation;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+public class AffiliationResponse {
+    private UUID doctorId;
+    private UUID hospitalId;
+    private OffsetDateTime createdAt;
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public OffsetDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(OffsetDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,10 +1,15 @@
 package com.medislot.medislot.dto.appointment;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.medislot.medislot.entity.AppointmentStatus;
+import com.medislot.medislot.util.FieldSelection;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonFilter(FieldSelection.FILTER_ID)
+@JsonPropertyOrder({"id", "doctorId", "hospitalId", "slotId", "patientId", "status", "createdAt"})
 public class AppointmentResponse {
     private UUID id;
     private UUID doctorId;
@@ -0,0 +1,37 @@
+package com.medislot.medislot.dto.change;
+
+import java.util.List;
+
+/**
+ * A page of the change feed
+ * Pass nextToken as "since" on the next call; when hasMore is true, call again right away
+ */
+public class ChangeFeedResponse {
+    private List<ChangeResponse> changes;
+    private String nextToken;
+    private boolean hasMore;
+
+    public List<ChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ChangeResponse> changes) {
+        this.changes = changes;
+    }
+
+    public String getNextToken() {
+        return nextToken;
+    }
+
+    public void setNextToken(String nextToken) {
+        this.nextToken = nextToken;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
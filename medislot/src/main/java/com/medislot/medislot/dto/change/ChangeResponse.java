@@ -0,0 +1,57 @@
+package com.medislot.medislot.dto.change;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * One changed entity in the change feed
+ * data holds the entity's current representation (same shape as the entity's GET endpoint),
+ * or null when operation is DELETED
+ */
+public class ChangeResponse {
+    private String entityType;
+    private UUID entityId;
+    private String operation;
+    private OffsetDateTime changedAt;
+    private Object data;
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(UUID entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public OffsetDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(OffsetDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public void setData(Object data) {
+        this.data = data;
+    }
+}
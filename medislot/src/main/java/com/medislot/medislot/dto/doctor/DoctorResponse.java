@@ -1,8 +1,14 @@
 package com.medislot.medislot.dto.doctor;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.medislot.medislot.util.FieldSelection;
+
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonFilter(FieldSelection.FILTER_ID)
+@JsonPropertyOrder({"id", "fullName", "specialty", "active", "createdAt"})
 public class DoctorResponse {
     private UUID id;
     private String fullName;
@@ -1,8 +1,12 @@
 package com.medislot.medislot.dto.hospital;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.medislot.medislot.util.FieldSelection;
+
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonFilter(FieldSelection.FILTER_ID)
 public class HospitalResponse {
     private UUID id;
     private String name;
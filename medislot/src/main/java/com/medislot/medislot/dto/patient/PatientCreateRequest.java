@@ -1,5 +1,7 @@
 package com.medislot.medislot.dto.patient;
 
+import com.medislot.medislot.validation.OnCreate;
+import com.medislot.medislot.validation.UniqueEmail;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -15,6 +17,7 @@ public class PatientCreateRequest {
 
     @Email(message = "Email must be valid")
     @Size(max = 100, message = "Email must not exceed 100 characters")
+    @UniqueEmail(groups = OnCreate.class)
     private String email;
 
     private Boolean active = true;
@@ -0,0 +1,46 @@
+package com.medislot.medislot.dto.patient;
+
+import java.util.List;
+
+/**
+ * A page of patient search results, most relevant first
+ * When hasMore is true, request page + 1 for the next results
+ */
+public class PatientSearchResponse {
+    private List<PatientResponse> patients;
+    private int page;
+    private int size;
+    private boolean hasMore;
+
+    public List<PatientResponse> getPatients() {
+        return patients;
+    }
+
+    public void setPatients(List<PatientResponse> patients) {
+        this.patients = patients;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
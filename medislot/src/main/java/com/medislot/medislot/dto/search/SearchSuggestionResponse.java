@@ -0,0 +1,60 @@
+package com.medislot.medislot.dto.search;
+
+import java.util.UUID;
+
+public class SearchSuggestionResponse {
+    private String type;
+    private UUID id;
+    private String name;
+    private String detail;
+    private Boolean active;
+    private String matchedField;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public String getMatchedField() {
+        return matchedField;
+    }
+
+    public void setMatchedField(String matchedField) {
+        this.matchedField = matchedField;
+    }
+}
@@ -0,0 +1,67 @@
+package com.medislot.medislot.dto.slot;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Available slot counts per day of a month, for calendar views
+ * availableByDay[0] is the first day of the month; days are in the requested time zone
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityCalendarResponse {
+    private UUID doctorId;
+    private UUID hospitalId;
+    private String month;
+    private String zone;
+    private int[] availableByDay;
+    private int totalAvailable;
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public String getMonth() {
+        return month;
+    }
+
+    public void setMonth(String month) {
+        this.month = month;
+    }
+
+    public String getZone() {
+        return zone;
+    }
+
+    public void setZone(String zone) {
+        this.zone = zone;
+    }
+
+    public int[] getAvailableByDay() {
+        return availableByDay;
+    }
+
+    public void setAvailableByDay(int[] availableByDay) {
+        this.availableByDay = availableByDay;
+    }
+
+    public int getTotalAvailable() {
+        return totalAvailable;
+    }
+
+    public void setTotalAvailable(int totalAvailable) {
+        this.totalAvailable = totalAvailable;
+    }
+}
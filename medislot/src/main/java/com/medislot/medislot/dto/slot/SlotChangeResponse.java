@@ -0,0 +1,78 @@
+package com.medislot.medislot.dto.slot;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.medislot.medislot.entity.SlotStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Slot change pushed to availability stream subscribers
+ * change is one of created, updated, booked, released, deleted
+ */
+@JsonPropertyOrder({"slotId", "doctorId", "hospitalId", "startTime", "endTime", "status", "change"})
+public class SlotChangeResponse {
+    private UUID slotId;
+    private UUID doctorId;
+    private UUID hospitalId;
+    private OffsetDateTime startTime;
+    private OffsetDateTime endTime;
+    private SlotStatus status;
+    private String change;
+
+    public UUID getSlotId() {
+        return slotId;
+    }
+
+    public void setSlotId(UUID slotId) {
+        this.slotId = slotId;
+    }
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public OffsetDateTime getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(OffsetDateTime startTime) {
+        this.startTime = startTime;
+    }
+
+    public OffsetDateTime getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(OffsetDateTime endTime) {
+        this.endTime = endTime;
+    }
+
+    public SlotStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SlotStatus status) {
+        this.status = status;
+    }
+
+    public String getChange() {
+        return change;
+    }
+
+    public void setChange(String change) {
+        this.change = change;
+    }
+}
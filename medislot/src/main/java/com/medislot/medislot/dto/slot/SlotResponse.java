@@ -1,10 +1,15 @@
 package com.medislot.medislot.dto.slot;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.util.FieldSelection;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
 
+@JsonFilter(FieldSelection.FILTER_ID)
+@JsonPropertyOrder({"id", "doctorId", "hospitalId", "startTime", "endTime", "status", "createdAt"})
 public class SlotResponse {
     private UUID id;
     private UUID doctorId;
@@ -0,0 +1,54 @@
+package com.medislot.medislot.dto.utilization;
+
+import java.time.LocalDate;
+
+/**
+ * Slot counts of one day (UTC); utilization is booked / (available + booked), null without slots
+ */
+public class UtilizationDayResponse {
+    private LocalDate day;
+    private long availableSlots;
+    private long bookedSlots;
+    private long cancelledAppointments;
+    private Double utilization;
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public long getAvailableSlots() {
+        return availableSlots;
+    }
+
+    public void setAvailableSlots(long availableSlots) {
+        this.availableSlots = availableSlots;
+    }
+
+    public long getBookedSlots() {
+        return bookedSlots;
+    }
+
+    public void setBookedSlots(long bookedSlots) {
+        this.bookedSlots = bookedSlots;
+    }
+
+    public long getCancelledAppointments() {
+        return cancelledAppointments;
+    }
+
+    public void setCancelledAppointments(long cancelledAppointments) {
+        this.cancelledAppointments = cancelledAppointments;
+    }
+
+    public Double getUtilization() {
+        return utilization;
+    }
+
+    public void setUtilization(Double utilization) {
+        this.utilization = utilization;
+    }
+}
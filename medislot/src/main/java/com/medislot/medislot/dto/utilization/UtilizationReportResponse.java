@@ -0,0 +1,65 @@
+package com.medislot.medislot.dto.utilization;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Utilization of a doctor or hospital per day over a date range, with the range total
+ */
+public class UtilizationReportResponse {
+    private UUID doctorId;
+    private UUID hospitalId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<UtilizationDayResponse> days;
+    private UtilizationDayResponse total;
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<UtilizationDayResponse> getDays() {
+        return days;
+    }
+
+    public void setDays(List<UtilizationDayResponse> days) {
+        this.days = days;
+    }
+
+    public UtilizationDayResponse getTotal() {
+        return total;
+    }
+
+    public void setTotal(UtilizationDayResponse total) {
+        this.total = total;
+    }
+}
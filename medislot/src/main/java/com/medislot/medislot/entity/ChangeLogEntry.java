@@ -0,0 +1,111 @@
+package com.medislot.medislot.entity;
+
+import jakarta.persistence.*;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Change Log Entry
+ * Append-only record of a created, updated or deleted entity, read by the change feed.
+ * tx_id is the writing transaction's ID (pg_current_xact_id), which lets readers skip rows
+ * of transactions that may still be in progress
+ */
+@Entity
+@Table(name = "change_log", indexes = {
+    @Index(name = "idx_change_log_tx_seq", columnList = "tx_id, seq"),
+    @Index(name = "idx_change_log_changed_at", columnList = "changed_at")
+})
+public class ChangeLogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "seq", updatable = false, nullable = false)
+    private Long seq;
+
+    @Column(name = "tx_id", nullable = false, updatable = false)
+    private Long txId;
+
+    @Column(name = "entity_type", nullable = false, updatable = false, length = 50)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false, updatable = false)
+    private UUID entityId;
+
+    @Column(name = "operation", nullable = false, updatable = false, length = 10)
+    private String operation;
+
+    // Doctor / hospital the change belongs to (slots, appointments) or is (doctors, hospitals)
+    @Column(name = "doctor_id", updatable = false)
+    private UUID doctorId;
+
+    @Column(name = "hospital_id", updatable = false)
+    private UUID hospitalId;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private OffsetDateTime changedAt;
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(Long seq) {
+        this.seq = seq;
+    }
+
+    public Long getTxId() {
+        return txId;
+    }
+
+    public void setTxId(Long txId) {
+        this.txId = txId;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(UUID entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public OffsetDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(OffsetDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+}
@@ -0,0 +1,80 @@
+package com.medislot.medislot.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Slot Utilization
+ * Number of slots (or cancelled appointments) of a doctor at a hospital on a day (UTC) in one
+ * status. Maintained incrementally by UtilizationCounters from committed slot and appointment
+ * transitions, so reports read one row per day and status instead of every slot
+ */
+@Entity
+@Table(name = "slot_utilization", indexes = {
+    @Index(name = "idx_slot_utilization_hospital_day", columnList = "hospital_id, day")
+})
+@IdClass(SlotUtilizationId.class)
+public class SlotUtilization {
+
+    @Id
+    @Column(name = "doctor_id", nullable = false, updatable = false)
+    private UUID doctorId;
+
+    @Id
+    @Column(name = "hospital_id", nullable = false, updatable = false)
+    private UUID hospitalId;
+
+    @Id
+    @Column(name = "day", nullable = false, updatable = false)
+    private LocalDate day;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, updatable = false, length = 20)
+    private UtilizationStatus status;
+
+    @Column(name = "total", nullable = false)
+    private long total;
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public UtilizationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(UtilizationStatus status) {
+        this.status = status;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+}
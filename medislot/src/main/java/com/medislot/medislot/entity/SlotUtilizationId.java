@@ -0,0 +1,72 @@
+package com.medislot.medislot.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+public class SlotUtilizationId implements Serializable {
+
+    private UUID doctorId;
+    private UUID hospitalId;
+    private LocalDate day;
+    private UtilizationStatus status;
+
+    public SlotUtilizationId() {
+    }
+
+    public SlotUtilizationId(UUID doctorId, UUID hospitalId, LocalDate day, UtilizationStatus status) {
+        this.doctorId = doctorId;
+        this.hospitalId = hospitalId;
+        this.day = day;
+        this.status = status;
+    }
+
+    public UUID getDoctorId() {
+        return doctorId;
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        this.doctorId = doctorId;
+    }
+
+    public UUID getHospitalId() {
+        return hospitalId;
+    }
+
+    public void setHospitalId(UUID hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    public LocalDate getDay() {
+        return day;
+    }
+
+    public void setDay(LocalDate day) {
+        this.day = day;
+    }
+
+    public UtilizationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(UtilizationStatus status) {
+        this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SlotUtilizationId that = (SlotUtilizationId) o;
+        return Objects.equals(doctorId, that.doctorId) &&
+                Objects.equals(hospitalId, that.hospitalId) &&
+                Objects.equals(day, that.day) &&
+                status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(doctorId, hospitalId, day, status);
+    }
+}
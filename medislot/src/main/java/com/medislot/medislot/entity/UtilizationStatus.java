@@ -0,0 +1,15 @@
+package com.medislot.medislot.entity;
+
+/**
+ * Counted state of a utilization row: slots currently available or booked on the day,
+ * and appointments cancelled for slots of the day
+ */
+public enum UtilizationStatus {
+    AVAILABLE,
+    BOOKED,
+    CANCELLED;
+
+    public static UtilizationStatus of(SlotStatus status) {
+        return status == SlotStatus.BOOKED ? BOOKED : AVAILABLE;
+    }
+}
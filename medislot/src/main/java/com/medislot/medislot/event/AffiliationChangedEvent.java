@@ -0,0 +1,17 @@
+package com.medislot.medislot.event;
+
+import java.util.UUID;
+
+/**
+ * Affiliation Changed Event
+ * Published when a doctor is affiliated with or removed from a hospital; carries the doctor
+ * attributes the affiliation index filters on
+ */
+public record AffiliationChangedEvent(
+        UUID doctorId,
+        UUID hospitalId,
+        String specialty,
+        Boolean active,
+        boolean affiliated
+) {
+}
@@ -0,0 +1,51 @@
+package com.medislot.medislot.event;
+
+import com.medislot.medislot.entity.Appointment;
+import com.medislot.medislot.entity.AppointmentStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Appointment Changed Event
+ * Published when an appointment is booked, cancelled, changes status or is deleted
+ */
+public record AppointmentChangedEvent(
+        UUID appointmentId,
+        UUID slotId,
+        UUID doctorId,
+        UUID hospitalId,
+        UUID patientId,
+        AppointmentStatus status,
+        String change,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "appointment";
+
+    public static final String BOOKED = "booked";
+    public static final String CANCELLED = "cancelled";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    public static AppointmentChangedEvent of(Appointment appointment, String change) {
+        return new AppointmentChangedEvent(appointment.getId(), appointment.getSlotId(),
+                appointment.getDoctorId(), appointment.getHospitalId(), appointment.getPatientId(),
+                appointment.getStatus(), change, OffsetDateTime.now());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return appointmentId;
+    }
+
+    @Override
+    public String eventType() {
+        return AGGREGATE_TYPE + "." + change;
+    }
+}
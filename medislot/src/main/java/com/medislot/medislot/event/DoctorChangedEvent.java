@@ -0,0 +1,46 @@
+package com.medislot.medislot.event;
+
+import com.medislot.medislot.entity.Doctor;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Doctor Changed Event
+ * Published when a doctor is created, edited, activated, deactivated or deleted
+ */
+public record DoctorChangedEvent(
+        UUID doctorId,
+        String fullName,
+        String specialty,
+        Boolean active,
+        String change,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "doctor";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    public static DoctorChangedEvent of(Doctor doctor, String change) {
+        return new DoctorChangedEvent(doctor.getId(), doctor.getFullName(), doctor.getSpecialty(),
+                doctor.getActive(), change, OffsetDateTime.now());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return doctorId;
+    }
+
+    @Override
+    public String eventType() {
+        return AGGREGATE_TYPE + "." + change;
+    }
+}
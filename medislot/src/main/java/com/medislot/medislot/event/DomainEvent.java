@@ -0,0 +1,34 @@
+package com.medislot.medislot.event;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Domain Event
+ * A state change of an aggregate, published through the Spring ApplicationEventPublisher
+ * inside the transaction that makes the change
+ */
+public interface DomainEvent {
+
+    /**
+     * Aggregate kind, e.g. "slot" or "appointment"
+     */
+    String aggregateType();
+
+    /**
+     * ID of the changed aggregate; events of one aggregate are delivered in order
+     */
+    UUID aggregateId();
+
+    /**
+     * Event name, e.g. "appointment.booked"
+     */
+    String eventType();
+
+    /**
+     * What happened to the aggregate, e.g. "created", "booked", "deleted"
+     */
+    String change();
+
+    OffsetDateTime occurredAt();
+}
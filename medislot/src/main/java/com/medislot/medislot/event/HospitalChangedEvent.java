@@ -0,0 +1,46 @@
+package com.medislot.medislot.event;
+
+import com.medislot.medislot.entity.Hospital;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Hospital Changed Event
+ * Published when a hospital is created, edited, activated, deactivated or deleted
+ */
+public record HospitalChangedEvent(
+        UUID hospitalId,
+        String name,
+        String address,
+        Boolean active,
+        String change,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "hospital";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    public static HospitalChangedEvent of(Hospital hospital, String change) {
+        return new HospitalChangedEvent(hospital.getId(), hospital.getName(), hospital.getAddress(),
+                hospital.getActive(), change, OffsetDateTime.now());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return hospitalId;
+    }
+
+    @Override
+    public String eventType() {
+        return AGGREGATE_TYPE + "." + change;
+    }
+}
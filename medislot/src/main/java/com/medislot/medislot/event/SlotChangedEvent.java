@@ -0,0 +1,51 @@
+package com.medislot.medislot.event;
+
+import com.medislot.medislot.entity.Slot;
+import com.medislot.medislot.entity.SlotStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Slot Changed Event
+ * Published when a slot is created, edited, booked, released or deleted
+ */
+public record SlotChangedEvent(
+        UUID slotId,
+        UUID doctorId,
+        UUID hospitalId,
+        OffsetDateTime startTime,
+        OffsetDateTime endTime,
+        SlotStatus status,
+        String change,
+        OffsetDateTime occurredAt
+) implements DomainEvent {
+
+    public static final String AGGREGATE_TYPE = "slot";
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String BOOKED = "booked";
+    public static final String RELEASED = "released";
+    public static final String DELETED = "deleted";
+
+    public static SlotChangedEvent of(Slot slot, String change) {
+        return new SlotChangedEvent(slot.getId(), slot.getDoctorId(), slot.getHospitalId(),
+                slot.getStartTime(), slot.getEndTime(), slot.getStatus(), change, OffsetDateTime.now());
+    }
+
+    @Override
+    public String aggregateType() {
+        return AGGREGATE_TYPE;
+    }
+
+    @Override
+    public UUID aggregateId() {
+        return slotId;
+    }
+
+    @Override
+    public String eventType() {
+        return AGGREGATE_TYPE + "." + change;
+    }
+}
@@ -0,0 +1,60 @@
+package com.medislot.medislot.event;
+
+import com.medislot.medislot.entity.Slot;
+import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.entity.UtilizationStatus;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Utilization Changed Event
+ * Published for every slot or appointment state transition: one is subtracted from the
+ * (fromDay, fromStatus) counter and one added to (toDay, toStatus); either side is null when
+ * a slot is created or removed. Days are UTC days of the slot start
+ */
+public record UtilizationChangedEvent(
+        UUID doctorId,
+        UUID hospitalId,
+        LocalDate fromDay,
+        UtilizationStatus fromStatus,
+        LocalDate toDay,
+        UtilizationStatus toStatus
+) {
+
+    public static UtilizationChangedEvent slotCreated(Slot slot) {
+        return new UtilizationChangedEvent(slot.getDoctorId(), slot.getHospitalId(),
+                null, null, dayOf(slot.getStartTime()), UtilizationStatus.of(slot.getStatus()));
+    }
+
+    public static UtilizationChangedEvent slotRemoved(Slot slot) {
+        return new UtilizationChangedEvent(slot.getDoctorId(), slot.getHospitalId(),
+                dayOf(slot.getStartTime()), UtilizationStatus.of(slot.getStatus()), null, null);
+    }
+
+    public static UtilizationChangedEvent slotMoved(UUID doctorId, UUID hospitalId,
+                                                    OffsetDateTime fromStart, SlotStatus fromStatus,
+                                                    OffsetDateTime toStart, SlotStatus toStatus) {
+        return new UtilizationChangedEvent(doctorId, hospitalId,
+                dayOf(fromStart), UtilizationStatus.of(fromStatus), dayOf(toStart), UtilizationStatus.of(toStatus));
+    }
+
+    public static UtilizationChangedEvent appointmentCancelled(Slot slot) {
+        return new UtilizationChangedEvent(slot.getDoctorId(), slot.getHospitalId(),
+                null, null, dayOf(slot.getStartTime()), UtilizationStatus.CANCELLED);
+    }
+
+    /**
+     * Whether the transition leaves every counter unchanged
+     */
+    public boolean isNoop() {
+        return fromStatus == toStatus && Objects.equals(fromDay, toDay);
+    }
+
+    public static LocalDate dayOf(OffsetDateTime time) {
+        return time.withOffsetSameInstant(ZoneOffset.UTC).toLocalDate();
+    }
+}
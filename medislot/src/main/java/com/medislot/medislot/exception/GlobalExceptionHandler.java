@@ -113,6 +113,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
     }
 
+    /**
+     * Handle ServiceUnavailableException (503)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex, WebRequest request) {
+        logger.warn("ServiceUnavailableException: {} - Path: {} - CorrelationId: {}", 
+                ex.getMessage(), getRequestPath(request), getCorrelationId());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                getRequestPath(request),
+                getCorrelationId()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    /**
+     * Handle GoneException (410)
+     */
+    @ExceptionHandler(GoneException.class)
+    public ResponseEntity<ErrorResponse> handleGoneException(GoneException ex, WebRequest request) {
+        logger.warn("GoneException: {} - Path: {} - CorrelationId: {}", 
+                ex.getMessage(), getRequestPath(request), getCorrelationId());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.GONE.value(),
+                HttpStatus.GONE.getReasonPhrase(),
+                ex.getMessage(),
+                getRequestPath(request),
+                getCorrelationId()
+        );
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
     /**
      * Handle validation errors (400)
      */
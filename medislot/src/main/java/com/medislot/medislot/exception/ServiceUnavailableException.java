@@ -0,0 +1,11 @@
+package com.medislot.medislot.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException() {
+        super("Service temporarily unavailable");
+    }
+}
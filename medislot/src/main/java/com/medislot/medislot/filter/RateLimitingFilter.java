@@ -0,0 +1,245 @@
+package com.medislot.medislot.filter;
+
+import com.medislot.medislot.dto.ErrorResponse;
+import com.medislot.medislot.service.JwtService;
+import com.medislot.medislot.util.ClientIpResolver;
+import com.medislot.medislot.util.CorrelationIdHolder;
+import com.medislot.medislot.util.TokenBucket;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate Limiting Filter
+ * Enforces per-route token buckets keyed by the authenticated user (JWT subject) or the client IP
+ * Runs right after CorrelationIdFilter and before Spring Security, so throttled requests are
+ * rejected with 429 before the user lookup or any other database work happens
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RateLimitingFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitingFilter.class);
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final JwtService jwtService;
+    private final ClientIpResolver clientIpResolver;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final List<RouteLimit> routeLimits;
+    private final int maxKeys;
+    private final long idleEvictionNanos;
+
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong nextSweepNanos = new AtomicLong(System.nanoTime() + SWEEP_INTERVAL_NANOS);
+
+    public RateLimitingFilter(JwtService jwtService,
+                              ClientIpResolver clientIpResolver,
+                              ObjectMapper objectMapper,
+                              @Value("${rate-limit.enabled:true}") boolean enabled,
+                              @Value("${rate-limit.routes:/api/**=120:40}") String[] routes,
+                              @Value("${rate-limit.max-keys:100000}") int maxKeys,
+                              @Value("${rate-limit.idle-eviction-seconds:600}") long idleEvictionSeconds) {
+        this.jwtService = jwtService;
+        this.clientIpResolver = clientIpResolver;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.routeLimits = parseRoutes(routes);
+        this.maxKeys = maxKeys;
+        this.idleEvictionNanos = TimeUnit.SECONDS.toNanos(idleEvictionSeconds);
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse,
+                        FilterChain filterChain) throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+
+        // CORS preflight requests never reach a controller
+        if (!enabled || "OPTIONS".equals(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RouteLimit routeLimit = findRouteLimit(request.getRequestURI());
+        if (routeLimit == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long now = System.nanoTime();
+        TokenBucket bucket = getBucket(routeLimit, resolveClientKey(request), now);
+        long waitNanos = bucket.tryConsume(now);
+
+        if (waitNanos > 0) {
+            rejectRequest(request, response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Resolve the key a request is throttled by
+     * Uses the JWT subject when a valid token is present, otherwise the client IP
+     */
+    private String resolveClientKey(HttpServletRequest request) {
+        String authHeader = request.getHeader(AUTHORIZATION_HEADER);
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            try {
+                String subject = jwtService.extractUsername(authHeader.substring(BEARER_PREFIX.length()));
+                if (subject != null) {
+                    return "user:" + subject;
+                }
+            } catch (Exception e) {
+                // Invalid or expired token - fall back to IP, authentication will reject it later
+                logger.debug("Rate limiting by IP, token could not be parsed: {}", e.getMessage());
+            }
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+
+    /**
+     * Find the first configured route limit matching the request path
+     */
+    private RouteLimit findRouteLimit(String requestUri) {
+        PathContainer path = PathContainer.parsePath(requestUri);
+        for (RouteLimit routeLimit : routeLimits) {
+            if (routeLimit.pattern().matches(path)) {
+                return routeLimit;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get or create the bucket for a route and client
+     * When the map is full and nothing is idle, new clients share one overflow bucket per route
+     * so memory stays bounded even under key churn
+     */
+    private TokenBucket getBucket(RouteLimit routeLimit, String clientKey, long now) {
+        String key = routeLimit.patternString() + "|" + clientKey;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.size() >= maxKeys || now - nextSweepNanos.get() > 0) {
+            evictIdleBuckets(now);
+        }
+        if (buckets.size() >= maxKeys) {
+            return routeLimit.overflowBucket();
+        }
+        return buckets.computeIfAbsent(key,
+                k -> new TokenBucket(routeLimit.capacity(), routeLimit.refillPerSecond(), now));
+    }
+
+    /**
+     * Remove buckets that have been idle longer than the eviction period
+     * Only one thread sweeps at a time, others carry on without waiting
+     */
+    private void evictIdleBuckets(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.isIdle(now, idleEvictionNanos));
+            nextSweepNanos.set(now + SWEEP_INTERVAL_NANOS);
+            logger.debug("Evicted {} idle rate limit buckets, {} remaining", before - buckets.size(), buckets.size());
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Write a 429 response with Retry-After header
+     */
+    private void rejectRequest(HttpServletRequest request, HttpServletResponse response,
+                               long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        String correlationId = CorrelationIdHolder.getCorrelationId();
+
+        logger.warn("Rate limit exceeded [{}] {} {} - retry after {}s",
+                correlationId, request.getMethod(), request.getRequestURI(), retryAfterSeconds);
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+                "Rate limit exceeded. Retry after " + retryAfterSeconds + " seconds",
+                request.getRequestURI(),
+                correlationId
+        );
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Parse route limits in the form pattern=capacity:refillPerSecond
+     */
+    private static List<RouteLimit> parseRoutes(String[] routes) {
+        PathPatternParser parser = new PathPatternParser();
+        List<RouteLimit> limits = new ArrayList<>();
+        for (String route : routes) {
+            String trimmed = route.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.lastIndexOf('=');
+            int colon = trimmed.lastIndexOf(':');
+            if (separator <= 0 || colon < separator) {
+                throw new IllegalArgumentException("Invalid rate limit route (expected pattern=capacity:refillPerSecond): " + route);
+            }
+            String pattern = trimmed.substring(0, separator);
+            long capacity = Long.parseLong(trimmed.substring(separator + 1, colon));
+            double refillPerSecond = Double.parseDouble(trimmed.substring(colon + 1));
+            limits.add(new RouteLimit(pattern, parser.parse(pattern), capacity, refillPerSecond,
+                    new TokenBucket(capacity, refillPerSecond, System.nanoTime())));
+            logger.info("Rate limit configured: {} -> capacity {}, refill {}/s", pattern, capacity, refillPerSecond);
+        }
+        return List.copyOf(limits);
+    }
+
+    private record RouteLimit(String patternString, PathPattern pattern, long capacity,
+                              double refillPerSecond, TokenBucket overflowBucket) {
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        logger.info("RateLimitingFilter initialized (enabled: {})", enabled);
+    }
+
+    @Override
+    public void destroy() {
+        logger.info("RateLimitingFilter destroyed");
+    }
+}
@@ -1,20 +1,28 @@
 package com.medislot.medislot.filter;
 
+import com.medislot.medislot.logging.AccessLogWriter;
+import com.medislot.medislot.util.ClientIpResolver;
 import com.medislot.medislot.util.CorrelationIdHolder;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.util.Enumeration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Request Logging Filter
- * Logs HTTP requests and responses with timing information
+ * Records one access log entry per request with timing information
+ * Successful requests are head-sampled (decided when the request starts); errors, failures and
+ * slow requests are always kept. Entries are handed to AccessLogWriter, which formats and writes
+ * them off the request thread
  * This filter runs after CorrelationIdFilter (Order 2)
  */
 @Component
@@ -23,6 +31,21 @@ public class RequestLoggingFilter implements Filter {
     
     private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
     
+    private final AccessLogWriter accessLogWriter;
+    private final ClientIpResolver clientIpResolver;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    
+    public RequestLoggingFilter(AccessLogWriter accessLogWriter,
+                                ClientIpResolver clientIpResolver,
+                                @Value("${access-log.sample-rate:1.0}") double sampleRate,
+                                @Value("${access-log.slow-threshold-ms:500}") long slowThresholdMs) {
+        this.accessLogWriter = accessLogWriter;
+        this.clientIpResolver = clientIpResolver;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+    
     @Override
     public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse,
                         FilterChain filterChain) throws IOException, ServletException {
@@ -30,70 +53,35 @@ public class RequestLoggingFilter implements Filter {
         HttpServletRequest request = (HttpServletRequest) servletRequest;
         HttpServletResponse response = (HttpServletResponse) servletResponse;
         
-        // Record start time
-        long startTime = System.currentTimeMillis();
+        // Head sampling: decide up front whether a successful request is logged
+        boolean sampled = sampleRate >= 1.0
+                || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
         
-        // Get correlation ID from ThreadLocal
-        String correlationId = CorrelationIdHolder.getCorrelationId();
+        // Record start time
+        long startEpochMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
         
-        // Log incoming request
-        logRequest(request, correlationId);
+        // Log headers in debug mode
+        if (logger.isDebugEnabled()) {
+            logHeaders(request, CorrelationIdHolder.getCorrelationId());
+        }
         
+        boolean failed = true;
         try {
             // Continue with the filter chain
             filterChain.doFilter(request, response);
+            failed = false;
         } finally {
-            // Calculate time taken
-            long timeTaken = System.currentTimeMillis() - startTime;
+            long durationNanos = System.nanoTime() - startNanos;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            boolean slow = durationNanos >= slowThresholdNanos;
             
-            // Log response
-            logResponse(request, response, timeTaken, correlationId);
-        }
-    }
-    
-    /**
-     * Log incoming request details
-     */
-    private void logRequest(HttpServletRequest request, String correlationId) {
-        String method = request.getMethod();
-        String path = request.getRequestURI();
-        String queryString = request.getQueryString();
-        String fullPath = queryString != null ? path + "?" + queryString : path;
-        String clientIp = getClientIpAddress(request);
-        
-        logger.info("→ Incoming Request [{}] {} {} from {}", 
-                correlationId, method, fullPath, clientIp);
-        
-        // Log headers in debug mode
-        if (logger.isDebugEnabled()) {
-            logHeaders(request, correlationId);
-        }
-    }
-    
-    /**
-     * Log response details
-     */
-    private void logResponse(HttpServletRequest request, HttpServletResponse response, 
-                            long timeTaken, String correlationId) {
-        String method = request.getMethod();
-        String path = request.getRequestURI();
-        int status = response.getStatus();
-        
-        String logLevel = determineLogLevel(status);
-        
-        String message = String.format("← Response [%s] %s %s - Status: %d - Time: %dms",
-                correlationId, method, path, status, timeTaken);
-        
-        // Log based on status code
-        switch (logLevel) {
-            case "ERROR":
-                logger.error(message);
-                break;
-            case "WARN":
-                logger.warn(message);
-                break;
-            default:
-                logger.info(message);
+            // Tail override: errors and slow requests are always kept
+            if (sampled || slow || status >= 400) {
+                accessLogWriter.record(startEpochMillis, durationNanos, slow,
+                        request.getMethod(), request.getRequestURI(), request.getQueryString(), status,
+                        clientIpResolver.resolve(request), CorrelationIdHolder.getCorrelationId());
+            }
         }
     }
     
@@ -123,19 +111,6 @@ public class RequestLoggingFilter implements Filter {
         logger.debug(headers.toString());
     }
     
-    /**
-     * Determine log level based on HTTP status code
-     */
-    private String determineLogLevel(int status) {
-        if (status >= 500) {
-            return "ERROR";
-        } else if (status >= 400) {
-            return "WARN";
-        } else {
-            return "INFO";
-        }
-    }
-    
     /**
      * Check if header contains sensitive information
      */
@@ -148,41 +123,10 @@ public class RequestLoggingFilter implements Filter {
                lowerCaseHeader.contains("api-key");
     }
     
-    /**
-     * Get client IP address from request
-     */
-    private String getClientIpAddress(HttpServletRequest request) {
-        String[] headerNames = {
-            "X-Forwarded-For",
-            "Proxy-Client-IP",
-            "WL-Proxy-Client-IP",
-            "HTTP_X_FORWARDED_FOR",
-            "HTTP_X_FORWARDED",
-            "HTTP_X_CLUSTER_CLIENT_IP",
-            "HTTP_CLIENT_IP",
-            "HTTP_FORWARDED_FOR",
-            "HTTP_FORWARDED",
-            "HTTP_VIA",
-            "REMOTE_ADDR"
-        };
-        
-        for (String header : headerNames) {
-            String ip = request.getHeader(header);
-            if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-                // Handle multiple IPs (take the first one)
-                if (ip.contains(",")) {
-                    ip = ip.split(",")[0].trim();
-                }
-                return ip;
-            }
-        }
-        
-        return request.getRemoteAddr();
-    }
-    
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
-        logger.info("RequestLoggingFilter initialized");
+        logger.info("RequestLoggingFilter initialized (sample rate: {}, slow threshold: {}ms)",
+                sampleRate, TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos));
     }
     
     @Override
@@ -0,0 +1,252 @@
+package com.medislot.medislot.filter;
+
+import com.medislot.medislot.versioning.ETags;
+import com.medislot.medislot.versioning.EntityVersionRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Response Cache Filter
+ * Keeps the serialized body (plain and gzip) of hot read endpoints that are identical for every
+ * caller between writes: /api/doctors/active, /api/hospitals/active and
+ * /api/availability/doctor/{doctorId}/available.
+ * Entries are keyed by path, negotiated format and ?fields= selection (the ETag variant) and stamped
+ * with the entity version of the route (EntityVersionRegistry), which moves after every commit
+ * touching it, so a stale entry is never served. A hit writes the stored bytes without running the
+ * controller, mapper or Jackson. The gzip body carries its own strong ETag (a "-gzip" suffix), as
+ * validators must differ between content codings. At most max-entries and max-bytes (plain plus
+ * gzip) are kept, least recently used dropped first; bodies over max-entry-bytes are not cached.
+ * This filter runs after Spring Security and SqlRequestTrackingFilter (Order 4)
+ */
+@Component
+@Order(4)
+public class ResponseCacheFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheFilter.class);
+    private static final String GZIP = "gzip";
+    private static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final List<CachedRoute> routes;
+    // Access-ordered; compound updates synchronize on the map
+    private final Map<String, Entry> entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+    private long totalBytes;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheFilter(EntityVersionRegistry entityVersionRegistry,
+                               MeterRegistry meterRegistry,
+                               @Value("${response-cache.enabled:true}") boolean enabled,
+                               @Value("${response-cache.max-entries:10000}") int maxEntries,
+                               @Value("${response-cache.max-bytes:67108864}") long maxBytes,
+                               @Value("${response-cache.max-entry-bytes:1048576}") long maxEntryBytes) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxEntryBytes;
+        this.routes = List.of(
+                new CachedRoute("/api/doctors/active", variables -> entityVersionRegistry.doctorsVersion()),
+                new CachedRoute("/api/hospitals/active", variables -> entityVersionRegistry.hospitalsVersion()),
+                new CachedRoute("/api/availability/doctor/{doctorId}/available",
+                        variables -> entityVersionRegistry.doctorSlotsVersion(UUID.fromString(variables.get("doctorId")))));
+        this.hits = Counter.builder("medislot.response.cache")
+                .description("Response cache lookups by result")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("medislot.response.cache")
+                .description("Response cache lookups by result")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse,
+                        FilterChain filterChain) throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        HttpServletResponse response = (HttpServletResponse) servletResponse;
+        String version = enabled && HttpMethod.GET.matches(request.getMethod()) ? resolveVersion(request) : null;
+        if (version == null) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        String key = cacheKey(request);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version().equals(version)) {
+            hits.increment();
+            writeEntry(entry, request, response);
+            return;
+        }
+        misses.increment();
+        response.setHeader(HttpHeaders.VARY, VARY);
+
+        // The version was read before the controller ran: a commit in between leaves this
+        // entry behind the registry, so it is replaced on the next request instead of served
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(servletRequest, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+                byte[] body = wrapper.getContentAsByteArray();
+                if (body.length <= maxEntryBytes) {
+                    store(key, new Entry(version, wrapper.getContentType(),
+                            wrapper.getHeader(HttpHeaders.ETAG), body, gzip(body)));
+                }
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Add or replace an entry, then drop least recently used entries until both limits hold
+     */
+    private void store(String key, Entry entry) {
+        synchronized (entries) {
+            Entry previous = entries.put(key, entry);
+            totalBytes += entry.size() - (previous != null ? previous.size() : 0);
+            Iterator<Entry> eldest = entries.values().iterator();
+            while ((entries.size() > maxEntries || totalBytes > maxBytes) && eldest.hasNext()) {
+                totalBytes -= eldest.next().size();
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Version of the cached route matching the request, or null when the request is not cacheable
+     */
+    private String resolveVersion(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (CachedRoute route : routes) {
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match != null) {
+                try {
+                    return route.version().apply(match.getUriVariables());
+                } catch (IllegalArgumentException e) {
+                    // Malformed path variable - let the controller produce the error response
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Other query parameters and Accept variants that negotiate to the same format share an entry,
+     * so clients cannot grow the cache by varying them
+     */
+    private static String cacheKey(HttpServletRequest request) {
+        return request.getRequestURI() + "|" + ETags.variant(new ServletWebRequest(request));
+    }
+
+    private static void writeEntry(Entry entry, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.VARY, VARY);
+        boolean gzip = acceptsGzip(request);
+        String etag = gzip ? gzipETag(entry.etag()) : entry.etag();
+        if (etag != null && new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(entry.contentType());
+        byte[] body = entry.body();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            body = entry.gzipBody();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Strong ETag of the gzip coding: the identity ETag with a suffix inside the quotes
+     */
+    private static String gzipETag(String etag) {
+        if (etag == null || !etag.endsWith("\"")) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase(GZIP)) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body);
+        }
+        return compressed.toByteArray();
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        logger.info("ResponseCacheFilter initialized (enabled: {}, max entries: {}, max bytes: {})",
+                enabled, maxEntries, maxBytes);
+    }
+
+    @Override
+    public void destroy() {
+        synchronized (entries) {
+            entries.clear();
+            totalBytes = 0;
+        }
+        logger.info("ResponseCacheFilter destroyed");
+    }
+
+    private record CachedRoute(PathPattern pattern, Function<Map<String, String>, String> version) {
+
+        CachedRoute(String pattern, Function<Map<String, String>, String> version) {
+            this(PathPatternParser.defaultInstance.parse(pattern), version);
+        }
+    }
+
+    private record Entry(String version, String contentType, String etag, byte[] body, byte[] gzipBody) {
+
+        long size() {
+            return body.length + gzipBody.length;
+        }
+    }
+}
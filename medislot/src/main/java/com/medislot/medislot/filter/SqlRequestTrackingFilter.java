@@ -0,0 +1,65 @@
+package com.medislot.medislot.filter;
+
+import com.medislot.medislot.monitoring.sql.RequestSqlTracker;
+import com.medislot.medislot.monitoring.sql.SqlStatsRegistry;
+import com.medislot.medislot.util.CorrelationIdHolder;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * SQL Request Tracking Filter
+ * Counts statements per SQL fingerprint during each request and reports shapes repeated
+ * more often than sql-stats.n-plus-one-threshold as possible N+1 patterns
+ * This filter runs after RequestLoggingFilter (Order 3)
+ */
+@Component
+@Order(3)
+public class SqlRequestTrackingFilter implements Filter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlRequestTrackingFilter.class);
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+    private final boolean enabled;
+
+    public SqlRequestTrackingFilter(SqlStatsRegistry sqlStatsRegistry,
+                                    @Value("${sql-stats.enabled:true}") boolean enabled) {
+        this.sqlStatsRegistry = sqlStatsRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse,
+                        FilterChain filterChain) throws IOException, ServletException {
+
+        if (!enabled) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+
+        HttpServletRequest request = (HttpServletRequest) servletRequest;
+        RequestSqlTracker.begin();
+        try {
+            filterChain.doFilter(servletRequest, servletResponse);
+        } finally {
+            sqlStatsRegistry.inspectRequest(RequestSqlTracker.end(), request.getMethod(),
+                    request.getRequestURI(), CorrelationIdHolder.getCorrelationId());
+        }
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        logger.info("SqlRequestTrackingFilter initialized (enabled: {})", enabled);
+    }
+
+    @Override
+    public void destroy() {
+        logger.info("SqlRequestTrackingFilter destroyed");
+    }
+}
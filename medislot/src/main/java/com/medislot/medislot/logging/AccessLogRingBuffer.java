@@ -0,0 +1,143 @@
+package com.medislot.medislot.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free multi-producer, single-consumer ring buffer of access log entries
+ * Entries are preallocated and reused, so recording a request only copies references and
+ * primitives into a slot. Producers claim a sequence with compare-and-set and publish it
+ * with a release store; when the buffer is full the record is dropped and counted instead
+ * of blocking the request thread
+ */
+public final class AccessLogRingBuffer {
+
+    private final Entry[] entries;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimCursor = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    // Only written by the consumer thread, read by producers to detect a full buffer
+    private volatile long consumerCursor;
+
+    /**
+     * @param capacity number of slots, rounded up to a power of two
+     */
+    public AccessLogRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Access log buffer capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        size = Math.max(size, 2);
+        this.entries = new Entry[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            entries[i] = new Entry();
+            published.set(i, -1L);
+        }
+    }
+
+    /**
+     * Claim the next free slot
+     * @return the claimed sequence, or -1 if the buffer is full (the record is counted as dropped)
+     */
+    public long tryClaim() {
+        while (true) {
+            long sequence = claimCursor.get();
+            if (sequence - consumerCursor >= entries.length) {
+                dropped.increment();
+                return -1L;
+            }
+            if (claimCursor.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Get the entry for a claimed sequence so the producer can fill it in
+     */
+    public Entry entry(long sequence) {
+        return entries[(int) (sequence & mask)];
+    }
+
+    /**
+     * Make a filled entry visible to the consumer
+     */
+    public void publish(long sequence) {
+        published.setRelease((int) (sequence & mask), sequence);
+    }
+
+    /**
+     * Hand up to maxEntries published entries to the handler, in sequence order
+     * Must only be called from the single consumer thread
+     * @return number of entries drained
+     */
+    public int drain(EntryHandler handler, int maxEntries) {
+        long sequence = consumerCursor;
+        int drained = 0;
+        while (drained < maxEntries) {
+            int index = (int) (sequence & mask);
+            if (published.getAcquire(index) != sequence) {
+                break;
+            }
+            Entry entry = entries[index];
+            try {
+                handler.onEntry(entry);
+            } finally {
+                entry.clear();
+            }
+            sequence++;
+            drained++;
+        }
+        if (drained > 0) {
+            // Releases the drained slots back to producers
+            consumerCursor = sequence;
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Total number of records dropped because the buffer was full
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    @FunctionalInterface
+    public interface EntryHandler {
+        void onEntry(Entry entry);
+    }
+
+    /**
+     * One access log record
+     * Fields are written by a producer between claim and publish, then read by the consumer
+     */
+    public static final class Entry {
+
+        long startEpochMillis;
+        long durationNanos;
+        int status;
+        boolean slow;
+        String method;
+        String uri;
+        String queryString;
+        String clientIp;
+        String correlationId;
+
+        void clear() {
+            method = null;
+            uri = null;
+            queryString = null;
+            clientIp = null;
+            correlationId = null;
+        }
+    }
+}
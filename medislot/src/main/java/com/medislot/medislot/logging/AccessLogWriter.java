@@ -0,0 +1,169 @@
+package com.medislot.medislot.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Access Log Writer
+ * Request threads record fixed-format entries into a ring buffer; a single background thread
+ * drains it in batches and formats the lines, so request threads never format strings or touch
+ * the logging appenders. Lines go to the "com.medislot.medislot.access" logger
+ */
+@Component
+public class AccessLogWriter {
+
+    public static final String ACCESS_LOGGER_NAME = "com.medislot.medislot.access";
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final Logger accessLogger = LoggerFactory.getLogger(ACCESS_LOGGER_NAME);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AccessLogRingBuffer buffer;
+    private final int batchSize;
+    private final AccessLogRingBuffer.EntryHandler formatter = this::writeEntry;
+    private final StringBuilder line = new StringBuilder(256);
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private long reportedDropped;
+    private long nextDropReportNanos;
+
+    public AccessLogWriter(@Value("${access-log.buffer-size:8192}") int bufferSize,
+                           @Value("${access-log.batch-size:256}") int batchSize) {
+        this.buffer = new AccessLogRingBuffer(bufferSize);
+        this.batchSize = batchSize;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("access-log-writer")
+                .daemon(true)
+                .start(this::run);
+        logger.info("Access log writer started (buffer: {} entries, batch: {})", buffer.capacity(), batchSize);
+    }
+
+    /**
+     * Record one request
+     * Never blocks; returns false if the entry was dropped because the buffer is full
+     */
+    public boolean record(long startEpochMillis, long durationNanos, boolean slow,
+                          String method, String uri, String queryString, int status,
+                          String clientIp, String correlationId) {
+        long sequence = buffer.tryClaim();
+        if (sequence < 0) {
+            return false;
+        }
+        AccessLogRingBuffer.Entry entry = buffer.entry(sequence);
+        entry.startEpochMillis = startEpochMillis;
+        entry.durationNanos = durationNanos;
+        entry.slow = slow;
+        entry.method = method;
+        entry.uri = uri;
+        entry.queryString = queryString;
+        entry.status = status;
+        entry.clientIp = clientIp;
+        entry.correlationId = correlationId;
+        buffer.publish(sequence);
+        return true;
+    }
+
+    /**
+     * Total number of access log records dropped because the buffer was full
+     */
+    public long getDroppedCount() {
+        return buffer.droppedCount();
+    }
+
+    private void run() {
+        while (running) {
+            if (buffer.drain(formatter, batchSize) == 0) {
+                reportDropped();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // Flush whatever was recorded before shutdown
+        while (buffer.drain(formatter, batchSize) > 0) {
+            // keep draining
+        }
+        reportDropped();
+    }
+
+    /**
+     * Format one entry as
+     * 2024-01-01T10:00:00.123Z [correlation-id] 10.0.0.1 "GET /api/doctors?active=true" 200 12.345ms
+     */
+    private void writeEntry(AccessLogRingBuffer.Entry entry) {
+        line.setLength(0);
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(entry.startEpochMillis), line);
+        line.append(" [").append(entry.correlationId).append("] ")
+                .append(entry.clientIp)
+                .append(" \"").append(entry.method).append(' ').append(entry.uri);
+        if (entry.queryString != null) {
+            line.append('?').append(entry.queryString);
+        }
+        line.append("\" ").append(entry.status).append(' ');
+        appendMillis(entry.durationNanos);
+        if (entry.slow) {
+            line.append(" SLOW");
+        }
+
+        if (entry.status >= 500) {
+            accessLogger.error(line.toString());
+        } else if (entry.status >= 400 || entry.slow) {
+            accessLogger.warn(line.toString());
+        } else {
+            accessLogger.info(line.toString());
+        }
+    }
+
+    private void appendMillis(long nanos) {
+        long micros = nanos / 1000;
+        line.append(micros / 1000).append('.');
+        long fraction = micros % 1000;
+        if (fraction < 100) {
+            line.append('0');
+        }
+        if (fraction < 10) {
+            line.append('0');
+        }
+        line.append(fraction).append("ms");
+    }
+
+    /**
+     * Periodically report records lost to a full buffer
+     */
+    private void reportDropped() {
+        long now = System.nanoTime();
+        if (running && now - nextDropReportNanos < 0) {
+            return;
+        }
+        nextDropReportNanos = now + DROP_REPORT_INTERVAL_NANOS;
+        long dropped = buffer.droppedCount();
+        if (dropped > reportedDropped) {
+            logger.warn("Access log buffer full, dropped {} records", dropped - reportedDropped);
+            reportedDropped = dropped;
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        logger.info("Access log writer stopped");
+    }
+}
@@ -0,0 +1,21 @@
+package com.medislot.medislot.mapper;
+
+import com.medislot.medislot.dto.affiliation.AffiliationResponse;
+import com.medislot.medislot.entity.DoctorHospital;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AffiliationMapper {
+
+    public AffiliationResponse toResponse(DoctorHospital affiliation) {
+        if (affiliation == null) {
+            return null;
+        }
+
+        AffiliationResponse response = new AffiliationResponse();
+        response.setDoctorId(affiliation.getDoctorId());
+        response.setHospitalId(affiliation.getHospitalId());
+        response.setCreatedAt(affiliation.getCreatedAt());
+        return response;
+    }
+}
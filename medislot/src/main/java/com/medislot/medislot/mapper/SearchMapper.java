@@ -0,0 +1,26 @@
+package com.medislot.medislot.mapper;
+
+import com.medislot.medislot.dto.search.SearchSuggestionResponse;
+import com.medislot.medislot.search.DirectoryIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+@Component
+public class SearchMapper {
+
+    public SearchSuggestionResponse toResponse(DirectoryIndex.Match match) {
+        if (match == null) {
+            return null;
+        }
+
+        SearchSuggestionResponse response = new SearchSuggestionResponse();
+        response.setType(match.kind().name().toLowerCase(Locale.ROOT));
+        response.setId(match.id());
+        response.setName(match.name());
+        response.setDetail(match.detail());
+        response.setActive(match.active());
+        response.setMatchedField(match.field().name().toLowerCase(Locale.ROOT));
+        return response;
+    }
+}
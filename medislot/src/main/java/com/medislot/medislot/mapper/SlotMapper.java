@@ -1,8 +1,10 @@
 package com.medislot.medislot.mapper;
 
+import com.medislot.medislot.dto.slot.SlotChangeResponse;
 import com.medislot.medislot.dto.slot.SlotCreateRequest;
 import com.medislot.medislot.dto.slot.SlotResponse;
 import com.medislot.medislot.entity.Slot;
+import com.medislot.medislot.event.SlotChangedEvent;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -24,6 +26,22 @@ public class SlotMapper {
         return response;
     }
 
+    public SlotChangeResponse toChangeResponse(SlotChangedEvent event) {
+        if (event == null) {
+            return null;
+        }
+
+        SlotChangeResponse response = new SlotChangeResponse();
+        response.setSlotId(event.slotId());
+        response.setDoctorId(event.doctorId());
+        response.setHospitalId(event.hospitalId());
+        response.setStartTime(event.startTime());
+        response.setEndTime(event.endTime());
+        response.setStatus(event.status());
+        response.setChange(event.change());
+        return response;
+    }
+
     public Slot toEntity(SlotCreateRequest request) {
         if (request == null) {
             return null;
@@ -0,0 +1,37 @@
+package com.medislot.medislot.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Booking Metrics
+ * One counter per booking outcome, registered up front so every outcome is
+ * scraped (as zero) before it first happens
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String BOOKING_ATTEMPTS = "medislot.booking.attempts";
+
+    private final Map<BookingOutcome, Counter> counters = new EnumMap<>(BookingOutcome.class);
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        for (BookingOutcome outcome : BookingOutcome.values()) {
+            counters.put(outcome, Counter.builder(BOOKING_ATTEMPTS)
+                    .description("Appointment booking attempts by outcome")
+                    .tag("outcome", outcome.getTagValue())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Count one booking attempt
+     */
+    public void record(BookingOutcome outcome) {
+        counters.get(outcome).increment();
+    }
+}
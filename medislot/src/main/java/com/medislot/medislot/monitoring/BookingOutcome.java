@@ -0,0 +1,30 @@
+package com.medislot.medislot.monitoring;
+
+/**
+ * Outcome of a booking attempt in AppointmentServiceImpl.create
+ * Used as the "outcome" tag of the medislot.booking.attempts counter
+ */
+public enum BookingOutcome {
+    BOOKED("booked"),
+    DOCTOR_NOT_FOUND("doctor_not_found"),
+    HOSPITAL_NOT_FOUND("hospital_not_found"),
+    PATIENT_NOT_FOUND("patient_not_found"),
+    DOCTOR_NOT_AFFILIATED("doctor_not_affiliated"),
+    SLOT_NOT_FOUND("slot_not_found"),
+    SLOT_WRONG_DOCTOR("slot_wrong_doctor"),
+    SLOT_WRONG_HOSPITAL("slot_wrong_hospital"),
+    SLOT_UNAVAILABLE("slot_unavailable"),
+    SLOT_ALREADY_BOOKED("slot_already_booked"),
+    DOCTOR_TIME_CONFLICT("doctor_time_conflict"),
+    ERROR("error");
+
+    private final String tagValue;
+
+    BookingOutcome(String tagValue) {
+        this.tagValue = tagValue;
+    }
+
+    public String getTagValue() {
+        return tagValue;
+    }
+}
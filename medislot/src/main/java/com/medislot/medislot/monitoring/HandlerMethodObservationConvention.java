@@ -0,0 +1,34 @@
+package com.medislot.medislot.monitoring;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Adds a "handler" tag (ControllerClass.method) to http.server.requests
+ * so latency histograms can be broken down per controller method, not just per URI template
+ */
+@Component
+public class HandlerMethodObservationConvention extends DefaultServerRequestObservationConvention {
+
+    private static final KeyValue HANDLER_NONE = KeyValue.of("handler", "none");
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context).and(handler(context.getCarrier()));
+    }
+
+    private KeyValue handler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of("handler",
+                    handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName());
+        }
+        return HANDLER_NONE;
+    }
+}
@@ -0,0 +1,43 @@
+package com.medislot.medislot.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON message converter that times response serialization
+ * Replaces the auto-configured Jackson converter; the recorded time covers
+ * writing the body to the response stream
+ */
+public class TimedJsonHttpMessageConverter extends JacksonJsonHttpMessageConverter {
+
+    public static final String SERIALIZATION_TIMER = "medislot.http.serialization";
+
+    private final Timer writeTimer;
+
+    public TimedJsonHttpMessageConverter(JsonMapper jsonMapper, MeterRegistry meterRegistry) {
+        super(jsonMapper);
+        this.writeTimer = Timer.builder(SERIALIZATION_TIMER)
+                .description("Time spent serializing response bodies")
+                .tag("format", "json")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void writeInternal(Object object, ResolvableType resolvableType,
+                                 HttpOutputMessage outputMessage, Map<String, Object> hints) throws IOException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, resolvableType, outputMessage, hints);
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
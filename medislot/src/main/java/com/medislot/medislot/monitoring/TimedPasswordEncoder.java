@@ -0,0 +1,48 @@
+package com.medislot.medislot.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * PasswordEncoder decorator that times every encode and match
+ * BCrypt is deliberately slow, so registration and login latency is dominated by it
+ */
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    public static final String PASSWORD_ENCODER_TIMER = "medislot.password.encoder";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer upgradeEncodingTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(meterRegistry, "encode");
+        this.matchesTimer = timer(meterRegistry, "matches");
+        this.upgradeEncodingTimer = timer(meterRegistry, "upgrade_encoding");
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(PASSWORD_ENCODER_TIMER)
+                .description("Time spent hashing and verifying passwords")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return upgradeEncodingTimer.record(() -> delegate.upgradeEncoding(encodedPassword));
+    }
+}
@@ -0,0 +1,35 @@
+package com.medislot.medislot.monitoring.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.UUID;
+
+/**
+ * JFR event for AppointmentServiceImpl.create
+ * Outcome values match the medislot.booking.attempts counter tags
+ */
+@Name("medislot.AppointmentBooking")
+@Label("Appointment Booking")
+@Description("Booking of an appointment into a slot, with per-step timings")
+public class AppointmentBookingEvent extends StepTimedEvent {
+
+    @Label("Slot ID")
+    protected String slotId;
+
+    @Label("Appointment ID")
+    protected String appointmentId;
+
+    public void setSlotId(UUID slotId) {
+        if (isEnabled()) {
+            this.slotId = toString(slotId);
+        }
+    }
+
+    public void setAppointmentId(UUID appointmentId) {
+        if (isEnabled()) {
+            this.appointmentId = toString(appointmentId);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.medislot.medislot.monitoring.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.UUID;
+
+/**
+ * JFR event for AppointmentServiceImpl.cancelByPatient and cancelByDoctor
+ * The slot claim step is the release of the slot back to AVAILABLE
+ */
+@Name("medislot.AppointmentCancellation")
+@Label("Appointment Cancellation")
+@Description("Cancellation of an appointment by its patient or doctor, with per-step timings")
+public class AppointmentCancellationEvent extends StepTimedEvent {
+
+    public static final String CANCELLED = "cancelled";
+    public static final String APPOINTMENT_NOT_FOUND = "appointment_not_found";
+    public static final String SLOT_NOT_FOUND = "slot_not_found";
+    public static final String NOT_OWNER = "not_owner";
+    public static final String ALREADY_CANCELLED = "already_cancelled";
+    public static final String OUTSIDE_CANCELLATION_WINDOW = "outside_cancellation_window";
+    public static final String ERROR = "error";
+
+    @Label("Cancelled By")
+    @Description("patient or doctor")
+    protected String cancelledBy;
+
+    @Label("Appointment ID")
+    protected String appointmentId;
+
+    public AppointmentCancellationEvent(String cancelledBy, UUID appointmentId) {
+        if (isEnabled()) {
+            this.cancelledBy = cancelledBy;
+            this.appointmentId = toString(appointmentId);
+        }
+    }
+}
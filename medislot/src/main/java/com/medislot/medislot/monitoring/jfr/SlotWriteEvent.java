@@ -0,0 +1,44 @@
+package com.medislot.medislot.monitoring.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.UUID;
+
+/**
+ * JFR event for AvailabilityServiceImpl.create and update
+ */
+@Name("medislot.SlotWrite")
+@Label("Slot Write")
+@Description("Creation or update of an availability slot, with per-step timings")
+public class SlotWriteEvent extends StepTimedEvent {
+
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+
+    public static final String SAVED = "saved";
+    public static final String DOCTOR_NOT_FOUND = "doctor_not_found";
+    public static final String HOSPITAL_NOT_FOUND = "hospital_not_found";
+    public static final String NOT_AFFILIATED = "not_affiliated";
+    public static final String SLOT_NOT_FOUND = "slot_not_found";
+    public static final String SLOT_BOOKED = "slot_booked";
+    public static final String OVERLAP = "overlap";
+    public static final String ERROR = "error";
+
+    @Label("Operation")
+    protected String operation;
+
+    @Label("Slot ID")
+    protected String slotId;
+
+    public SlotWriteEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void setSlotId(UUID slotId) {
+        if (isEnabled()) {
+            this.slotId = toString(slotId);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.medislot.medislot.monitoring.jfr;
+
+import com.medislot.medislot.util.CorrelationIdHolder;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.util.UUID;
+
+/**
+ * Base JFR event for write paths that are timed step by step
+ * Each step method records the time since the previous step, so one event shows which of
+ * validation, overlap check, slot claim and save a slow request spent its time in.
+ * Steps a path does not have stay at zero. All work is skipped when the event is disabled
+ */
+@Category({"MediSlot", "Write Path"})
+@StackTrace(false)
+public abstract class StepTimedEvent extends Event {
+
+    @Label("Doctor ID")
+    protected String doctorId;
+
+    @Label("Outcome")
+    protected String outcome;
+
+    @Label("Correlation ID")
+    @Description("X-Request-Id of the request that triggered the operation")
+    protected String correlationId;
+
+    @Label("Validation")
+    @Timespan(Timespan.NANOSECONDS)
+    protected long validation;
+
+    @Label("Overlap Check")
+    @Timespan(Timespan.NANOSECONDS)
+    protected long overlapCheck;
+
+    @Label("Slot Claim")
+    @Description("Changing the slot status (booking or releasing it)")
+    @Timespan(Timespan.NANOSECONDS)
+    protected long slotClaim;
+
+    @Label("Save")
+    @Timespan(Timespan.NANOSECONDS)
+    protected long save;
+
+    // Not recorded: start of the current step
+    private transient long stepStart;
+
+    /**
+     * Start timing the event and its first step
+     */
+    public void start(UUID doctorId) {
+        if (!isEnabled()) {
+            return;
+        }
+        this.doctorId = toString(doctorId);
+        begin();
+        stepStart = System.nanoTime();
+    }
+
+    public void setDoctorId(UUID doctorId) {
+        if (isEnabled()) {
+            this.doctorId = toString(doctorId);
+        }
+    }
+
+    public void validated() {
+        if (isEnabled()) {
+            validation += lap();
+        }
+    }
+
+    public void overlapChecked() {
+        if (isEnabled()) {
+            overlapCheck += lap();
+        }
+    }
+
+    public void slotClaimed() {
+        if (isEnabled()) {
+            slotClaim += lap();
+        }
+    }
+
+    public void saved() {
+        if (isEnabled()) {
+            save += lap();
+        }
+    }
+
+    /**
+     * End the event and commit it if it passes the configured threshold
+     */
+    public void finish(String outcome) {
+        if (!isEnabled()) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            this.correlationId = CorrelationIdHolder.getCorrelationId();
+            commit();
+        }
+    }
+
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - stepStart;
+        stepStart = now;
+        return elapsed;
+    }
+
+    protected static String toString(UUID id) {
+        return id != null ? id.toString() : null;
+    }
+}
@@ -0,0 +1,226 @@
+package com.medislot.medislot.monitoring.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource that times every statement execution
+ * Connections, statements and result sets are wrapped in JDK dynamic proxies that report
+ * execution time and row counts to SqlStatsRegistry. Extends DelegatingDataSource so pool
+ * metrics and unwrap() still reach the underlying Hikari pool
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final SqlStatsRegistry registry;
+
+    public InstrumentedDataSource(DataSource targetDataSource, SqlStatsRegistry registry) {
+        super(targetDataSource);
+        this.registry = registry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Wraps statements created by a connection, remembering their SQL
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "prepareStatement": {
+                    Object statement = InstrumentedDataSource.invoke(target, method, args);
+                    return wrapStatement(statement, PreparedStatement.class, (String) args[0]);
+                }
+                case "prepareCall": {
+                    Object statement = InstrumentedDataSource.invoke(target, method, args);
+                    return wrapStatement(statement, CallableStatement.class, (String) args[0]);
+                }
+                case "createStatement": {
+                    Object statement = InstrumentedDataSource.invoke(target, method, args);
+                    return wrapStatement(statement, Statement.class, null);
+                }
+                default:
+                    return InstrumentedDataSource.invoke(target, method, args);
+            }
+        }
+
+        private Object wrapStatement(Object statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                    new Class<?>[] {type}, new StatementHandler(statement, sql));
+        }
+    }
+
+    /**
+     * Times execute* calls and counts affected or returned rows
+     */
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final SqlStatementStats preparedStats;
+
+        StatementHandler(Object target, String sql) {
+            this.target = target;
+            this.preparedStats = sql != null ? registry.statsFor(sql) : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (name.equals("getResultSet")) {
+                return wrapResultSet(InstrumentedDataSource.invoke(target, method, args), statsFor(args));
+            }
+            if (!name.startsWith("execute")) {
+                return InstrumentedDataSource.invoke(target, method, args);
+            }
+
+            SqlStatementStats stats = statsFor(args);
+            long start = System.nanoTime();
+            boolean error = true;
+            Object result = null;
+            try {
+                result = InstrumentedDataSource.invoke(target, method, args);
+                error = false;
+            } finally {
+                registry.recordExecution(stats, System.nanoTime() - start, error);
+            }
+            if (result instanceof ResultSet) {
+                return wrapResultSet(result, stats);
+            }
+            stats.addRows(affectedRows(result));
+            return result;
+        }
+
+        private SqlStatementStats statsFor(Object[] args) {
+            if (preparedStats != null) {
+                return preparedStats;
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            return registry.statsFor(sql);
+        }
+
+        private long affectedRows(Object result) {
+            if (result instanceof Integer count) {
+                return count;
+            }
+            if (result instanceof Long count) {
+                return count;
+            }
+            long total = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    total += Math.max(count, 0);
+                }
+            }
+            return total;
+        }
+    }
+
+    private Object wrapResultSet(Object resultSet, SqlStatementStats stats) {
+        if (resultSet == null) {
+            return null;
+        }
+        return Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class}, new ResultSetHandler((ResultSet) resultSet, stats));
+    }
+
+    /**
+     * Counts rows read from a result set and reports them once it is exhausted or closed
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final SqlStatementStats stats;
+        private long rows;
+        private boolean reported;
+
+        ResultSetHandler(ResultSet target, SqlStatementStats stats) {
+            this.target = target;
+            this.stats = stats;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "next": {
+                    boolean hasRow = target.next();
+                    if (hasRow) {
+                        rows++;
+                    } else {
+                        report();
+                    }
+                    return hasRow;
+                }
+                case "close":
+                    report();
+                    target.close();
+                    return null;
+                default:
+                    return InstrumentedDataSource.invoke(target, method, args);
+            }
+        }
+
+        private void report() {
+            if (!reported) {
+                reported = true;
+                stats.addRows(rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.medislot.medislot.monitoring.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts statement executions per fingerprint for the current request
+ * Started and finished by SqlRequestTrackingFilter; statements on threads without an
+ * active request (startup, scheduled jobs) are not tracked
+ */
+public final class RequestSqlTracker {
+
+    private static final ThreadLocal<RequestSqlTracker> current = new ThreadLocal<>();
+
+    private final Map<SqlStatementStats, int[]> counts = new HashMap<>();
+    private int statements;
+
+    private RequestSqlTracker() {
+    }
+
+    /**
+     * Start tracking on the current thread
+     */
+    public static void begin() {
+        current.set(new RequestSqlTracker());
+    }
+
+    /**
+     * Stop tracking on the current thread and return what was recorded
+     */
+    public static RequestSqlTracker end() {
+        RequestSqlTracker tracker = current.get();
+        current.remove();
+        return tracker;
+    }
+
+    static void record(SqlStatementStats stats) {
+        RequestSqlTracker tracker = current.get();
+        if (tracker != null) {
+            tracker.statements++;
+            tracker.counts.computeIfAbsent(stats, k -> new int[1])[0]++;
+        }
+    }
+
+    public Map<SqlStatementStats, int[]> getCounts() {
+        return counts;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+}
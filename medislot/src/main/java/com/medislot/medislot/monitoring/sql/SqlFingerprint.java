@@ -0,0 +1,84 @@
+package com.medislot.medislot.monitoring.sql;
+
+import java.util.regex.Pattern;
+
+/**
+ * Reduces a SQL statement to its shape
+ * Literals become "?", whitespace is collapsed and IN lists of any length fold into one,
+ * so every execution of the same query maps to the same fingerprint
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        boolean pendingSpace = false;
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                // String literal, '' is an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                out.append('?');
+                i++;
+                continue;
+            }
+            if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+                continue;
+            }
+            out.append(c);
+            i++;
+        }
+        return IN_LIST.matcher(out).replaceAll("(?...)");
+    }
+
+    /**
+     * A digit directly after a letter, digit or underscore belongs to an identifier (e.g. s1_0)
+     */
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+
+    /**
+     * Short stable identifier for a fingerprint, used in logs and the admin API
+     */
+    public static String id(String fingerprint) {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < fingerprint.length(); i++) {
+            hash = 31 * hash + fingerprint.charAt(i);
+        }
+        return String.format("%016x", hash);
+    }
+}
@@ -0,0 +1,113 @@
+package com.medislot.medislot.monitoring.sql;
+
+import com.medislot.medislot.dto.admin.SqlStatementStatsResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Execution statistics for one SQL fingerprint
+ * Latencies go into power-of-two microsecond buckets, so percentiles are reported
+ * as the upper bound of their bucket (within a factor of two)
+ */
+public class SqlStatementStats {
+
+    private static final int BUCKETS = 40;
+
+    private final String id;
+    private final String fingerprint;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder flaggedRequests = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    public SqlStatementStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+        this.id = SqlFingerprint.id(fingerprint);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Record one execution
+     */
+    public void recordExecution(long nanos, boolean error) {
+        executions.increment();
+        totalNanos.add(nanos);
+        if (error) {
+            errors.increment();
+        }
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        histogram.incrementAndGet(bucket);
+    }
+
+    public void addRows(long count) {
+        if (count > 0) {
+            rows.add(count);
+        }
+    }
+
+    public void recordNPlusOne() {
+        flaggedRequests.increment();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Upper bound of the bucket containing the given percentile, in microseconds
+     */
+    long percentileMicros(double percentile) {
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(percentile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return i == 0 ? 0 : 1L << i;
+            }
+        }
+        return 1L << (BUCKETS - 1);
+    }
+
+    public SqlStatementStatsResponse toResponse() {
+        long count = executions.sum();
+        long total = totalNanos.sum();
+        SqlStatementStatsResponse response = new SqlStatementStatsResponse();
+        response.setId(id);
+        response.setFingerprint(fingerprint);
+        response.setExecutions(count);
+        response.setErrors(errors.sum());
+        response.setTotalTimeMs(total / 1_000_000.0);
+        response.setMeanTimeMs(count == 0 ? 0 : total / 1_000_000.0 / count);
+        response.setP50TimeMs(percentileMicros(0.50) / 1000.0);
+        response.setP95TimeMs(percentileMicros(0.95) / 1000.0);
+        response.setP99TimeMs(percentileMicros(0.99) / 1000.0);
+        response.setMaxTimeMs(maxNanos.get() / 1_000_000.0);
+        response.setRows(rows.sum());
+        response.setFlaggedRequests(flaggedRequests.sum());
+        return response;
+    }
+}
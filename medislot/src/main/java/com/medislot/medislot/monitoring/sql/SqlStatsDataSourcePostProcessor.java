@@ -0,0 +1,38 @@
+package com.medislot.medislot.monitoring.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in an InstrumentedDataSource
+ * Disabled with sql-stats.enabled=false, in which case JDBC calls are not intercepted at all
+ */
+@Component
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsDataSourcePostProcessor.class);
+
+    private final ObjectProvider<SqlStatsRegistry> registry;
+    private final boolean enabled;
+
+    public SqlStatsDataSourcePostProcessor(ObjectProvider<SqlStatsRegistry> registry,
+                                           @Value("${sql-stats.enabled:true}") boolean enabled) {
+        this.registry = registry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (enabled && bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+            logger.info("Instrumenting DataSource '{}' for SQL statistics", beanName);
+            return new InstrumentedDataSource(dataSource, registry.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,150 @@
+package com.medislot.medislot.monitoring.sql;
+
+import com.medislot.medislot.dto.admin.NPlusOneIncidentResponse;
+import com.medislot.medislot.dto.admin.SqlStatementStatsResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * SQL Statistics Registry
+ * Aggregates JDBC executions per SQL fingerprint and keeps the most recent N+1 incidents.
+ * The number of fingerprints is bounded; once full, new shapes are folded into one "other" entry
+ */
+@Component
+public class SqlStatsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatsRegistry.class);
+    private static final int MAX_INCIDENTS = 100;
+    private static final String OVERFLOW_FINGERPRINT = "<other statements>";
+
+    private final int maxFingerprints;
+    private final long slowQueryNanos;
+    private final int nPlusOneThreshold;
+
+    private final Map<String, SqlStatementStats> statsBySql = new ConcurrentHashMap<>();
+    private final Map<String, SqlStatementStats> statsByFingerprint = new ConcurrentHashMap<>();
+    private volatile SqlStatementStats overflow = new SqlStatementStats(OVERFLOW_FINGERPRINT);
+    private final ConcurrentLinkedDeque<NPlusOneIncidentResponse> incidents = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger incidentCount = new AtomicInteger();
+
+    public SqlStatsRegistry(@Value("${sql-stats.max-fingerprints:1000}") int maxFingerprints,
+                            @Value("${sql-stats.slow-query-ms:200}") long slowQueryMs,
+                            @Value("${sql-stats.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.maxFingerprints = maxFingerprints;
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(slowQueryMs);
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    /**
+     * Get the statistics entry for a raw SQL string
+     * Fingerprinting happens once per distinct SQL string
+     */
+    public SqlStatementStats statsFor(String sql) {
+        if (sql == null) {
+            return overflow;
+        }
+        SqlStatementStats stats = statsBySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        if (statsBySql.size() >= maxFingerprints * 4) {
+            return statsForFingerprint(SqlFingerprint.of(sql));
+        }
+        return statsBySql.computeIfAbsent(sql, s -> statsForFingerprint(SqlFingerprint.of(s)));
+    }
+
+    private SqlStatementStats statsForFingerprint(String fingerprint) {
+        SqlStatementStats stats = statsByFingerprint.get(fingerprint);
+        if (stats != null) {
+            return stats;
+        }
+        if (statsByFingerprint.size() >= maxFingerprints) {
+            return overflow;
+        }
+        return statsByFingerprint.computeIfAbsent(fingerprint, SqlStatementStats::new);
+    }
+
+    /**
+     * Record one statement execution
+     */
+    public void recordExecution(SqlStatementStats stats, long nanos, boolean error) {
+        stats.recordExecution(nanos, error);
+        RequestSqlTracker.record(stats);
+        if (nanos >= slowQueryNanos) {
+            logger.warn("Slow SQL [{}] {}ms: {}", stats.getId(), TimeUnit.NANOSECONDS.toMillis(nanos), stats.getFingerprint());
+        }
+    }
+
+    /**
+     * Check a finished request for statement shapes repeated more than the threshold
+     */
+    public void inspectRequest(RequestSqlTracker tracker, String method, String path, String correlationId) {
+        if (tracker == null || tracker.getStatements() <= nPlusOneThreshold) {
+            return;
+        }
+        tracker.getCounts().forEach((stats, count) -> {
+            if (count[0] > nPlusOneThreshold && !OVERFLOW_FINGERPRINT.equals(stats.getFingerprint())) {
+                stats.recordNPlusOne();
+                logger.warn("Possible N+1 [{}] {} {}: statement [{}] executed {} times: {}",
+                        correlationId, method, path, stats.getId(), count[0], stats.getFingerprint());
+                addIncident(new NPlusOneIncidentResponse(OffsetDateTime.now(), method, path, correlationId,
+                        stats.getId(), stats.getFingerprint(), count[0]));
+            }
+        });
+    }
+
+    private void addIncident(NPlusOneIncidentResponse incident) {
+        incidents.addFirst(incident);
+        if (incidentCount.incrementAndGet() > MAX_INCIDENTS) {
+            if (incidents.pollLast() != null) {
+                incidentCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Statistics per fingerprint, most expensive (total time) first
+     */
+    public List<SqlStatementStatsResponse> getStatistics(int limit) {
+        List<SqlStatementStats> all = new ArrayList<>(statsByFingerprint.values());
+        all.add(overflow);
+        return all.stream()
+                .filter(stats -> stats.getTotalNanos() > 0)
+                .sorted(Comparator.comparingLong(SqlStatementStats::getTotalNanos).reversed())
+                .limit(limit)
+                .map(SqlStatementStats::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Most recent N+1 incidents, newest first
+     */
+    public List<NPlusOneIncidentResponse> getRecentIncidents() {
+        return new ArrayList<>(incidents);
+    }
+
+    /**
+     * Clear all statistics and incidents
+     */
+    public void reset() {
+        statsBySql.clear();
+        statsByFingerprint.clear();
+        overflow = new SqlStatementStats(OVERFLOW_FINGERPRINT);
+        incidents.clear();
+        incidentCount.set(0);
+        logger.info("SQL statistics reset");
+    }
+}
@@ -0,0 +1,62 @@
+package com.medislot.medislot.outbox;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File Outbox Publisher
+ * Appends messages as JSON lines to a local file (outbox.file.path), for local development and tests
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "file")
+public class FileOutboxPublisher implements OutboxPublisher {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private BufferedWriter writer;
+
+    public FileOutboxPublisher(ObjectMapper objectMapper,
+                               @Value("${outbox.file.path:outbox-events.jsonl}") String path) {
+        this.objectMapper = objectMapper;
+        this.path = Path.of(path);
+    }
+
+    @Override
+    public synchronized void publish(OutboxMessage message) throws IOException {
+        if (writer == null) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        writer.write(objectMapper.writeValueAsString(message));
+        writer.newLine();
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+}
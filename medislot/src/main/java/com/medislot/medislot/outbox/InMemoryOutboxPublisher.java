@@ -0,0 +1,45 @@
+package com.medislot.medislot.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * In-Memory Outbox Publisher
+ * Keeps the most recent messages in memory so tests can assert on what was delivered
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "memory")
+public class InMemoryOutboxPublisher implements OutboxPublisher {
+
+    private final int capacity;
+    private final Deque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxPublisher(@Value("${outbox.memory.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(OutboxMessage message) {
+        if (messages.size() >= capacity) {
+            messages.removeFirst();
+        }
+        messages.addLast(message);
+    }
+
+    /**
+     * Messages delivered so far, oldest first
+     */
+    public synchronized List<OutboxMessage> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.medislot.medislot.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logging Outbox Publisher
+ * Default publisher; writes every message to the com.medislot.medislot.outbox logger
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.publisher", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxPublisher implements OutboxPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger("com.medislot.medislot.outbox");
+
+    @Override
+    public void publish(OutboxMessage message) {
+        logger.info("[{}] #{} {} {} {}", message.correlationId(), message.sequence(),
+                message.eventType(), message.aggregateId(), message.payload());
+    }
+}
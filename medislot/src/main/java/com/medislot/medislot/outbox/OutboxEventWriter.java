@@ -0,0 +1,39 @@
+package com.medislot.medislot.outbox;
+
+import com.medislot.medislot.entity.OutboxEvent;
+import com.medislot.medislot.event.DomainEvent;
+import com.medislot.medislot.repository.OutboxEventRepository;
+import com.medislot.medislot.util.CorrelationIdHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Outbox Event Writer
+ * Stores every domain event in the outbox table just before the publishing transaction commits,
+ * so the event exists if and only if the state change it describes does
+ */
+@Component
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventWriter(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onDomainEvent(DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setAggregateType(event.aggregateType());
+        outboxEvent.setAggregateId(event.aggregateId());
+        outboxEvent.setEventType(event.eventType());
+        outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        outboxEvent.setCorrelationId(CorrelationIdHolder.getCorrelationId());
+        outboxEvent.setCreatedAt(event.occurredAt());
+        outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -0,0 +1,27 @@
+package com.medislot.medislot.outbox;
+
+import com.medislot.medislot.entity.OutboxEvent;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox Message
+ * What a publisher receives for one outbox event. Delivery is at-least-once,
+ * consumers de-duplicate by sequence
+ */
+public record OutboxMessage(
+        long sequence,
+        String aggregateType,
+        UUID aggregateId,
+        String eventType,
+        String payload,
+        String correlationId,
+        OffsetDateTime occurredAt
+) {
+
+    static OutboxMessage from(OutboxEvent event) {
+        return new OutboxMessage(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), event.getPayload(), event.getCorrelationId(), event.getCreatedAt());
+    }
+}
@@ -0,0 +1,20 @@
+package com.medislot.medislot.outbox;
+
+/**
+ * Outbox Publisher
+ * Adapter that hands outbox messages to a downstream transport (selected with outbox.publisher).
+ * Called by a single relay thread per batch; a batch is only marked published after flush() returns
+ */
+public interface OutboxPublisher {
+
+    /**
+     * Send one message; throwing stops delivery for the message's aggregate in this batch
+     */
+    void publish(OutboxMessage message) throws Exception;
+
+    /**
+     * Make every message published so far durable at the destination
+     */
+    default void flush() throws Exception {
+    }
+}
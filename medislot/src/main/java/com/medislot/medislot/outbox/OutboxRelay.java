@@ -0,0 +1,190 @@
+package com.medislot.medislot.outbox;
+
+import com.medislot.medislot.entity.OutboxEvent;
+import com.medislot.medislot.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox Relay
+ * Drains the outbox table in batches and hands the events to the configured OutboxPublisher.
+ * Each batch is locked with FOR UPDATE SKIP LOCKED, so several application nodes can relay in
+ * parallel; events of one aggregate are delivered in sequence order.
+ * A failed publish keeps the event (and the later events of its aggregate) in the outbox and
+ * retries that aggregate with exponential back-off, while other aggregates keep flowing; after
+ * max-attempts the event is parked. Only when nothing in a batch could be published (destination
+ * unavailable) does the whole relay back off
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long intervalMs;
+    private final long maxBackoffMs;
+    private final int maxAttempts;
+    private final long retentionHours;
+
+    private int consecutiveFailures;
+    private long pausedUntilNanos;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxPublisher publisher,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${outbox.relay.interval-ms:500}") long intervalMs,
+                       @Value("${outbox.relay.max-backoff-ms:30000}") long maxBackoffMs,
+                       @Value("${outbox.relay.max-attempts:25}") int maxAttempts,
+                       @Value("${outbox.retention-hours:72}") long retentionHours) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publisher = publisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.intervalMs = intervalMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.maxAttempts = maxAttempts;
+        this.retentionHours = retentionHours;
+    }
+
+    /**
+     * Relay batches until the outbox is drained, nothing could be published or the per-run limit is reached
+     */
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        if (System.nanoTime() - pausedUntilNanos < 0) {
+            return;
+        }
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+                BatchResult result = transactionTemplate.execute(status -> relayBatch());
+                if (result == null || (result.failed() && result.published() == 0)) {
+                    backOff();
+                    return;
+                }
+                consecutiveFailures = 0;
+                if (result.locked() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // The whole batch rolled back (e.g. flush failed) - it is delivered again later
+            logger.error("Outbox relay batch failed: {}", e.getMessage(), e);
+            backOff();
+        }
+    }
+
+    /**
+     * Publish one locked batch; runs inside a transaction
+     */
+    private BatchResult relayBatch() {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0, false);
+        }
+
+        Set<UUID> failedAggregates = new HashSet<>();
+        OffsetDateTime publishedAt = OffsetDateTime.now();
+        int published = 0;
+        for (OutboxEvent event : events) {
+            // Keep per-aggregate order: nothing after a failed event of the same aggregate
+            if (failedAggregates.contains(event.getAggregateId())) {
+                continue;
+            }
+            try {
+                publisher.publish(OutboxMessage.from(event));
+                event.setPublishedAt(publishedAt);
+                published++;
+            } catch (Exception e) {
+                failedAggregates.add(event.getAggregateId());
+                recordFailure(event, e, publishedAt);
+            }
+        }
+
+        try {
+            publisher.flush();
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox publisher flush failed", e);
+        }
+
+        logger.debug("Outbox relay published {} of {} locked events", published, events.size());
+        return new BatchResult(events.size(), published, !failedAggregates.isEmpty());
+    }
+
+    /**
+     * Schedule the retry of a failed event, or park it once it is out of attempts
+     * Either way the later events of its aggregate wait (OutboxEventRepository.lockNextBatch)
+     */
+    private void recordFailure(OutboxEvent event, Exception e, OffsetDateTime now) {
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(truncate(e.getMessage()));
+        if (event.getAttempts() >= maxAttempts) {
+            event.setNextAttemptAt(null);
+            event.setParkedAt(now);
+            logger.error("Outbox event #{} ({}) parked after {} attempts, aggregate {} is held back: {}",
+                    event.getId(), event.getEventType(), event.getAttempts(), event.getAggregateId(), e.getMessage());
+            return;
+        }
+        long delayMs = backoffMs(event.getAttempts());
+        event.setNextAttemptAt(now.plus(delayMs, ChronoUnit.MILLIS));
+        logger.warn("Outbox event #{} ({}) could not be published (attempt {}), retrying in {}ms: {}",
+                event.getId(), event.getEventType(), event.getAttempts(), delayMs, e.getMessage());
+    }
+
+    /**
+     * Remove published events past the retention period
+     */
+    @Scheduled(fixedDelayString = "${outbox.cleanup.interval-ms:600000}")
+    public void cleanup() {
+        OffsetDateTime before = OffsetDateTime.now().minusHours(retentionHours);
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deletePublishedBefore(before));
+        if (deleted != null && deleted > 0) {
+            logger.info("Removed {} published outbox events older than {}h", deleted, retentionHours);
+        }
+        long parked = outboxEventRepository.countByPublishedAtIsNullAndParkedAtIsNotNull();
+        if (parked > 0) {
+            logger.warn("{} outbox events are parked; clear parked_at to retry them", parked);
+        }
+    }
+
+    private void backOff() {
+        consecutiveFailures++;
+        long backoffMs = backoffMs(consecutiveFailures);
+        pausedUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs);
+        logger.warn("Outbox relay paused for {}ms after {} consecutive failures", backoffMs, consecutiveFailures);
+    }
+
+    private long backoffMs(int failures) {
+        return Math.min(maxBackoffMs, intervalMs << Math.min(failures, 16));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private record BatchResult(int locked, int published, boolean failed) {
+    }
+}
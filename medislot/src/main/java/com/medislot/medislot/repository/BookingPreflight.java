@@ -0,0 +1,45 @@
+package com.medislot.medislot.repository;
+
+import com.medislot.medislot.entity.SlotStatus;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Everything a booking has to check, read in one query (SlotRepository.findBookingPreflight)
+ * Slot columns are null when the slot does not exist
+ */
+public interface BookingPreflight {
+
+    UUID getSlotId();
+
+    UUID getSlotDoctorId();
+
+    UUID getSlotHospitalId();
+
+    OffsetDateTime getSlotStartTime();
+
+    OffsetDateTime getSlotEndTime();
+
+    String getSlotStatus();
+
+    boolean getDoctorExists();
+
+    boolean getHospitalExists();
+
+    boolean getPatientExists();
+
+    boolean getAffiliated();
+
+    boolean getSlotHasAppointment();
+
+    boolean getDoctorTimeConflict();
+
+    default boolean slotFound() {
+        return getSlotId() != null;
+    }
+
+    default boolean slotAvailable() {
+        return SlotStatus.AVAILABLE.name().equals(getSlotStatus());
+    }
+}
@@ -0,0 +1,94 @@
+package com.medislot.medislot.repository;
+
+import com.medislot.medislot.changefeed.ChangeLogWriter;
+import com.medislot.medislot.entity.ChangeLogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Append an entry tagged with the current transaction ID
+     */
+    @Modifying
+    @Query(value = "INSERT INTO change_log (tx_id, entity_type, entity_id, operation, doctor_id, hospital_id, changed_at) " +
+                   "VALUES (CAST(CAST(pg_current_xact_id() AS text) AS bigint), " +
+                   ":entityType, :entityId, :operation, :doctorId, :hospitalId, :changedAt)",
+           nativeQuery = true)
+    void append(@Param("entityType") String entityType,
+                @Param("entityId") UUID entityId,
+                @Param("operation") String operation,
+                @Param("doctorId") UUID doctorId,
+                @Param("hospitalId") UUID hospitalId,
+                @Param("changedAt") OffsetDateTime changedAt);
+
+    /**
+     * Entries after a (tx_id, seq) position, in (tx_id, seq) order
+     * Only transactions older than the current snapshot's xmin are returned; all of them have
+     * finished, and every transaction still running has a larger ID, so nothing is skipped
+     * by a client that continues from the last returned position
+     */
+    @Query(value = "SELECT * FROM change_log " +
+                   "WHERE (tx_id, seq) > (:txId, :seq) " +
+                   "AND tx_id < CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint) " +
+                   "AND entity_type IN (:entityTypes) " +
+                   "ORDER BY tx_id, seq " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<ChangeLogEntry> findAfter(@Param("txId") long txId,
+                                   @Param("seq") long seq,
+                                   @Param("entityTypes") Collection<String> entityTypes,
+                                   @Param("limit") int limit);
+
+    /**
+     * Latest entry of the finished transactions, i.e. the current head of the feed
+     */
+    @Query(value = "SELECT * FROM change_log " +
+                   "WHERE tx_id < CAST(CAST(pg_snapshot_xmin(pg_current_snapshot()) AS text) AS bigint) " +
+                   "ORDER BY tx_id DESC, seq DESC " +
+                   "LIMIT 1",
+           nativeQuery = true)
+    Optional<ChangeLogEntry> findHead();
+
+    /**
+     * Oldest retained entry; its operation is PRUNED once the entries before it were deleted
+     */
+    @Query(value = "SELECT * FROM change_log ORDER BY tx_id, seq LIMIT 1", nativeQuery = true)
+    Optional<ChangeLogEntry> findTail();
+
+    /**
+     * Highest-positioned entry changed before the given time, excluding the latest entry so the
+     * head of the feed (and the entity versions derived from it) never moves back
+     */
+    @Query(value = "SELECT * FROM change_log WHERE changed_at < :before " +
+                   "AND (tx_id, seq) < (SELECT tx_id, seq FROM change_log ORDER BY tx_id DESC, seq DESC LIMIT 1) " +
+                   "ORDER BY tx_id DESC, seq DESC " +
+                   "LIMIT 1",
+           nativeQuery = true)
+    Optional<ChangeLogEntry> findPruneBoundary(@Param("before") OffsetDateTime before);
+
+    /**
+     * Delete every entry positioned before (tx_id, seq)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM change_log WHERE (tx_id, seq) < (:txId, :seq)", nativeQuery = true)
+    int deleteBefore(@Param("txId") long txId, @Param("seq") long seq);
+
+    /**
+     * Turn the entry at the prune boundary into the marker that tells readers history before it is gone
+     */
+    @Modifying
+    @Query(value = "UPDATE change_log SET operation = '" + ChangeLogWriter.PRUNED + "' WHERE seq = :seq",
+           nativeQuery = true)
+    int markPruned(@Param("seq") long seq);
+}
@@ -0,0 +1,44 @@
+package com.medislot.medislot.repository;
+
+import com.medislot.medislot.entity.DoctorHospital;
+import com.medislot.medislot.entity.DoctorHospitalId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DoctorHospitalRepository extends JpaRepository<DoctorHospital, DoctorHospitalId> {
+    
+    /**
+     * Find affiliations of a doctor
+     */
+    List<DoctorHospital> findByDoctorId(UUID doctorId);
+    
+    /**
+     * Find affiliations of a hospital
+     */
+    List<DoctorHospital> findByHospitalId(UUID hospitalId);
+    
+    boolean existsByDoctorIdAndHospitalId(UUID doctorId, UUID hospitalId);
+    
+    /**
+     * Every affiliation with the doctor attributes the affiliation index filters on
+     */
+    @Query("SELECT dh.doctorId AS doctorId, dh.hospitalId AS hospitalId, " +
+           "d.specialty AS specialty, d.active AS active " +
+           "FROM DoctorHospital dh JOIN dh.doctor d")
+    List<AffiliationRow> findAllRows();
+    
+    interface AffiliationRow {
+        UUID getDoctorId();
+        
+        UUID getHospitalId();
+        
+        String getSpecialty();
+        
+        Boolean getActive();
+    }
+}
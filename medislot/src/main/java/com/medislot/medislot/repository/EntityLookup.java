@@ -0,0 +1,65 @@
+package com.medislot.medislot.repository;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Lookups shared by validators and services within one request
+ * Bean validation runs before the service transaction starts, so the persistence context
+ * cannot dedupe its reads; results are memoized in a request attribute instead.
+ * Outside a request every call goes to the database
+ */
+@Component
+public class EntityLookup {
+
+    private static final String REQUEST_ATTRIBUTE = EntityLookup.class.getName();
+
+    private final SlotRepository slotRepository;
+    private final PatientRepository patientRepository;
+
+    public EntityLookup(SlotRepository slotRepository, PatientRepository patientRepository) {
+        this.slotRepository = slotRepository;
+        this.patientRepository = patientRepository;
+    }
+
+    public BookingPreflight bookingPreflight(UUID slotId, UUID doctorId, UUID hospitalId, UUID patientId) {
+        return memoize(new PreflightKey(slotId, doctorId, hospitalId, patientId),
+                () -> slotRepository.findBookingPreflight(slotId, doctorId, hospitalId, patientId));
+    }
+
+    public boolean patientEmailExists(String email) {
+        return memoize(new PatientEmailKey(email), () -> patientRepository.existsByEmail(email));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T memoize(Object key, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+        Map<Object, Object> memo = (Map<Object, Object>) attributes.getAttribute(REQUEST_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        Object value = memo.get(key);
+        if (value == null) {
+            value = loader.get();
+            memo.put(key, value);
+        }
+        return (T) value;
+    }
+
+    private record PreflightKey(UUID slotId, UUID doctorId, UUID hospitalId, UUID patientId) {
+    }
+
+    private record PatientEmailKey(String email) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.medislot.medislot.repository;
+
+import com.medislot.medislot.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Lock the next batch of deliverable events in sequence order
+     * Rows locked by another relay are skipped (FOR UPDATE SKIP LOCKED). The transaction-scoped
+     * advisory lock per aggregate keeps a relay from taking a later event of an aggregate while
+     * another relay still holds an earlier one, so each aggregate is delivered in order.
+     * Events waiting for a retry or parked hold back the later events of their aggregate
+     */
+    @Query(value = "SELECT * FROM outbox_events o " +
+                   "WHERE o.published_at IS NULL " +
+                   "AND o.parked_at IS NULL " +
+                   "AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= now()) " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_events b " +
+                   "WHERE b.aggregate_id = o.aggregate_id AND b.id < o.id AND b.published_at IS NULL " +
+                   "AND (b.parked_at IS NOT NULL OR b.next_attempt_at > now())) " +
+                   "AND pg_try_advisory_xact_lock(hashtextextended(CAST(o.aggregate_id AS text), 0)) " +
+                   "ORDER BY o.id " +
+                   "LIMIT :limit " +
+                   "FOR UPDATE OF o SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * Count events waiting to be published
+     */
+    long countByPublishedAtIsNull();
+
+    /**
+     * Count events that ran out of attempts and wait for an operator
+     */
+    long countByPublishedAtIsNullAndParkedAtIsNotNull();
+
+    /**
+     * Delete published events older than the given time
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt IS NOT NULL AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") OffsetDateTime before);
+}
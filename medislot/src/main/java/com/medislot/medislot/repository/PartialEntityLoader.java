@@ -0,0 +1,59 @@
+package com.medislot.medislot.repository;
+
+import com.medislot.medislot.util.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads entities with only the columns of a sparse fieldset
+ * Runs a tuple query selecting the requested attributes and copies them into detached entity
+ * instances, so the regular mappers can be reused; unselected attributes are left unset.
+ * Field names of the response DTOs are the entity attribute names
+ */
+@Repository
+public class PartialEntityLoader {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public <E> List<E> findAll(Class<E> entityType, FieldSelection fields, Specification<E> where) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityType);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.names().size());
+        for (String name : fields.names()) {
+            selections.add(root.get(name).alias(name));
+        }
+        query.multiselect(selections);
+        if (where != null) {
+            query.where(where.toPredicate(root, query, cb));
+        }
+
+        List<Tuple> rows = entityManager.createQuery(query).getResultList();
+        List<E> entities = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            E entity = BeanUtils.instantiateClass(entityType);
+            BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+            for (TupleElement<?> element : row.getElements()) {
+                wrapper.setPropertyValue(element.getAlias(), row.get(element));
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+}
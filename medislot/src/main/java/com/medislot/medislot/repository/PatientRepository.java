@@ -2,11 +2,61 @@ package com.medislot.medislot.repository;
 
 import com.medislot.medislot.entity.Patient;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface PatientRepository extends JpaRepository<Patient, UUID> {
     boolean existsByEmail(String email);
+
+    /**
+     * Patients whose lower-cased name or email contains the text, for GET /api/patients/search
+     * The LIKE predicates use the trigram indexes of PatientSearchIndexes. Ordered by exact
+     * match, then prefix, then word prefix, then earliest position of the text in the name.
+     * contains, prefix and wordPrefix are LIKE patterns built from text with wildcards escaped
+     */
+    @Query(value = "SELECT p.* FROM patients p " +
+           "WHERE (lower(p.full_name) LIKE :contains OR lower(p.email) LIKE :contains) " +
+           "AND (:activeOnly = false OR p.active) " +
+           "ORDER BY CASE " +
+           "    WHEN lower(p.full_name) = :text OR lower(p.email) = :text THEN 0 " +
+           "    WHEN lower(p.full_name) LIKE :prefix OR lower(p.email) LIKE :prefix THEN 1 " +
+           "    WHEN lower(p.full_name) LIKE :wordPrefix THEN 2 " +
+           "    ELSE 3 END, " +
+           "  COALESCE(NULLIF(strpos(lower(p.full_name), :text), 0), 2147483647), " +
+           "  p.full_name, p.id " +
+           "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Patient> searchByNameOrEmail(@Param("text") String text,
+                                      @Param("contains") String contains,
+                                      @Param("prefix") String prefix,
+                                      @Param("wordPrefix") String wordPrefix,
+                                      @Param("activeOnly") boolean activeOnly,
+                                      @Param("limit") int limit,
+                                      @Param("offset") int offset);
+
+    /**
+     * Patients whose phone digits contain the given digits, ignoring spaces, dashes and "+"
+     * The phone expression must match idx_patient_phone_digits_trgm (PatientSearchIndexes)
+     */
+    @Query(value = "SELECT p.* FROM patients p " +
+           "WHERE regexp_replace(p.phone, '[^0-9]', '', 'g') LIKE :contains " +
+           "AND (:activeOnly = false OR p.active) " +
+           "ORDER BY CASE " +
+           "    WHEN regexp_replace(p.phone, '[^0-9]', '', 'g') = :digits THEN 0 " +
+           "    WHEN regexp_replace(p.phone, '[^0-9]', '', 'g') LIKE :prefix THEN 1 " +
+           "    ELSE 2 END, " +
+           "  p.full_name, p.id " +
+           "LIMIT :limit OFFSET :offset",
+           nativeQuery = true)
+    List<Patient> searchByPhone(@Param("digits") String digits,
+                                @Param("contains") String contains,
+                                @Param("prefix") String prefix,
+                                @Param("activeOnly") boolean activeOnly,
+                                @Param("limit") int limit,
+                                @Param("offset") int offset);
 }
@@ -3,6 +3,7 @@ package com.medislot.medislot.repository;
 import com.medislot.medislot.entity.Slot;
 import com.medislot.medislot.entity.SlotStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -73,4 +74,72 @@ public interface SlotRepository extends JpaRepository<Slot, UUID> {
     Optional<Slot> findByDoctorIdAndStartTimeAndEndTime(UUID doctorId, 
                                                          OffsetDateTime startTime, 
                                                          OffsetDateTime endTime);
+    
+    /**
+     * Booking preflight: the slot plus existence, affiliation, appointment and doctor time
+     * conflict checks in a single round trip; returns a row even when the slot does not exist
+     */
+    @Query(value = "SELECT s.id AS slotId, s.doctor_id AS slotDoctorId, s.hospital_id AS slotHospitalId, " +
+           "s.start_time AS slotStartTime, s.end_time AS slotEndTime, s.status AS slotStatus, " +
+           "EXISTS (SELECT 1 FROM doctors d WHERE d.id = :doctorId) AS doctorExists, " +
+           "EXISTS (SELECT 1 FROM hospitals h WHERE h.id = :hospitalId) AS hospitalExists, " +
+           "EXISTS (SELECT 1 FROM patients p WHERE p.id = :patientId) AS patientExists, " +
+           "EXISTS (SELECT 1 FROM doctor_hospitals dh " +
+           "        WHERE dh.doctor_id = :doctorId AND dh.hospital_id = :hospitalId) AS affiliated, " +
+           "EXISTS (SELECT 1 FROM appointments a WHERE a.slot_id = :slotId) AS slotHasAppointment, " +
+           "EXISTS (SELECT 1 FROM appointments a JOIN slots o ON o.id = a.slot_id " +
+           "        WHERE a.doctor_id = :doctorId AND a.status = 'BOOKED' " +
+           "        AND o.start_time < s.end_time AND o.end_time > s.start_time) AS doctorTimeConflict " +
+           "FROM (VALUES (1)) AS one (x) LEFT JOIN slots s ON s.id = :slotId",
+           nativeQuery = true)
+    BookingPreflight findBookingPreflight(@Param("slotId") UUID slotId,
+                                          @Param("doctorId") UUID doctorId,
+                                          @Param("hospitalId") UUID hospitalId,
+                                          @Param("patientId") UUID patientId);
+    
+    /**
+     * Mark a slot as booked only if it is still available
+     * Returns 0 when another booking claimed it first
+     */
+    @Modifying
+    @Query("UPDATE Slot s SET s.status = com.medislot.medislot.entity.SlotStatus.BOOKED " +
+           "WHERE s.id = :id AND s.status = com.medislot.medislot.entity.SlotStatus.AVAILABLE")
+    int claimAvailableSlot(@Param("id") UUID id);
+    
+    /**
+     * Available slots per day of the month of a doctor, for calendar views
+     * Range scan on idx_slot_doctor_start_time; days are days of the month in the given time zone
+     */
+    @Query(value = "SELECT CAST(EXTRACT(DAY FROM s.start_time AT TIME ZONE :zone) AS int) AS day, " +
+           "CAST(count(*) AS int) AS available " +
+           "FROM slots s " +
+           "WHERE s.doctor_id = :doctorId AND s.start_time >= :from AND s.start_time < :to " +
+           "AND s.status = 'AVAILABLE' " +
+           "GROUP BY 1",
+           nativeQuery = true)
+    List<DayCount> countAvailableByDayForDoctor(@Param("doctorId") UUID doctorId,
+                                                @Param("from") OffsetDateTime from,
+                                                @Param("to") OffsetDateTime to,
+                                                @Param("zone") String zone);
+    
+    /**
+     * Available slots per day of the month at a hospital (range scan on idx_slot_hospital_start_time)
+     */
+    @Query(value = "SELECT CAST(EXTRACT(DAY FROM s.start_time AT TIME ZONE :zone) AS int) AS day, " +
+           "CAST(count(*) AS int) AS available " +
+           "FROM slots s " +
+           "WHERE s.hospital_id = :hospitalId AND s.start_time >= :from AND s.start_time < :to " +
+           "AND s.status = 'AVAILABLE' " +
+           "GROUP BY 1",
+           nativeQuery = true)
+    List<DayCount> countAvailableByDayForHospital(@Param("hospitalId") UUID hospitalId,
+                                                  @Param("from") OffsetDateTime from,
+                                                  @Param("to") OffsetDateTime to,
+                                                  @Param("zone") String zone);
+    
+    interface DayCount {
+        Integer getDay();
+        
+        Integer getAvailable();
+    }
 }
@@ -0,0 +1,60 @@
+package com.medislot.medislot.repository;
+
+import com.medislot.medislot.entity.SlotUtilization;
+import com.medislot.medislot.entity.SlotUtilizationId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SlotUtilizationRepository extends JpaRepository<SlotUtilization, SlotUtilizationId> {
+
+    List<SlotUtilization> findByDoctorIdAndDayBetween(UUID doctorId, LocalDate from, LocalDate to);
+
+    List<SlotUtilization> findByDoctorIdAndHospitalIdAndDayBetween(UUID doctorId, UUID hospitalId,
+                                                                   LocalDate from, LocalDate to);
+
+    List<SlotUtilization> findByHospitalIdAndDayBetween(UUID hospitalId, LocalDate from, LocalDate to);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM slot_utilization)", nativeQuery = true)
+    boolean hasRows();
+
+    /**
+     * Block counter flushes (and other rebuilds) until the calling transaction ends
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE slot_utilization IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockTable();
+
+    @Modifying
+    @Query(value = "DELETE FROM slot_utilization", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Recount slots per doctor, hospital, UTC day and status
+     */
+    @Modifying
+    @Query(value = "INSERT INTO slot_utilization (doctor_id, hospital_id, day, status, total) " +
+                   "SELECT s.doctor_id, s.hospital_id, CAST(s.start_time AT TIME ZONE 'UTC' AS date), s.status, count(*) " +
+                   "FROM slots s " +
+                   "GROUP BY s.doctor_id, s.hospital_id, CAST(s.start_time AT TIME ZONE 'UTC' AS date), s.status",
+           nativeQuery = true)
+    int insertSlotTotals();
+
+    /**
+     * Recount cancelled appointments per doctor, hospital and UTC day of their slot
+     */
+    @Modifying
+    @Query(value = "INSERT INTO slot_utilization (doctor_id, hospital_id, day, status, total) " +
+                   "SELECT a.doctor_id, a.hospital_id, CAST(s.start_time AT TIME ZONE 'UTC' AS date), 'CANCELLED', count(*) " +
+                   "FROM appointments a JOIN slots s ON s.id = a.slot_id " +
+                   "WHERE a.status = 'CANCELLED' " +
+                   "GROUP BY a.doctor_id, a.hospital_id, CAST(s.start_time AT TIME ZONE 'UTC' AS date)",
+           nativeQuery = true)
+    int insertCancellationTotals();
+}
@@ -0,0 +1,524 @@
+package com.medislot.medislot.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Directory Index
+ * Token trie over doctor names and specialties and hospital names and addresses, answering
+ * typo-tolerant prefix autocomplete.
+ *
+ * Text is normalized (accents stripped, lower-cased) and split into tokens; every trie node
+ * ending a token holds a posting list of (entry number, field) ints. A query token matches the
+ * tokens within a small edit distance of one of its prefixes (none up to 3 characters, 1 up to 7,
+ * 2 beyond), found by walking the trie with one Levenshtein row per node; an entry must match
+ * every query token. Per-query state lives in pooled arrays that are reset only where a query
+ * touched them, and numbers of removed entries are reused, so a search costs what it matches
+ * rather than the size of the index. Thread-safe: searches share a read lock, updates take the
+ * write lock
+ */
+public final class DirectoryIndex {
+
+    public enum Kind { DOCTOR, HOSPITAL }
+
+    /**
+     * Indexed field, in ranking order
+     */
+    public enum Field { NAME, SPECIALTY, ADDRESS }
+
+    /**
+     * Search hit; distance is the total number of edits over the query tokens
+     */
+    public record Match(Kind kind, UUID id, String name, String detail, boolean active, Field field, int distance) {
+    }
+
+    private static final int FIELD_BITS = 2;
+    private static final int FIELD_MASK = (1 << FIELD_BITS) - 1;
+    private static final Field[] FIELDS = Field.values();
+    private static final long ENTRY_MASK = 0xFFFFFFFFL;
+    private static final int NAME_RANK_BITS = 21;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Idle accumulators; a pool rather than a ThreadLocal, which virtual threads would not reuse
+    private final ConcurrentLinkedQueue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+    private final Node root = new Node();
+    private final Map<UUID, Integer> entryNumbers = new HashMap<>();
+    private final List<Entry> entries = new ArrayList<>();
+    // Numbers of removed entries, handed out again before the list grows
+    private int[] freeNumbers = new int[16];
+    private int freeCount;
+
+    // Alphabetical position of each entry's name, recomputed before the first search after a write
+    private int[] nameRanks = new int[0];
+    private volatile boolean namesUnranked;
+
+    /**
+     * Add or replace a doctor (name and specialty are indexed)
+     */
+    public void putDoctor(UUID id, String fullName, String specialty, boolean active) {
+        put(new Entry(Kind.DOCTOR, id, fullName, specialty, active), Field.SPECIALTY);
+    }
+
+    /**
+     * Add or replace a hospital (name and address are indexed)
+     */
+    public void putHospital(UUID id, String name, String address, boolean active) {
+        put(new Entry(Kind.HOSPITAL, id, name, address, active), Field.ADDRESS);
+    }
+
+    public void remove(UUID id) {
+        lock.writeLock().lock();
+        try {
+            Integer number = entryNumbers.remove(id);
+            if (number != null) {
+                unindex(number);
+                entries.set(number, null);
+                if (freeCount == freeNumbers.length) {
+                    freeNumbers = Arrays.copyOf(freeNumbers, freeCount * 2);
+                }
+                freeNumbers[freeCount++] = number;
+                namesUnranked = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entryNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Best matches for a free-text query, best first
+     * @param kind restrict to doctors or hospitals, null for both
+     */
+    public List<Match> search(String query, Kind kind, boolean activeOnly, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (namesUnranked) {
+            rankNames();
+        }
+        lock.readLock().lock();
+        try {
+            Accumulator accumulator = borrowAccumulator();
+            for (int i = 0; i < tokens.size(); i++) {
+                accumulator.beginToken(i, i == tokens.size() - 1);
+                char[] token = tokens.get(i).toCharArray();
+                int[] row = new int[token.length + 1];
+                for (int j = 0; j <= token.length; j++) {
+                    row[j] = j;
+                }
+                walk(root, token, row, Integer.MAX_VALUE, maxEdits(token.length), accumulator);
+                if (accumulator.matched == 0) {
+                    releaseAccumulator(accumulator);
+                    return List.of();
+                }
+            }
+
+            // Rank by one primitive key per candidate and keep the best `limit` in a sorted array
+            long[] best = new long[limit];
+            int bestCount = 0;
+            for (int i = 0; i < accumulator.candidateCount; i++) {
+                int number = accumulator.candidates[i];
+                Entry entry = entries.get(number);
+                if (entry == null || (kind != null && entry.kind != kind) || (activeOnly && !entry.active)) {
+                    continue;
+                }
+                long key = rankKey(accumulator, number, entry);
+                if (bestCount == limit && key >= best[limit - 1]) {
+                    continue;
+                }
+                int at = bestCount == limit ? limit - 1 : bestCount++;
+                while (at > 0 && best[at - 1] > key) {
+                    best[at] = best[at - 1];
+                    at--;
+                }
+                best[at] = key;
+            }
+
+            List<Match> matches = new ArrayList<>(bestCount);
+            for (int i = 0; i < bestCount; i++) {
+                int number = (int) (best[i] & ENTRY_MASK);
+                Entry entry = entries.get(number);
+                matches.add(new Match(entry.kind, entry.id, entry.name, entry.detail, entry.active,
+                        FIELDS[accumulator.field[number]], accumulator.distance[number]));
+            }
+            releaseAccumulator(accumulator);
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lower-cased, accent-free tokens of letters and digits
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letterOrDigit = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    static int maxEdits(int length) {
+        return length <= 3 ? 0 : length <= 7 ? 1 : 2;
+    }
+
+    private void put(Entry entry, Field detailField) {
+        lock.writeLock().lock();
+        try {
+            Integer number = entryNumbers.get(entry.id);
+            if (number == null) {
+                if (freeCount > 0) {
+                    number = freeNumbers[--freeCount];
+                } else {
+                    number = entries.size();
+                    entries.add(null);
+                }
+                entryNumbers.put(entry.id, number);
+            } else {
+                unindex(number);
+            }
+            entry.nameTokens = new LinkedHashSet<>(tokenize(entry.name));
+            entry.detailTokens = new LinkedHashSet<>(tokenize(entry.detail));
+            entry.detailField = detailField;
+            entries.set(number, entry);
+            namesUnranked = true;
+            for (String token : entry.nameTokens) {
+                insert(token).add(posting(number, Field.NAME));
+            }
+            for (String token : entry.detailTokens) {
+                insert(token).add(posting(number, detailField));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop the postings of an entry; caller holds the write lock
+     */
+    private void unindex(int number) {
+        Entry entry = entries.get(number);
+        if (entry == null) {
+            return;
+        }
+        for (String token : entry.nameTokens) {
+            removePosting(token, posting(number, Field.NAME));
+        }
+        for (String token : entry.detailTokens) {
+            removePosting(token, posting(number, entry.detailField));
+        }
+    }
+
+    /**
+     * Ranking key, smaller is better: fewest edits, then name over specialty over address,
+     * active first, then alphabetical; the low 32 bits carry the entry number
+     */
+    private long rankKey(Accumulator accumulator, int number, Entry entry) {
+        long distance = Math.min(accumulator.distance[number], 0xFF);
+        long inactive = entry.active ? 0 : 1;
+        long nameRank = number < nameRanks.length ? nameRanks[number] : (1 << NAME_RANK_BITS) - 1;
+        return distance << 56
+                | (long) accumulator.field[number] << 54
+                | inactive << 53
+                | Math.min(nameRank, (1 << NAME_RANK_BITS) - 1) << 32
+                | number;
+    }
+
+    private void rankNames() {
+        lock.writeLock().lock();
+        try {
+            if (!namesUnranked) {
+                return;
+            }
+            List<Integer> numbers = new ArrayList<>(entryNumbers.values());
+            numbers.sort((a, b) -> String.CASE_INSENSITIVE_ORDER.compare(entries.get(a).name, entries.get(b).name));
+            int[] ranks = new int[entries.size()];
+            for (int rank = 0; rank < numbers.size(); rank++) {
+                ranks[numbers.get(rank)] = rank;
+            }
+            nameRanks = ranks;
+            namesUnranked = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Node insert(String token) {
+        Node node = root;
+        for (int i = 0; i < token.length(); i++) {
+            node = node.childOrCreate(token.charAt(i));
+        }
+        return node;
+    }
+
+    private void removePosting(String token, int posting) {
+        Node node = root;
+        for (int i = 0; i < token.length() && node != null; i++) {
+            node = node.child(token.charAt(i));
+        }
+        if (node != null) {
+            node.remove(posting);
+        }
+    }
+
+    /**
+     * Depth-first walk with the Levenshtein row of the query token against the path so far
+     * A node's tokens match with the best distance of the whole token to any prefix on its path;
+     * once the row cannot improve on that, the rest of the subtree is collected as is
+     */
+    private void walk(Node node, char[] token, int[] row, int best, int maxEdits, Accumulator accumulator) {
+        best = Math.min(best, row[token.length]);
+        int rowMin = Integer.MAX_VALUE;
+        for (int value : row) {
+            rowMin = Math.min(rowMin, value);
+        }
+        if (rowMin >= best) {
+            if (best <= maxEdits) {
+                collect(node, best, accumulator);
+            }
+            return;
+        }
+        if (best <= maxEdits) {
+            addPostings(node, best, accumulator);
+        }
+        if (rowMin > maxEdits) {
+            return;
+        }
+        for (int c = 0; c < node.childCount; c++) {
+            char key = node.keys[c];
+            int[] next = new int[row.length];
+            next[0] = row[0] + 1;
+            for (int j = 1; j < row.length; j++) {
+                int substitution = row[j - 1] + (token[j - 1] == key ? 0 : 1);
+                next[j] = Math.min(substitution, Math.min(next[j - 1], row[j]) + 1);
+            }
+            walk(node.children[c], token, next, best, maxEdits, accumulator);
+        }
+    }
+
+    private void collect(Node node, int distance, Accumulator accumulator) {
+        addPostings(node, distance, accumulator);
+        for (int c = 0; c < node.childCount; c++) {
+            collect(node.children[c], distance, accumulator);
+        }
+    }
+
+    private void addPostings(Node node, int distance, Accumulator accumulator) {
+        for (int i = 0; i < node.postingCount; i++) {
+            int posting = node.postings[i];
+            accumulator.add(posting >>> FIELD_BITS, posting & FIELD_MASK, distance);
+        }
+    }
+
+    /**
+     * Caller holds the read lock, so the number of entries cannot change until release
+     */
+    private Accumulator borrowAccumulator() {
+        Accumulator accumulator = accumulators.poll();
+        if (accumulator == null) {
+            accumulator = new Accumulator();
+        }
+        accumulator.ensureCapacity(entries.size());
+        return accumulator;
+    }
+
+    private void releaseAccumulator(Accumulator accumulator) {
+        accumulator.reset();
+        accumulators.offer(accumulator);
+    }
+
+    private static int posting(int number, Field field) {
+        return (number << FIELD_BITS) | field.ordinal();
+    }
+
+    /**
+     * Per-query match state indexed by entry number; an entry stays a candidate only while it
+     * matched every token so far, keeping the best (lowest) distance per token.
+     * Only entries the first token matched are ever written, and reset() clears just those
+     */
+    private static final class Accumulator {
+
+        int[] matchedTokens = new int[0];
+        int[] tokenDistance = new int[0];
+        int[] distance = new int[0];
+        int[] field = new int[0];
+        int[] touched = new int[16];
+        int touchedCount;
+        int[] candidates = new int[16];
+        int candidateCount;
+        int token;
+        boolean last;
+        int matched;
+
+        void ensureCapacity(int size) {
+            if (matchedTokens.length >= size) {
+                return;
+            }
+            int capacity = Math.max(size, matchedTokens.length + (matchedTokens.length >> 1));
+            int grown = field.length;
+            matchedTokens = Arrays.copyOf(matchedTokens, capacity);
+            tokenDistance = Arrays.copyOf(tokenDistance, capacity);
+            distance = Arrays.copyOf(distance, capacity);
+            field = Arrays.copyOf(field, capacity);
+            Arrays.fill(field, grown, capacity, FIELD_MASK);
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                int number = touched[i];
+                matchedTokens[number] = 0;
+                tokenDistance[number] = 0;
+                distance[number] = 0;
+                field[number] = FIELD_MASK;
+            }
+            touchedCount = 0;
+            candidateCount = 0;
+        }
+
+        void beginToken(int token, boolean last) {
+            this.token = token;
+            this.last = last;
+            this.matched = 0;
+        }
+
+        void add(int number, int fieldOrdinal, int editDistance) {
+            if (matchedTokens[number] == token) {
+                // First match of this token for the entry
+                if (token == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = number;
+                }
+                matchedTokens[number] = token + 1;
+                tokenDistance[number] = editDistance;
+                distance[number] += editDistance;
+                matched++;
+                if (last) {
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = number;
+                }
+            } else if (matchedTokens[number] == token + 1 && editDistance < tokenDistance[number]) {
+                distance[number] -= tokenDistance[number] - editDistance;
+                tokenDistance[number] = editDistance;
+            } else if (matchedTokens[number] != token + 1) {
+                return;
+            }
+            field[number] = Math.min(field[number], fieldOrdinal);
+        }
+    }
+
+    private static final class Entry {
+
+        final Kind kind;
+        final UUID id;
+        final String name;
+        final String detail;
+        final boolean active;
+        Set<String> nameTokens;
+        Set<String> detailTokens;
+        Field detailField;
+
+        Entry(Kind kind, UUID id, String name, String detail, boolean active) {
+            this.kind = kind;
+            this.id = id;
+            this.name = name == null ? "" : name;
+            this.detail = detail;
+            this.active = active;
+        }
+    }
+
+    /**
+     * Trie node with children in sorted parallel arrays and an int posting list
+     */
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final int[] NO_POSTINGS = new int[0];
+
+        char[] keys = NO_KEYS;
+        Node[] children = NO_CHILDREN;
+        int childCount;
+        int[] postings = NO_POSTINGS;
+        int postingCount;
+
+        Node child(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, 0, childCount, key);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == keys.length) {
+                int capacity = Math.max(2, childCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(keys, insertAt, keys, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node node = new Node();
+            keys[insertAt] = key;
+            children[insertAt] = node;
+            childCount++;
+            return node;
+        }
+
+        void add(int posting) {
+            if (postingCount == postings.length) {
+                postings = Arrays.copyOf(postings, Math.max(4, postingCount * 2));
+            }
+            postings[postingCount++] = posting;
+        }
+
+        void remove(int posting) {
+            for (int i = 0; i < postingCount; i++) {
+                if (postings[i] == posting) {
+                    postings[i] = postings[--postingCount];
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.medislot.medislot.search;
+
+import com.medislot.medislot.entity.Doctor;
+import com.medislot.medislot.entity.Hospital;
+import com.medislot.medislot.event.DoctorChangedEvent;
+import com.medislot.medislot.event.HospitalChangedEvent;
+import com.medislot.medislot.repository.DoctorRepository;
+import com.medislot.medislot.repository.HospitalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Directory Search Index
+ * Keeps a DirectoryIndex of all doctors and hospitals for autocomplete.
+ * Loaded at startup, updated from committed doctor and hospital change events and rebuilt
+ * periodically to pick up changes made on other nodes. Changes committed while a rebuild reads
+ * the tables are recorded and replayed into the fresh index before it is swapped in
+ */
+@Component
+public class DirectorySearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectorySearchIndex.class);
+
+    private final DoctorRepository doctorRepository;
+    private final HospitalRepository hospitalRepository;
+
+    private volatile DirectoryIndex index = new DirectoryIndex();
+    private volatile boolean loaded;
+
+    // Changes applied since the running rebuild started, null when none is running; guarded by lock
+    private List<Object> replay;
+    private final Object lock = new Object();
+    private final Object rebuildLock = new Object();
+
+    public DirectorySearchIndex(DoctorRepository doctorRepository, HospitalRepository hospitalRepository) {
+        this.doctorRepository = doctorRepository;
+        this.hospitalRepository = hospitalRepository;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public List<DirectoryIndex.Match> search(String query, DirectoryIndex.Kind kind, boolean activeOnly, int limit) {
+        return index.search(query, kind, activeOnly, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    /**
+     * Build a fresh index from the database and swap it in
+     */
+    @Scheduled(fixedDelayString = "${search-index.refresh-interval-ms:300000}",
+               initialDelayString = "${search-index.refresh-interval-ms:300000}")
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            try {
+                synchronized (lock) {
+                    replay = new ArrayList<>();
+                }
+                long start = System.nanoTime();
+                DirectoryIndex fresh = new DirectoryIndex();
+                for (Doctor doctor : doctorRepository.findAll()) {
+                    fresh.putDoctor(doctor.getId(), doctor.getFullName(), doctor.getSpecialty(),
+                            Boolean.TRUE.equals(doctor.getActive()));
+                }
+                for (Hospital hospital : hospitalRepository.findAll()) {
+                    fresh.putHospital(hospital.getId(), hospital.getName(), hospital.getAddress(),
+                            Boolean.TRUE.equals(hospital.getActive()));
+                }
+                synchronized (lock) {
+                    for (Object event : replay) {
+                        apply(fresh, event);
+                    }
+                    index = fresh;
+                }
+                loaded = true;
+                logger.debug("Directory search index built: {} entries in {} ms",
+                        fresh.size(), (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                logger.warn("Directory search index rebuild failed: {}", e.getMessage());
+            } finally {
+                synchronized (lock) {
+                    replay = null;
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDoctorChanged(DoctorChangedEvent event) {
+        record(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onHospitalChanged(HospitalChangedEvent event) {
+        record(event);
+    }
+
+    private void record(Object event) {
+        synchronized (lock) {
+            if (replay != null) {
+                replay.add(event);
+            }
+            apply(index, event);
+        }
+    }
+
+    private static void apply(DirectoryIndex target, Object event) {
+        if (event instanceof DoctorChangedEvent doctor) {
+            if (DoctorChangedEvent.DELETED.equals(doctor.change())) {
+                target.remove(doctor.doctorId());
+            } else {
+                target.putDoctor(doctor.doctorId(), doctor.fullName(), doctor.specialty(),
+                        Boolean.TRUE.equals(doctor.active()));
+            }
+        } else if (event instanceof HospitalChangedEvent hospital) {
+            if (HospitalChangedEvent.DELETED.equals(hospital.change())) {
+                target.remove(hospital.hospitalId());
+            } else {
+                target.putHospital(hospital.hospitalId(), hospital.name(), hospital.address(),
+                        Boolean.TRUE.equals(hospital.active()));
+            }
+        }
+    }
+}
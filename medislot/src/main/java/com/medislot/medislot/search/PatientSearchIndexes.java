@@ -0,0 +1,118 @@
+package com.medislot.medislot.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Patient Search Indexes
+ * Creates the trigram indexes behind GET /api/patients/search, which JPA @Index cannot express:
+ * GIN pg_trgm indexes on lower(full_name), lower(email) and the digits of phone, so
+ * "contains" matches use a bitmap index scan instead of reading the whole table.
+ *
+ * Runs once the schema exists; every statement is idempotent and built CONCURRENTLY so writes
+ * are not blocked. A failed concurrent build leaves an INVALID index that IF NOT EXISTS would keep
+ * forever, so invalid ones are dropped and built again. Nodes starting together take turns through
+ * an advisory lock, which also keeps one node from dropping an index another is still building.
+ * Where the schema is managed outside the application (patient-search.create-indexes=false),
+ * apply the same statements with it
+ */
+@Component
+public class PatientSearchIndexes {
+
+    private static final Logger logger = LoggerFactory.getLogger(PatientSearchIndexes.class);
+
+    // Must match the phone expression of PatientRepository.searchByPhone
+    private static final String PHONE_DIGITS = "regexp_replace(phone, '[^0-9]', '', 'g')";
+
+    // "patients" in ASCII; the same key on every node
+    private static final long ADVISORY_LOCK_KEY = 0x7061_7469_656e_7473L;
+
+    // Index name -> definition
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("idx_patient_full_name_trgm", "ON patients USING gin (lower(full_name) gin_trgm_ops)");
+        INDEXES.put("idx_patient_email_trgm", "ON patients USING gin (lower(email) gin_trgm_ops)");
+        INDEXES.put("idx_patient_phone_digits_trgm", "ON patients USING gin ((" + PHONE_DIGITS + ") gin_trgm_ops)");
+    }
+
+    private static final String FIND_INVALID =
+            "SELECT c.relname FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid " +
+            "WHERE c.relname = ANY (?) AND NOT i.indisvalid";
+
+    private final DataSource dataSource;
+    private final boolean createIndexes;
+
+    public PatientSearchIndexes(DataSource dataSource,
+                                @Value("${patient-search.create-indexes:true}") boolean createIndexes) {
+        this.dataSource = dataSource;
+        this.createIndexes = createIndexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        if (!createIndexes) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            // CREATE INDEX CONCURRENTLY cannot run inside a transaction block
+            connection.setAutoCommit(true);
+            if (!tryLock(connection)) {
+                logger.debug("Patient search indexes are being created by another node");
+                return;
+            }
+            try {
+                statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+                for (String name : findInvalid(connection)) {
+                    logger.warn("Dropping invalid patient search index {} left by a failed build", name);
+                    statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + name);
+                }
+                for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                    statement.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index.getKey() + " " + index.getValue());
+                }
+            } finally {
+                statement.execute("SELECT pg_advisory_unlock(" + ADVISORY_LOCK_KEY + ")");
+            }
+            logger.debug("Patient search indexes are in place");
+        } catch (SQLException e) {
+            // Search still works without them, by scanning the table
+            logger.warn("Patient search indexes could not be created: {}", e.getMessage());
+        }
+    }
+
+    private static boolean tryLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT pg_try_advisory_lock(" + ADVISORY_LOCK_KEY + ")")) {
+            return result.next() && result.getBoolean(1);
+        }
+    }
+
+    private static List<String> findInvalid(Connection connection) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_INVALID)) {
+            statement.setArray(1, connection.createArrayOf("text", INDEXES.keySet().toArray()));
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    names.add(result.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,78 @@
+package com.medislot.medislot.serialization;
+
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.entity.AppointmentStatus;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Streaming JSON serializer for AppointmentResponse
+ * Writes the properties directly in @JsonPropertyOrder order with pre-encoded names and status
+ * values; output is byte-for-byte the same as Jackson's bean serialization
+ */
+public class AppointmentResponseSerializer extends StdSerializer<AppointmentResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString DOCTOR_ID = new SerializedString("doctorId");
+    private static final SerializableString HOSPITAL_ID = new SerializedString("hospitalId");
+    private static final SerializableString SLOT_ID = new SerializedString("slotId");
+    private static final SerializableString PATIENT_ID = new SerializedString("patientId");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final Map<AppointmentStatus, SerializableString> STATUS_VALUES = new EnumMap<>(AppointmentStatus.class);
+
+    static {
+        for (AppointmentStatus status : AppointmentStatus.values()) {
+            STATUS_VALUES.put(status, new SerializedString(status.name()));
+        }
+    }
+
+    public AppointmentResponseSerializer() {
+        super(AppointmentResponse.class);
+    }
+
+    @Override
+    public void serialize(AppointmentResponse appointment, JsonGenerator g, SerializationContext ctxt) {
+        JsonEncodingCache cache = JsonEncodingCache.of(ctxt);
+        g.writeStartObject(appointment);
+        if (cache.includes("id")) {
+            g.writeName(ID);
+            cache.writeUuid(g, appointment.getId());
+        }
+        if (cache.includes("doctorId")) {
+            g.writeName(DOCTOR_ID);
+            cache.writeUuid(g, appointment.getDoctorId(), JsonEncodingCache.DOCTOR_ID);
+        }
+        if (cache.includes("hospitalId")) {
+            g.writeName(HOSPITAL_ID);
+            cache.writeUuid(g, appointment.getHospitalId(), JsonEncodingCache.HOSPITAL_ID);
+        }
+        if (cache.includes("slotId")) {
+            g.writeName(SLOT_ID);
+            cache.writeUuid(g, appointment.getSlotId());
+        }
+        if (cache.includes("patientId")) {
+            g.writeName(PATIENT_ID);
+            cache.writeUuid(g, appointment.getPatientId(), JsonEncodingCache.PATIENT_ID);
+        }
+        if (cache.includes("status")) {
+            g.writeName(STATUS);
+            if (appointment.getStatus() == null) {
+                g.writeNull();
+            } else {
+                g.writeString(STATUS_VALUES.get(appointment.getStatus()));
+            }
+        }
+        if (cache.includes("createdAt")) {
+            g.writeName(CREATED_AT);
+            cache.writeTime(g, ctxt, appointment.getCreatedAt());
+        }
+        g.writeEndObject();
+    }
+}
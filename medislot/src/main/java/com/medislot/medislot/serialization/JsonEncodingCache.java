@@ -0,0 +1,160 @@
+package com.medislot.medislot.serialization;
+
+import com.medislot.medislot.util.FieldSelection;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.cfg.DateTimeFeature;
+
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Per-response encoding state of the streaming serializers
+ * Stored as a SerializationContext attribute, so it lives for exactly one writeValue call.
+ * Remembers the last encoding of repeated UUID columns (doctorId, hospitalId, ...) and of the
+ * two most recent timestamps (a slot's end is usually the next slot's start), and reads the
+ * request's FieldSelection once instead of per property
+ */
+final class JsonEncodingCache {
+
+    static final int DOCTOR_ID = 0;
+    static final int HOSPITAL_ID = 1;
+    static final int PATIENT_ID = 2;
+
+    private static final Class<JsonEncodingCache> ATTRIBUTE = JsonEncodingCache.class;
+
+    private final FieldSelection fields;
+    private final boolean isoTimestamps;
+    private final UUID[] uuids = new UUID[3];
+    private final String[] uuidTexts = new String[3];
+    private final OffsetDateTime[] times = new OffsetDateTime[2];
+    private final String[] timeTexts = new String[2];
+    private int nextTime;
+
+    private JsonEncodingCache(FieldSelection fields, boolean isoTimestamps) {
+        this.fields = fields;
+        this.isoTimestamps = isoTimestamps;
+    }
+
+    static JsonEncodingCache of(SerializationContext ctxt) {
+        Object attribute = ctxt.getAttribute(ATTRIBUTE);
+        if (attribute instanceof JsonEncodingCache cache) {
+            return cache;
+        }
+        // Hand formatting reproduces Jackson's default ISO-8601 output only; anything else
+        // configured on the mapper goes through the regular OffsetDateTime serializer
+        boolean isoTimestamps = !ctxt.isEnabled(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !ctxt.getConfig().hasExplicitTimeZone();
+        JsonEncodingCache cache = new JsonEncodingCache(FieldSelection.current(), isoTimestamps);
+        ctxt.setAttribute(ATTRIBUTE, cache);
+        return cache;
+    }
+
+    boolean includes(String name) {
+        return fields.includes(name);
+    }
+
+    /**
+     * Write a UUID of a repeating column, reusing the previous encoding when the value repeats
+     */
+    void writeUuid(JsonGenerator g, UUID value, int column) {
+        if (value == null) {
+            g.writeNull();
+            return;
+        }
+        if (!value.equals(uuids[column])) {
+            uuids[column] = value;
+            uuidTexts[column] = value.toString();
+        }
+        g.writeString(uuidTexts[column]);
+    }
+
+    void writeUuid(JsonGenerator g, UUID value) {
+        if (value == null) {
+            g.writeNull();
+        } else {
+            g.writeString(value.toString());
+        }
+    }
+
+    void writeTime(JsonGenerator g, SerializationContext ctxt, OffsetDateTime value) {
+        if (value == null) {
+            g.writeNull();
+            return;
+        }
+        if (!isoTimestamps) {
+            ctxt.writeValue(g, value);
+            return;
+        }
+        for (int i = 0; i < times.length; i++) {
+            if (value.equals(times[i])) {
+                g.writeString(timeTexts[i]);
+                return;
+            }
+        }
+        String text = formatIso(value);
+        times[nextTime] = value;
+        timeTexts[nextTime] = text;
+        nextTime = (nextTime + 1) % times.length;
+        g.writeString(text);
+    }
+
+    /**
+     * Same output as DateTimeFormatter.ISO_OFFSET_DATE_TIME without the formatter machinery:
+     * seconds always, fraction only when non-zero with trailing zeros dropped, Z for UTC
+     */
+    static String formatIso(OffsetDateTime value) {
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            return DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+        }
+        char[] buffer = new char[35];
+        int pos = writeDigits(buffer, 0, year, 4);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getMonthValue(), 2);
+        buffer[pos++] = '-';
+        pos = writeDigits(buffer, pos, value.getDayOfMonth(), 2);
+        buffer[pos++] = 'T';
+        pos = writeDigits(buffer, pos, value.getHour(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getMinute(), 2);
+        buffer[pos++] = ':';
+        pos = writeDigits(buffer, pos, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[pos++] = '.';
+            pos = writeDigits(buffer, pos, nano, digits);
+        }
+
+        int offsetSeconds = value.getOffset().getTotalSeconds();
+        if (offsetSeconds == 0) {
+            buffer[pos++] = 'Z';
+        } else {
+            int absolute = Math.abs(offsetSeconds);
+            buffer[pos++] = offsetSeconds < 0 ? '-' : '+';
+            pos = writeDigits(buffer, pos, absolute / 3600, 2);
+            buffer[pos++] = ':';
+            pos = writeDigits(buffer, pos, (absolute / 60) % 60, 2);
+            if (absolute % 60 != 0) {
+                buffer[pos++] = ':';
+                pos = writeDigits(buffer, pos, absolute % 60, 2);
+            }
+        }
+        return new String(buffer, 0, pos);
+    }
+
+    private static int writeDigits(char[] buffer, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+}
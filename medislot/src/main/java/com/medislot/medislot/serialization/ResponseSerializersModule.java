@@ -0,0 +1,19 @@
+package com.medislot.medislot.serialization;
+
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.dto.slot.SlotResponse;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Streaming serializers for the high-volume list DTOs
+ * Registered on the JSON response mapper only; CBOR and Smile keep bean serialization because
+ * they encode UUIDs and timestamps differently
+ */
+public class ResponseSerializersModule extends SimpleModule {
+
+    public ResponseSerializersModule() {
+        super("medislot-response-serializers");
+        addSerializer(SlotResponse.class, new SlotResponseSerializer());
+        addSerializer(AppointmentResponse.class, new AppointmentResponseSerializer());
+    }
+}
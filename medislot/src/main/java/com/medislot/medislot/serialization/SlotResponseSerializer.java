@@ -0,0 +1,78 @@
+package com.medislot.medislot.serialization;
+
+import com.medislot.medislot.dto.slot.SlotResponse;
+import com.medislot.medislot.entity.SlotStatus;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Streaming JSON serializer for SlotResponse
+ * Writes the properties directly in @JsonPropertyOrder order with pre-encoded names and status
+ * values; output is byte-for-byte the same as Jackson's bean serialization
+ */
+public class SlotResponseSerializer extends StdSerializer<SlotResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString DOCTOR_ID = new SerializedString("doctorId");
+    private static final SerializableString HOSPITAL_ID = new SerializedString("hospitalId");
+    private static final SerializableString START_TIME = new SerializedString("startTime");
+    private static final SerializableString END_TIME = new SerializedString("endTime");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final Map<SlotStatus, SerializableString> STATUS_VALUES = new EnumMap<>(SlotStatus.class);
+
+    static {
+        for (SlotStatus status : SlotStatus.values()) {
+            STATUS_VALUES.put(status, new SerializedString(status.name()));
+        }
+    }
+
+    public SlotResponseSerializer() {
+        super(SlotResponse.class);
+    }
+
+    @Override
+    public void serialize(SlotResponse slot, JsonGenerator g, SerializationContext ctxt) {
+        JsonEncodingCache cache = JsonEncodingCache.of(ctxt);
+        g.writeStartObject(slot);
+        if (cache.includes("id")) {
+            g.writeName(ID);
+            cache.writeUuid(g, slot.getId());
+        }
+        if (cache.includes("doctorId")) {
+            g.writeName(DOCTOR_ID);
+            cache.writeUuid(g, slot.getDoctorId(), JsonEncodingCache.DOCTOR_ID);
+        }
+        if (cache.includes("hospitalId")) {
+            g.writeName(HOSPITAL_ID);
+            cache.writeUuid(g, slot.getHospitalId(), JsonEncodingCache.HOSPITAL_ID);
+        }
+        if (cache.includes("startTime")) {
+            g.writeName(START_TIME);
+            cache.writeTime(g, ctxt, slot.getStartTime());
+        }
+        if (cache.includes("endTime")) {
+            g.writeName(END_TIME);
+            cache.writeTime(g, ctxt, slot.getEndTime());
+        }
+        if (cache.includes("status")) {
+            g.writeName(STATUS);
+            if (slot.getStatus() == null) {
+                g.writeNull();
+            } else {
+                g.writeString(STATUS_VALUES.get(slot.getStatus()));
+            }
+        }
+        if (cache.includes("createdAt")) {
+            g.writeName(CREATED_AT);
+            cache.writeTime(g, ctxt, slot.getCreatedAt());
+        }
+        g.writeEndObject();
+    }
+}
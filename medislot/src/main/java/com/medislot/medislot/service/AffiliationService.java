@@ -0,0 +1,53 @@
+package com.medislot.medislot.service;
+
+import com.medislot.medislot.dto.affiliation.AffiliationResponse;
+import com.medislot.medislot.dto.doctor.DoctorResponse;
+import com.medislot.medislot.dto.hospital.HospitalResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for doctor-hospital affiliations
+ */
+public interface AffiliationService {
+    
+    /**
+     * Affiliate a doctor with a hospital; affiliating twice returns the existing affiliation
+     * @param doctorId the doctor ID
+     * @param hospitalId the hospital ID
+     * @return the affiliation response
+     */
+    AffiliationResponse affiliate(UUID doctorId, UUID hospitalId);
+    
+    /**
+     * Remove the affiliation of a doctor with a hospital
+     * @param doctorId the doctor ID
+     * @param hospitalId the hospital ID
+     */
+    void remove(UUID doctorId, UUID hospitalId);
+    
+    /**
+     * Find doctors practising at a hospital
+     * @param hospitalId the hospital ID
+     * @param specialty specialty filter (case-insensitive), null for any
+     * @param activeOnly only active doctors
+     * @return list of doctor responses ordered by name
+     */
+    List<DoctorResponse> findDoctorsAtHospital(UUID hospitalId, String specialty, boolean activeOnly);
+    
+    /**
+     * Find hospitals a doctor practises at
+     * @param doctorId the doctor ID
+     * @return list of hospital responses ordered by name
+     */
+    List<HospitalResponse> findHospitalsOfDoctor(UUID doctorId);
+    
+    /**
+     * Check whether a doctor practises at a hospital
+     * @param doctorId the doctor ID
+     * @param hospitalId the hospital ID
+     * @return true if affiliated
+     */
+    boolean isAffiliated(UUID doctorId, UUID hospitalId);
+}
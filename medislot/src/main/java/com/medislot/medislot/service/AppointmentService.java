@@ -4,6 +4,7 @@ import com.medislot.medislot.dto.appointment.AppointmentCreateRequest;
 import com.medislot.medislot.dto.appointment.AppointmentResponse;
 import com.medislot.medislot.entity.Appointment;
 import com.medislot.medislot.entity.AppointmentStatus;
+import com.medislot.medislot.util.FieldSelection;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,26 +14,36 @@ import java.util.UUID;
  */
 public interface AppointmentService extends BaseService<Appointment, UUID, AppointmentCreateRequest, AppointmentCreateRequest, AppointmentResponse> {
     
+    /**
+     * Find all appointments
+     * @param fields selected response fields; only these columns are loaded
+     * @return list of appointment responses
+     */
+    List<AppointmentResponse> findAll(FieldSelection fields);
+    
     /**
      * Find all appointments for a patient
      * @param patientId the patient ID
+     * @param fields selected response fields; only these columns are loaded
      * @return list of appointment responses
      */
-    List<AppointmentResponse> findByPatientId(UUID patientId);
+    List<AppointmentResponse> findByPatientId(UUID patientId, FieldSelection fields);
     
     /**
      * Find all appointments for a doctor
      * @param doctorId the doctor ID
+     * @param fields selected response fields; only these columns are loaded
      * @return list of appointment responses
      */
-    List<AppointmentResponse> findByDoctorId(UUID doctorId);
+    List<AppointmentResponse> findByDoctorId(UUID doctorId, FieldSelection fields);
     
     /**
      * Find all appointments at a hospital
      * @param hospitalId the hospital ID
+     * @param fields selected response fields; only these columns are loaded
      * @return list of appointment responses
      */
-    List<AppointmentResponse> findByHospitalId(UUID hospitalId);
+    List<AppointmentResponse> findByHospitalId(UUID hospitalId, FieldSelection fields);
     
     /**
      * Cancel an appointment by patient
@@ -1,11 +1,15 @@
 package com.medislot.medislot.service;
 
+import com.medislot.medislot.dto.slot.AvailabilityCalendarResponse;
 import com.medislot.medislot.dto.slot.SlotCreateRequest;
 import com.medislot.medislot.dto.slot.SlotResponse;
 import com.medislot.medislot.entity.Slot;
 import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.util.FieldSelection;
 
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,36 +18,65 @@ import java.util.UUID;
  */
 public interface AvailabilityService extends BaseService<Slot, UUID, SlotCreateRequest, SlotCreateRequest, SlotResponse> {
     
+    /**
+     * Find all slots
+     * @param fields selected response fields; only these columns are loaded
+     * @return list of slot responses
+     */
+    List<SlotResponse> findAll(FieldSelection fields);
+    
     /**
      * Find available slots by doctor
      * @param doctorId the doctor ID
+     * @param fields selected response fields; only these columns are loaded
      * @return list of available slot responses
      */
-    List<SlotResponse> findAvailableSlotsByDoctor(UUID doctorId);
+    List<SlotResponse> findAvailableSlotsByDoctor(UUID doctorId, FieldSelection fields);
     
     /**
      * Find available slots by hospital
      * @param hospitalId the hospital ID
+     * @param fields selected response fields; only these columns are loaded
      * @return list of available slot responses
      */
-    List<SlotResponse> findAvailableSlotsByHospital(UUID hospitalId);
+    List<SlotResponse> findAvailableSlotsByHospital(UUID hospitalId, FieldSelection fields);
     
     /**
      * Find available slots by doctor and hospital
      * @param doctorId the doctor ID
      * @param hospitalId the hospital ID
+     * @param fields selected response fields; only these columns are loaded
      * @return list of available slot responses
      */
-    List<SlotResponse> findAvailableSlotsByDoctorAndHospital(UUID doctorId, UUID hospitalId);
+    List<SlotResponse> findAvailableSlotsByDoctorAndHospital(UUID doctorId, UUID hospitalId, FieldSelection fields);
     
     /**
      * Find slots by doctor in a time range
      * @param doctorId the doctor ID
      * @param startTime start of time range
      * @param endTime end of time range
+     * @param fields selected response fields; only these columns are loaded
      * @return list of slot responses
      */
-    List<SlotResponse> findSlotsByDoctorAndTimeRange(UUID doctorId, OffsetDateTime startTime, OffsetDateTime endTime);
+    List<SlotResponse> findSlotsByDoctorAndTimeRange(UUID doctorId, OffsetDateTime startTime, OffsetDateTime endTime, FieldSelection fields);
+    
+    /**
+     * Count available slots of a doctor per day of a month
+     * @param doctorId the doctor ID
+     * @param month the month
+     * @param zone time zone the days are counted in
+     * @return available slots per day of the month
+     */
+    AvailabilityCalendarResponse getDoctorCalendar(UUID doctorId, YearMonth month, ZoneId zone);
+    
+    /**
+     * Count available slots at a hospital per day of a month
+     * @param hospitalId the hospital ID
+     * @param month the month
+     * @param zone time zone the days are counted in
+     * @return available slots per day of the month
+     */
+    AvailabilityCalendarResponse getHospitalCalendar(UUID hospitalId, YearMonth month, ZoneId zone);
     
     /**
      * Mark a slot as booked
@@ -0,0 +1,27 @@
+package com.medislot.medislot.service;
+
+import com.medislot.medislot.dto.change.ChangeFeedResponse;
+
+import java.util.Set;
+
+/**
+ * Service interface for the incremental change feed
+ */
+public interface ChangeFeedService {
+
+    /**
+     * Get the changes after a sync token
+     * @param since token returned by a previous call, or null to start from the beginning
+     * @param entityTypes entity types to include (slot, appointment, doctor, hospital)
+     * @param limit maximum number of change log entries to read
+     * @return changed entities in change order with the token to continue from
+     */
+    ChangeFeedResponse getChanges(String since, Set<String> entityTypes, int limit);
+
+    /**
+     * Get a token for the current head of the feed
+     * Taken before a full download, it lets the client continue with deltas without missing changes
+     * @return sync token
+     */
+    String getCurrentToken();
+}
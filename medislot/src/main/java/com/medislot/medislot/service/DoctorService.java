@@ -4,6 +4,7 @@ import com.medislot.medislot.dto.doctor.DoctorCreateRequest;
 import com.medislot.medislot.dto.doctor.DoctorResponse;
 import com.medislot.medislot.dto.doctor.DoctorUpdateRequest;
 import com.medislot.medislot.entity.Doctor;
+import com.medislot.medislot.util.FieldSelection;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,11 +14,19 @@ import java.util.UUID;
  */
 public interface DoctorService extends BaseService<Doctor, UUID, DoctorCreateRequest, DoctorUpdateRequest, DoctorResponse> {
     
+    /**
+     * Find all doctors
+     * @param fields selected response fields; only these columns are loaded
+     * @return list of doctor responses
+     */
+    List<DoctorResponse> findAll(FieldSelection fields);
+    
     /**
      * Find all active doctors
+     * @param fields selected response fields; only these columns are loaded
      * @return list of active doctor responses
      */
-    List<DoctorResponse> findAllActive();
+    List<DoctorResponse> findAllActive(FieldSelection fields);
     
     /**
      * Deactivate a doctor (soft delete)
@@ -36,14 +45,16 @@ public interface DoctorService extends BaseService<Doctor, UUID, DoctorCreateReq
     /**
      * Find doctors by specialty (case-insensitive)
      * @param specialty the specialty to filter by
+     * @param fields selected response fields; only these columns are loaded
      * @return list of doctor responses with matching specialty
      */
-    List<DoctorResponse> findBySpecialtyIgnoreCase(String specialty);
+    List<DoctorResponse> findBySpecialtyIgnoreCase(String specialty, FieldSelection fields);
     
     /**
      * Find active doctors by specialty (case-insensitive)
      * @param specialty the specialty to filter by
+     * @param fields selected response fields; only these columns are loaded
      * @return list of active doctor responses with matching specialty
      */
-    List<DoctorResponse> findActiveBySpecialtyIgnoreCase(String specialty);
+    List<DoctorResponse> findActiveBySpecialtyIgnoreCase(String specialty, FieldSelection fields);
 }
@@ -2,6 +2,7 @@ package com.medislot.medislot.service;
 
 import com.medislot.medislot.dto.patient.PatientCreateRequest;
 import com.medislot.medislot.dto.patient.PatientResponse;
+import com.medislot.medislot.dto.patient.PatientSearchResponse;
 import com.medislot.medislot.entity.Patient;
 
 import java.util.List;
@@ -31,4 +32,14 @@ public interface PatientService extends BaseService<Patient, UUID, PatientCreate
      * @return the activated patient response
      */
     PatientResponse activate(UUID id);
+    
+    /**
+     * Search patients by part of their name, email or phone number, most relevant first
+     * @param query at least 3 characters, or at least 3 digits for a phone number
+     * @param activeOnly only active patients
+     * @param page zero-based page number
+     * @param size page size
+     * @return the requested page of matches
+     */
+    PatientSearchResponse search(String query, boolean activeOnly, int page, int size);
 }
@@ -0,0 +1,37 @@
+package com.medislot.medislot.service;
+
+import com.medislot.medislot.dto.utilization.UtilizationReportResponse;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Service interface for slot utilization reports
+ */
+public interface UtilizationService {
+    
+    /**
+     * Daily utilization of a doctor, across all hospitals or at one
+     * @param doctorId the doctor ID
+     * @param hospitalId the hospital ID, or null for all hospitals
+     * @param from first day (UTC), inclusive
+     * @param to last day (UTC), inclusive
+     * @return one entry per day of the range
+     */
+    UtilizationReportResponse doctorReport(UUID doctorId, UUID hospitalId, LocalDate from, LocalDate to);
+    
+    /**
+     * Daily utilization of a hospital across its doctors
+     * @param hospitalId the hospital ID
+     * @param from first day (UTC), inclusive
+     * @param to last day (UTC), inclusive
+     * @return one entry per day of the range
+     */
+    UtilizationReportResponse hospitalReport(UUID hospitalId, LocalDate from, LocalDate to);
+    
+    /**
+     * Recount all utilization counters from the slots and appointments tables
+     * @return the number of counter rows written
+     */
+    int rebuild();
+}
@@ -0,0 +1,158 @@
+package com.medislot.medislot.service.impl;
+
+import com.medislot.medislot.affiliation.AffiliationIndex;
+import com.medislot.medislot.dto.affiliation.AffiliationResponse;
+import com.medislot.medislot.dto.doctor.DoctorResponse;
+import com.medislot.medislot.dto.hospital.HospitalResponse;
+import com.medislot.medislot.entity.Doctor;
+import com.medislot.medislot.entity.DoctorHospital;
+import com.medislot.medislot.entity.DoctorHospitalId;
+import com.medislot.medislot.entity.Hospital;
+import com.medislot.medislot.event.AffiliationChangedEvent;
+import com.medislot.medislot.exception.ResourceNotFoundException;
+import com.medislot.medislot.mapper.AffiliationMapper;
+import com.medislot.medislot.mapper.DoctorMapper;
+import com.medislot.medislot.mapper.HospitalMapper;
+import com.medislot.medislot.repository.DoctorHospitalRepository;
+import com.medislot.medislot.repository.DoctorRepository;
+import com.medislot.medislot.repository.HospitalRepository;
+import com.medislot.medislot.service.AffiliationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of AffiliationService
+ * Directory reads resolve ids through the AffiliationIndex and load the entities by primary key
+ */
+@Service
+@Transactional(readOnly = true)
+public class AffiliationServiceImpl implements AffiliationService {
+    
+    private final DoctorHospitalRepository doctorHospitalRepository;
+    private final DoctorRepository doctorRepository;
+    private final HospitalRepository hospitalRepository;
+    private final AffiliationIndex affiliationIndex;
+    private final AffiliationMapper affiliationMapper;
+    private final DoctorMapper doctorMapper;
+    private final HospitalMapper hospitalMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    public AffiliationServiceImpl(DoctorHospitalRepository doctorHospitalRepository,
+                                  DoctorRepository doctorRepository,
+                                  HospitalRepository hospitalRepository,
+                                  AffiliationIndex affiliationIndex,
+                                  AffiliationMapper affiliationMapper,
+                                  DoctorMapper doctorMapper,
+                                  HospitalMapper hospitalMapper,
+                                  ApplicationEventPublisher eventPublisher) {
+        this.doctorHospitalRepository = doctorHospitalRepository;
+        this.doctorRepository = doctorRepository;
+        this.hospitalRepository = hospitalRepository;
+        this.affiliationIndex = affiliationIndex;
+        this.affiliationMapper = affiliationMapper;
+        this.doctorMapper = doctorMapper;
+        this.hospitalMapper = hospitalMapper;
+        this.eventPublisher = eventPublisher;
+    }
+    
+    @Override
+    @Transactional
+    public AffiliationResponse affiliate(UUID doctorId, UUID hospitalId) {
+        Doctor doctor = doctorRepository.findById(doctorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Doctor", doctorId));
+        if (!hospitalRepository.existsById(hospitalId)) {
+            throw new ResourceNotFoundException("Hospital", hospitalId);
+        }
+        
+        return doctorHospitalRepository.findById(new DoctorHospitalId(doctorId, hospitalId))
+                .map(affiliationMapper::toResponse)
+                .orElseGet(() -> {
+                    DoctorHospital affiliation = new DoctorHospital();
+                    affiliation.setDoctorId(doctorId);
+                    affiliation.setHospitalId(hospitalId);
+                    DoctorHospital saved = doctorHospitalRepository.save(affiliation);
+                    eventPublisher.publishEvent(new AffiliationChangedEvent(doctorId, hospitalId,
+                            doctor.getSpecialty(), doctor.getActive(), true));
+                    return affiliationMapper.toResponse(saved);
+                });
+    }
+    
+    @Override
+    @Transactional
+    public void remove(UUID doctorId, UUID hospitalId) {
+        DoctorHospital affiliation = doctorHospitalRepository.findById(new DoctorHospitalId(doctorId, hospitalId))
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Affiliation of doctor " + doctorId + " with hospital " + hospitalId + " not found"));
+        
+        doctorHospitalRepository.delete(affiliation);
+        eventPublisher.publishEvent(new AffiliationChangedEvent(doctorId, hospitalId, null, null, false));
+    }
+    
+    @Override
+    public List<DoctorResponse> findDoctorsAtHospital(UUID hospitalId, String specialty, boolean activeOnly) {
+        if (!hospitalRepository.existsById(hospitalId)) {
+            throw new ResourceNotFoundException("Hospital", hospitalId);
+        }
+        
+        List<UUID> doctorIds;
+        if (affiliationIndex.isLoaded()) {
+            doctorIds = affiliationIndex.doctorsAt(hospitalId, specialty, activeOnly);
+        } else {
+            doctorIds = doctorHospitalRepository.findByHospitalId(hospitalId).stream()
+                    .map(DoctorHospital::getDoctorId)
+                    .collect(Collectors.toList());
+        }
+        if (doctorIds.isEmpty()) {
+            return List.of();
+        }
+        
+        // The index is refreshed asynchronously, so the loaded rows are filtered again
+        return doctorRepository.findAllById(doctorIds).stream()
+                .filter(doctor -> !activeOnly || Boolean.TRUE.equals(doctor.getActive()))
+                .filter(doctor -> specialty == null || specialty.equalsIgnoreCase(doctor.getSpecialty()))
+                .sorted(Comparator.comparing(Doctor::getFullName, Comparator.nullsLast(String::compareTo)))
+                .map(doctorMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<HospitalResponse> findHospitalsOfDoctor(UUID doctorId) {
+        if (!doctorRepository.existsById(doctorId)) {
+            throw new ResourceNotFoundException("Doctor", doctorId);
+        }
+        
+        List<UUID> hospitalIds;
+        if (affiliationIndex.isLoaded()) {
+            hospitalIds = affiliationIndex.hospitalsOf(doctorId);
+        } else {
+            hospitalIds = doctorHospitalRepository.findByDoctorId(doctorId).stream()
+                    .map(DoctorHospital::getHospitalId)
+                    .collect(Collectors.toList());
+        }
+        if (hospitalIds.isEmpty()) {
+            return List.of();
+        }
+        
+        return hospitalRepository.findAllById(hospitalIds).stream()
+                .sorted(Comparator.comparing(Hospital::getName, Comparator.nullsLast(String::compareTo)))
+                .map(hospitalMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public boolean isAffiliated(UUID doctorId, UUID hospitalId) {
+        // A miss may be an affiliation committed on another node since the last reload
+        if (affiliationIndex.isLoaded() && affiliationIndex.isAffiliated(doctorId, hospitalId)) {
+            return true;
+        }
+        return doctorHospitalRepository.existsByDoctorIdAndHospitalId(doctorId, hospitalId);
+    }
+}
@@ -6,15 +6,26 @@ import com.medislot.medislot.entity.Appointment;
 import com.medislot.medislot.entity.AppointmentStatus;
 import com.medislot.medislot.entity.Slot;
 import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.event.AppointmentChangedEvent;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.event.UtilizationChangedEvent;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.mapper.AppointmentMapper;
+import com.medislot.medislot.monitoring.BookingMetrics;
+import com.medislot.medislot.monitoring.BookingOutcome;
+import com.medislot.medislot.monitoring.jfr.AppointmentBookingEvent;
+import com.medislot.medislot.monitoring.jfr.AppointmentCancellationEvent;
 import com.medislot.medislot.repository.AppointmentRepository;
-import com.medislot.medislot.repository.DoctorRepository;
-import com.medislot.medislot.repository.HospitalRepository;
-import com.medislot.medislot.repository.PatientRepository;
+import com.medislot.medislot.repository.BookingPreflight;
+import com.medislot.medislot.repository.EntityLookup;
+import com.medislot.medislot.repository.PartialEntityLoader;
 import com.medislot.medislot.repository.SlotRepository;
 import com.medislot.medislot.service.AppointmentService;
+import com.medislot.medislot.util.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +35,7 @@ import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,80 +47,126 @@ public class AppointmentServiceImpl implements AppointmentService {
     
     private final AppointmentRepository appointmentRepository;
     private final SlotRepository slotRepository;
-    private final DoctorRepository doctorRepository;
-    private final HospitalRepository hospitalRepository;
-    private final PatientRepository patientRepository;
+    private final EntityLookup entityLookup;
     private final AppointmentMapper appointmentMapper;
+    private final BookingMetrics bookingMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PartialEntityLoader partialEntityLoader;
+    private final boolean enforceAffiliation;
     
     @Autowired
     public AppointmentServiceImpl(AppointmentRepository appointmentRepository,
                                    SlotRepository slotRepository,
-                                   DoctorRepository doctorRepository,
-                                   HospitalRepository hospitalRepository,
-                                   PatientRepository patientRepository,
-                                   AppointmentMapper appointmentMapper) {
+                                   EntityLookup entityLookup,
+                                   AppointmentMapper appointmentMapper,
+                                   BookingMetrics bookingMetrics,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PartialEntityLoader partialEntityLoader,
+                                   @Value("${booking.enforce-affiliation:false}") boolean enforceAffiliation) {
         this.appointmentRepository = appointmentRepository;
         this.slotRepository = slotRepository;
-        this.doctorRepository = doctorRepository;
-        this.hospitalRepository = hospitalRepository;
-        this.patientRepository = patientRepository;
+        this.entityLookup = entityLookup;
         this.appointmentMapper = appointmentMapper;
+        this.bookingMetrics = bookingMetrics;
+        this.eventPublisher = eventPublisher;
+        this.partialEntityLoader = partialEntityLoader;
+        this.enforceAffiliation = enforceAffiliation;
     }
     
     @Override
     @Transactional
     public AppointmentResponse create(AppointmentCreateRequest createRequest) {
-        // Validate entities exist
-        if (!doctorRepository.existsById(createRequest.getDoctorId())) {
-            throw new ResourceNotFoundException("Doctor", createRequest.getDoctorId());
-        }
-        if (!hospitalRepository.existsById(createRequest.getHospitalId())) {
-            throw new ResourceNotFoundException("Hospital", createRequest.getHospitalId());
-        }
-        if (!patientRepository.existsById(createRequest.getPatientId())) {
-            throw new ResourceNotFoundException("Patient", createRequest.getPatientId());
-        }
-        
-        // Business Rule: Appointment must be inside doctor slot
-        Slot slot = slotRepository.findById(createRequest.getSlotId())
-                .orElseThrow(() -> new ResourceNotFoundException("Slot", createRequest.getSlotId()));
-        
-        // Validate slot belongs to the specified doctor and hospital
-        if (!slot.getDoctorId().equals(createRequest.getDoctorId())) {
-            throw new IllegalStateException("Slot does not belong to the specified doctor");
-        }
-        if (!slot.getHospitalId().equals(createRequest.getHospitalId())) {
-            throw new IllegalStateException("Slot does not belong to the specified hospital");
-        }
-        
-        // Business Rule: Cannot double-book the same slot
-        if (slot.getStatus() != SlotStatus.AVAILABLE) {
-            throw new IllegalStateException("Slot is not available for booking");
-        }
-        
-        // Check if slot already has an appointment
-        Optional<Appointment> existingAppointment = appointmentRepository.findBySlotId(createRequest.getSlotId());
-        if (existingAppointment.isPresent()) {
-            throw new IllegalStateException("Slot is already booked");
-        }
-        
-        // Business Rule: Cannot double-book the same doctor/time
-        if (appointmentRepository.isTimeSlotBooked(
-                createRequest.getDoctorId(),
-                slot.getStartTime(),
-                slot.getEndTime())) {
-            throw new IllegalStateException("Doctor is already booked for this time slot");
+        BookingOutcome outcome = BookingOutcome.ERROR;
+        AppointmentBookingEvent event = new AppointmentBookingEvent();
+        event.start(createRequest.getDoctorId());
+        event.setSlotId(createRequest.getSlotId());
+        try {
+            // One query for every check; the validator already ran it for this request
+            BookingPreflight preflight = entityLookup.bookingPreflight(createRequest.getSlotId(),
+                    createRequest.getDoctorId(), createRequest.getHospitalId(), createRequest.getPatientId());
+            
+            // Validate entities exist
+            if (!preflight.getDoctorExists()) {
+                outcome = BookingOutcome.DOCTOR_NOT_FOUND;
+                throw new ResourceNotFoundException("Doctor", createRequest.getDoctorId());
+            }
+            if (!preflight.getHospitalExists()) {
+                outcome = BookingOutcome.HOSPITAL_NOT_FOUND;
+                throw new ResourceNotFoundException("Hospital", createRequest.getHospitalId());
+            }
+            if (!preflight.getPatientExists()) {
+                outcome = BookingOutcome.PATIENT_NOT_FOUND;
+                throw new ResourceNotFoundException("Patient", createRequest.getPatientId());
+            }
+            if (enforceAffiliation && !preflight.getAffiliated()) {
+                outcome = BookingOutcome.DOCTOR_NOT_AFFILIATED;
+                throw new IllegalStateException("Doctor is not affiliated with the specified hospital");
+            }
+            
+            // Business Rule: Appointment must be inside doctor slot
+            if (!preflight.slotFound()) {
+                outcome = BookingOutcome.SLOT_NOT_FOUND;
+                throw new ResourceNotFoundException("Slot", createRequest.getSlotId());
+            }
+            
+            // Validate slot belongs to the specified doctor and hospital
+            if (!preflight.getSlotDoctorId().equals(createRequest.getDoctorId())) {
+                outcome = BookingOutcome.SLOT_WRONG_DOCTOR;
+                throw new IllegalStateException("Slot does not belong to the specified doctor");
+            }
+            if (!preflight.getSlotHospitalId().equals(createRequest.getHospitalId())) {
+                outcome = BookingOutcome.SLOT_WRONG_HOSPITAL;
+                throw new IllegalStateException("Slot does not belong to the specified hospital");
+            }
+            
+            // Business Rule: Cannot double-book the same slot
+            if (!preflight.slotAvailable()) {
+                outcome = BookingOutcome.SLOT_UNAVAILABLE;
+                throw new IllegalStateException("Slot is not available for booking");
+            }
+            
+            // Check if slot already has an appointment
+            if (preflight.getSlotHasAppointment()) {
+                outcome = BookingOutcome.SLOT_ALREADY_BOOKED;
+                throw new IllegalStateException("Slot is already booked");
+            }
+            event.validated();
+            
+            // Business Rule: Cannot double-book the same doctor/time
+            if (preflight.getDoctorTimeConflict()) {
+                outcome = BookingOutcome.DOCTOR_TIME_CONFLICT;
+                throw new IllegalStateException("Doctor is already booked for this time slot");
+            }
+            event.overlapChecked();
+            
+            // Mark slot as booked; the conditional update catches a booking that won the slot
+            // after the preflight read it
+            if (slotRepository.claimAvailableSlot(createRequest.getSlotId()) == 0) {
+                outcome = BookingOutcome.SLOT_UNAVAILABLE;
+                throw new IllegalStateException("Slot is not available for booking");
+            }
+            event.slotClaimed();
+            
+            // Create appointment
+            Appointment appointment = appointmentMapper.toEntity(createRequest);
+            Appointment savedAppointment = appointmentRepository.save(appointment);
+            event.saved();
+            event.setAppointmentId(savedAppointment.getId());
+            
+            eventPublisher.publishEvent(AppointmentChangedEvent.of(savedAppointment, AppointmentChangedEvent.BOOKED));
+            eventPublisher.publishEvent(new SlotChangedEvent(preflight.getSlotId(), preflight.getSlotDoctorId(),
+                    preflight.getSlotHospitalId(), preflight.getSlotStartTime(), preflight.getSlotEndTime(),
+                    SlotStatus.BOOKED, SlotChangedEvent.BOOKED, OffsetDateTime.now()));
+            eventPublisher.publishEvent(UtilizationChangedEvent.slotMoved(preflight.getSlotDoctorId(), preflight.getSlotHospitalId(),
+                    preflight.getSlotStartTime(), SlotStatus.AVAILABLE, preflight.getSlotStartTime(), SlotStatus.BOOKED));
+            
+            AppointmentResponse response = appointmentMapper.toResponse(savedAppointment);
+            outcome = BookingOutcome.BOOKED;
+            return response;
+        } finally {
+            bookingMetrics.record(outcome);
+            event.finish(outcome.getTagValue());
         }
-        
-        // Create appointment
-        Appointment appointment = appointmentMapper.toEntity(createRequest);
-        Appointment savedAppointment = appointmentRepository.save(appointment);
-        
-        // Mark slot as booked
-        slot.setStatus(SlotStatus.BOOKED);
-        slotRepository.save(slot);
-        
-        return appointmentMapper.toResponse(savedAppointment);
     }
     
     @Override
@@ -125,22 +183,40 @@ public class AppointmentServiceImpl implements AppointmentService {
     }
     
     @Override
-    public List<AppointmentResponse> findByPatientId(UUID patientId) {
-        return appointmentRepository.findByPatientId(patientId).stream()
-                .map(appointmentMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<AppointmentResponse> findAll(FieldSelection fields) {
+        return load(fields, appointmentRepository::findAll, null);
     }
     
     @Override
-    public List<AppointmentResponse> findByDoctorId(UUID doctorId) {
-        return appointmentRepository.findByDoctorId(doctorId).stream()
-                .map(appointmentMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<AppointmentResponse> findByPatientId(UUID patientId, FieldSelection fields) {
+        return load(fields,
+                () -> appointmentRepository.findByPatientId(patientId),
+                (root, query, cb) -> cb.equal(root.get("patientId"), patientId));
+    }
+    
+    @Override
+    public List<AppointmentResponse> findByDoctorId(UUID doctorId, FieldSelection fields) {
+        return load(fields,
+                () -> appointmentRepository.findByDoctorId(doctorId),
+                (root, query, cb) -> cb.equal(root.get("doctorId"), doctorId));
     }
     
     @Override
-    public List<AppointmentResponse> findByHospitalId(UUID hospitalId) {
-        return appointmentRepository.findByHospitalId(hospitalId).stream()
+    public List<AppointmentResponse> findByHospitalId(UUID hospitalId, FieldSelection fields) {
+        return load(fields,
+                () -> appointmentRepository.findByHospitalId(hospitalId),
+                (root, query, cb) -> cb.equal(root.get("hospitalId"), hospitalId));
+    }
+    
+    /**
+     * Run the full entity query, or select only the requested columns when ?fields= is present
+     */
+    private List<AppointmentResponse> load(FieldSelection fields, Supplier<List<Appointment>> fullQuery,
+                                           Specification<Appointment> where) {
+        List<Appointment> appointments = fields.isAll()
+                ? fullQuery.get()
+                : partialEntityLoader.findAll(Appointment.class, fields, where);
+        return appointments.stream()
                 .map(appointmentMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -162,6 +238,11 @@ public class AppointmentServiceImpl implements AppointmentService {
         }
         
         Appointment updatedAppointment = appointmentRepository.save(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(updatedAppointment, AppointmentChangedEvent.UPDATED));
+        if (updatedAppointment.getStatus() == AppointmentStatus.CANCELLED) {
+            slotRepository.findById(updatedAppointment.getSlotId()).ifPresent(slot ->
+                    eventPublisher.publishEvent(UtilizationChangedEvent.appointmentCancelled(slot)));
+        }
         return appointmentMapper.toResponse(updatedAppointment);
     }
     
@@ -176,75 +257,132 @@ public class AppointmentServiceImpl implements AppointmentService {
             Slot slot = slotRepository.findById(appointment.getSlotId())
                     .orElse(null);
             if (slot != null) {
-                slot.setStatus(SlotStatus.AVAILABLE);
-                slotRepository.save(slot);
+                releaseSlot(slot, false);
             }
         }
         
         appointmentRepository.delete(appointment);
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(appointment, AppointmentChangedEvent.DELETED));
     }
     
     @Override
     @Transactional
     public AppointmentResponse cancelByPatient(UUID appointmentId, UUID patientId) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Appointment", appointmentId));
-        
-        // Verify the appointment belongs to the patient
-        if (!appointment.getPatientId().equals(patientId)) {
-            throw new IllegalStateException("Appointment does not belong to this patient");
-        }
-        
-        // Business Rule: Patient can cancel before appointment time
-        Slot slot = slotRepository.findById(appointment.getSlotId())
-                .orElseThrow(() -> new ResourceNotFoundException("Slot", appointment.getSlotId()));
-        
-        if (slot.getStartTime().isBefore(OffsetDateTime.now())) {
-            throw new IllegalStateException("Cannot cancel appointment that has already started or passed");
+        AppointmentCancellationEvent event = new AppointmentCancellationEvent("patient", appointmentId);
+        event.start(null);
+        String outcome = AppointmentCancellationEvent.ERROR;
+        try {
+            Optional<Appointment> foundAppointment = appointmentRepository.findById(appointmentId);
+            if (foundAppointment.isEmpty()) {
+                outcome = AppointmentCancellationEvent.APPOINTMENT_NOT_FOUND;
+                throw new ResourceNotFoundException("Appointment", appointmentId);
+            }
+            Appointment appointment = foundAppointment.get();
+            event.setDoctorId(appointment.getDoctorId());
+            
+            // Verify the appointment belongs to the patient
+            if (!appointment.getPatientId().equals(patientId)) {
+                outcome = AppointmentCancellationEvent.NOT_OWNER;
+                throw new IllegalStateException("Appointment does not belong to this patient");
+            }
+            
+            // A repeated cancel must not release the slot or count the cancellation again
+            if (appointment.getStatus() == AppointmentStatus.CANCELLED) {
+                outcome = AppointmentCancellationEvent.ALREADY_CANCELLED;
+                throw new IllegalStateException("Appointment is already cancelled");
+            }
+            
+            // Business Rule: Patient can cancel before appointment time
+            Optional<Slot> foundSlot = slotRepository.findById(appointment.getSlotId());
+            if (foundSlot.isEmpty()) {
+                outcome = AppointmentCancellationEvent.SLOT_NOT_FOUND;
+                throw new ResourceNotFoundException("Slot", appointment.getSlotId());
+            }
+            Slot slot = foundSlot.get();
+            
+            if (slot.getStartTime().isBefore(OffsetDateTime.now())) {
+                outcome = AppointmentCancellationEvent.OUTSIDE_CANCELLATION_WINDOW;
+                throw new IllegalStateException("Cannot cancel appointment that has already started or passed");
+            }
+            event.validated();
+            
+            // Cancel the appointment
+            appointment.setStatus(AppointmentStatus.CANCELLED);
+            Appointment cancelledAppointment = appointmentRepository.save(appointment);
+            event.saved();
+            
+            eventPublisher.publishEvent(AppointmentChangedEvent.of(cancelledAppointment, AppointmentChangedEvent.CANCELLED));
+            
+            // Mark slot as available again
+            releaseSlot(slot, true);
+            event.slotClaimed();
+            
+            outcome = AppointmentCancellationEvent.CANCELLED;
+            return appointmentMapper.toResponse(cancelledAppointment);
+        } finally {
+            event.finish(outcome);
         }
-        
-        // Cancel the appointment
-        appointment.setStatus(AppointmentStatus.CANCELLED);
-        Appointment cancelledAppointment = appointmentRepository.save(appointment);
-        
-        // Mark slot as available again
-        slot.setStatus(SlotStatus.AVAILABLE);
-        slotRepository.save(slot);
-        
-        return appointmentMapper.toResponse(cancelledAppointment);
     }
     
     @Override
     @Transactional
     public AppointmentResponse cancelByDoctor(UUID appointmentId, UUID doctorId) {
-        Appointment appointment = appointmentRepository.findById(appointmentId)
-                .orElseThrow(() -> new ResourceNotFoundException("Appointment", appointmentId));
-        
-        // Verify the appointment belongs to the doctor
-        if (!appointment.getDoctorId().equals(doctorId)) {
-            throw new IllegalStateException("Appointment does not belong to this doctor");
-        }
-        
-        // Business Rule: Doctor can only modify appointments for same day
-        Slot slot = slotRepository.findById(appointment.getSlotId())
-                .orElseThrow(() -> new ResourceNotFoundException("Slot", appointment.getSlotId()));
-        
-        LocalDate appointmentDate = slot.getStartTime().toLocalDate();
-        LocalDate today = LocalDate.now(ZoneOffset.UTC);
-        
-        if (!appointmentDate.equals(today)) {
-            throw new IllegalStateException("Doctor can only cancel appointments for the same day");
+        AppointmentCancellationEvent event = new AppointmentCancellationEvent("doctor", appointmentId);
+        event.start(doctorId);
+        String outcome = AppointmentCancellationEvent.ERROR;
+        try {
+            Optional<Appointment> foundAppointment = appointmentRepository.findById(appointmentId);
+            if (foundAppointment.isEmpty()) {
+                outcome = AppointmentCancellationEvent.APPOINTMENT_NOT_FOUND;
+                throw new ResourceNotFoundException("Appointment", appointmentId);
+            }
+            Appointment appointment = foundAppointment.get();
+            
+            // Verify the appointment belongs to the doctor
+            if (!appointment.getDoctorId().equals(doctorId)) {
+                outcome = AppointmentCancellationEvent.NOT_OWNER;
+                throw new IllegalStateException("Appointment does not belong to this doctor");
+            }
+            
+            // A repeated cancel must not release the slot or count the cancellation again
+            if (appointment.getStatus() == AppointmentStatus.CANCELLED) {
+                outcome = AppointmentCancellationEvent.ALREADY_CANCELLED;
+                throw new IllegalStateException("Appointment is already cancelled");
+            }
+            
+            // Business Rule: Doctor can only modify appointments for same day
+            Optional<Slot> foundSlot = slotRepository.findById(appointment.getSlotId());
+            if (foundSlot.isEmpty()) {
+                outcome = AppointmentCancellationEvent.SLOT_NOT_FOUND;
+                throw new ResourceNotFoundException("Slot", appointment.getSlotId());
+            }
+            Slot slot = foundSlot.get();
+            
+            LocalDate appointmentDate = slot.getStartTime().toLocalDate();
+            LocalDate today = LocalDate.now(ZoneOffset.UTC);
+            
+            if (!appointmentDate.equals(today)) {
+                outcome = AppointmentCancellationEvent.OUTSIDE_CANCELLATION_WINDOW;
+                throw new IllegalStateException("Doctor can only cancel appointments for the same day");
+            }
+            event.validated();
+            
+            // Cancel the appointment
+            appointment.setStatus(AppointmentStatus.CANCELLED);
+            Appointment cancelledAppointment = appointmentRepository.save(appointment);
+            event.saved();
+            
+            eventPublisher.publishEvent(AppointmentChangedEvent.of(cancelledAppointment, AppointmentChangedEvent.CANCELLED));
+            
+            // Mark slot as available again
+            releaseSlot(slot, true);
+            event.slotClaimed();
+            
+            outcome = AppointmentCancellationEvent.CANCELLED;
+            return appointmentMapper.toResponse(cancelledAppointment);
+        } finally {
+            event.finish(outcome);
         }
-        
-        // Cancel the appointment
-        appointment.setStatus(AppointmentStatus.CANCELLED);
-        Appointment cancelledAppointment = appointmentRepository.save(appointment);
-        
-        // Mark slot as available again
-        slot.setStatus(SlotStatus.AVAILABLE);
-        slotRepository.save(slot);
-        
-        return appointmentMapper.toResponse(cancelledAppointment);
     }
     
     @Override
@@ -257,19 +395,37 @@ public class AppointmentServiceImpl implements AppointmentService {
         appointment.setStatus(status);
         Appointment updatedAppointment = appointmentRepository.save(appointment);
         
+        boolean cancelled = status == AppointmentStatus.CANCELLED && oldStatus == AppointmentStatus.BOOKED;
+        eventPublisher.publishEvent(AppointmentChangedEvent.of(updatedAppointment,
+                cancelled ? AppointmentChangedEvent.CANCELLED : AppointmentChangedEvent.UPDATED));
+        
         // Update slot status if cancelling
-        if (status == AppointmentStatus.CANCELLED && oldStatus == AppointmentStatus.BOOKED) {
+        if (cancelled) {
             Slot slot = slotRepository.findById(appointment.getSlotId())
                     .orElse(null);
             if (slot != null) {
-                slot.setStatus(SlotStatus.AVAILABLE);
-                slotRepository.save(slot);
+                releaseSlot(slot, true);
             }
         }
         
         return appointmentMapper.toResponse(updatedAppointment);
     }
     
+    /**
+     * Make the slot of a cancelled or deleted appointment available again
+     */
+    private void releaseSlot(Slot slot, boolean cancelled) {
+        SlotStatus oldStatus = slot.getStatus();
+        slot.setStatus(SlotStatus.AVAILABLE);
+        slotRepository.save(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.of(slot, SlotChangedEvent.RELEASED));
+        eventPublisher.publishEvent(UtilizationChangedEvent.slotMoved(slot.getDoctorId(), slot.getHospitalId(),
+                slot.getStartTime(), oldStatus, slot.getStartTime(), SlotStatus.AVAILABLE));
+        if (cancelled) {
+            eventPublisher.publishEvent(UtilizationChangedEvent.appointmentCancelled(slot));
+        }
+    }
+    
     @Override
     public boolean existsById(UUID id) {
         return appointmentRepository.existsById(id);
@@ -1,23 +1,37 @@
 package com.medislot.medislot.service.impl;
 
+import com.medislot.medislot.calendar.AvailabilityCalendarCache;
+import com.medislot.medislot.dto.slot.AvailabilityCalendarResponse;
 import com.medislot.medislot.dto.slot.SlotCreateRequest;
 import com.medislot.medislot.dto.slot.SlotResponse;
 import com.medislot.medislot.entity.Slot;
 import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.event.UtilizationChangedEvent;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.mapper.SlotMapper;
+import com.medislot.medislot.monitoring.jfr.SlotWriteEvent;
 import com.medislot.medislot.repository.DoctorRepository;
 import com.medislot.medislot.repository.HospitalRepository;
+import com.medislot.medislot.repository.PartialEntityLoader;
 import com.medislot.medislot.repository.SlotRepository;
+import com.medislot.medislot.service.AffiliationService;
 import com.medislot.medislot.service.AvailabilityService;
+import com.medislot.medislot.util.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -31,45 +45,85 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     private final DoctorRepository doctorRepository;
     private final HospitalRepository hospitalRepository;
     private final SlotMapper slotMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PartialEntityLoader partialEntityLoader;
+    private final AffiliationService affiliationService;
+    private final AvailabilityCalendarCache availabilityCalendarCache;
+    private final boolean enforceAffiliation;
     
     @Autowired
     public AvailabilityServiceImpl(SlotRepository slotRepository,
                                     DoctorRepository doctorRepository,
                                     HospitalRepository hospitalRepository,
-                                    SlotMapper slotMapper) {
+                                    SlotMapper slotMapper,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PartialEntityLoader partialEntityLoader,
+                                    AffiliationService affiliationService,
+                                    AvailabilityCalendarCache availabilityCalendarCache,
+                                    @Value("${booking.enforce-affiliation:false}") boolean enforceAffiliation) {
         this.slotRepository = slotRepository;
         this.doctorRepository = doctorRepository;
         this.hospitalRepository = hospitalRepository;
         this.slotMapper = slotMapper;
+        this.eventPublisher = eventPublisher;
+        this.partialEntityLoader = partialEntityLoader;
+        this.affiliationService = affiliationService;
+        this.availabilityCalendarCache = availabilityCalendarCache;
+        this.enforceAffiliation = enforceAffiliation;
     }
     
     @Override
     @Transactional
     public SlotResponse create(SlotCreateRequest createRequest) {
-        // Business Rule: Validate doctor exists
-        if (!doctorRepository.existsById(createRequest.getDoctorId())) {
-            throw new ResourceNotFoundException("Doctor", createRequest.getDoctorId());
-        }
-        
-        // Business Rule: Validate hospital exists
-        if (!hospitalRepository.existsById(createRequest.getHospitalId())) {
-            throw new ResourceNotFoundException("Hospital", createRequest.getHospitalId());
-        }
-        
-        // Business Rule: Cannot create overlapping slots for the same doctor
-        UUID tempId = UUID.randomUUID(); // Temporary ID for new slot
-        if (slotRepository.hasOverlappingSlot(
-                createRequest.getDoctorId(),
-                tempId,
-                createRequest.getStartTime(),
-                createRequest.getEndTime())) {
-            throw new IllegalStateException(
-                "Slot overlaps with an existing slot for this doctor");
+        SlotWriteEvent event = new SlotWriteEvent(SlotWriteEvent.CREATE);
+        event.start(createRequest.getDoctorId());
+        String outcome = SlotWriteEvent.ERROR;
+        try {
+            // Business Rule: Validate doctor exists
+            if (!doctorRepository.existsById(createRequest.getDoctorId())) {
+                outcome = SlotWriteEvent.DOCTOR_NOT_FOUND;
+                throw new ResourceNotFoundException("Doctor", createRequest.getDoctorId());
+            }
+            
+            // Business Rule: Validate hospital exists
+            if (!hospitalRepository.existsById(createRequest.getHospitalId())) {
+                outcome = SlotWriteEvent.HOSPITAL_NOT_FOUND;
+                throw new ResourceNotFoundException("Hospital", createRequest.getHospitalId());
+            }
+            
+            // Business Rule: Doctor must practise at the hospital (answered by the in-memory index)
+            if (enforceAffiliation
+                    && !affiliationService.isAffiliated(createRequest.getDoctorId(), createRequest.getHospitalId())) {
+                outcome = SlotWriteEvent.NOT_AFFILIATED;
+                throw new IllegalStateException("Doctor is not affiliated with the specified hospital");
+            }
+            event.validated();
+            
+            // Business Rule: Cannot create overlapping slots for the same doctor
+            UUID tempId = UUID.randomUUID(); // Temporary ID for new slot
+            if (slotRepository.hasOverlappingSlot(
+                    createRequest.getDoctorId(),
+                    tempId,
+                    createRequest.getStartTime(),
+                    createRequest.getEndTime())) {
+                outcome = SlotWriteEvent.OVERLAP;
+                throw new IllegalStateException(
+                    "Slot overlaps with an existing slot for this doctor");
+            }
+            event.overlapChecked();
+            
+            Slot slot = slotMapper.toEntity(createRequest);
+            Slot savedSlot = slotRepository.save(slot);
+            event.saved();
+            event.setSlotId(savedSlot.getId());
+            eventPublisher.publishEvent(SlotChangedEvent.of(savedSlot, SlotChangedEvent.CREATED));
+            eventPublisher.publishEvent(UtilizationChangedEvent.slotCreated(savedSlot));
+            
+            outcome = SlotWriteEvent.SAVED;
+            return slotMapper.toResponse(savedSlot);
+        } finally {
+            event.finish(outcome);
         }
-        
-        Slot slot = slotMapper.toEntity(createRequest);
-        Slot savedSlot = slotRepository.save(slot);
-        return slotMapper.toResponse(savedSlot);
     }
     
     @Override
@@ -86,29 +140,102 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     }
     
     @Override
-    public List<SlotResponse> findAvailableSlotsByDoctor(UUID doctorId) {
-        return slotRepository.findByDoctorIdAndStatus(doctorId, SlotStatus.AVAILABLE).stream()
-                .map(slotMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<SlotResponse> findAll(FieldSelection fields) {
+        return load(fields, slotRepository::findAll, null);
     }
     
     @Override
-    public List<SlotResponse> findAvailableSlotsByHospital(UUID hospitalId) {
-        return slotRepository.findByHospitalIdAndStatus(hospitalId, SlotStatus.AVAILABLE).stream()
-                .map(slotMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<SlotResponse> findAvailableSlotsByDoctor(UUID doctorId, FieldSelection fields) {
+        return load(fields,
+                () -> slotRepository.findByDoctorIdAndStatus(doctorId, SlotStatus.AVAILABLE),
+                (root, query, cb) -> cb.and(
+                        cb.equal(root.get("doctorId"), doctorId),
+                        cb.equal(root.get("status"), SlotStatus.AVAILABLE)));
     }
     
     @Override
-    public List<SlotResponse> findAvailableSlotsByDoctorAndHospital(UUID doctorId, UUID hospitalId) {
-        return slotRepository.findByDoctorIdAndHospitalIdAndStatus(doctorId, hospitalId, SlotStatus.AVAILABLE).stream()
-                .map(slotMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<SlotResponse> findAvailableSlotsByHospital(UUID hospitalId, FieldSelection fields) {
+        return load(fields,
+                () -> slotRepository.findByHospitalIdAndStatus(hospitalId, SlotStatus.AVAILABLE),
+                (root, query, cb) -> cb.and(
+                        cb.equal(root.get("hospitalId"), hospitalId),
+                        cb.equal(root.get("status"), SlotStatus.AVAILABLE)));
+    }
+    
+    @Override
+    public List<SlotResponse> findAvailableSlotsByDoctorAndHospital(UUID doctorId, UUID hospitalId, FieldSelection fields) {
+        return load(fields,
+                () -> slotRepository.findByDoctorIdAndHospitalIdAndStatus(doctorId, hospitalId, SlotStatus.AVAILABLE),
+                (root, query, cb) -> cb.and(
+                        cb.equal(root.get("doctorId"), doctorId),
+                        cb.equal(root.get("hospitalId"), hospitalId),
+                        cb.equal(root.get("status"), SlotStatus.AVAILABLE)));
+    }
+    
+    @Override
+    public List<SlotResponse> findSlotsByDoctorAndTimeRange(UUID doctorId, OffsetDateTime startTime, OffsetDateTime endTime,
+                                                            FieldSelection fields) {
+        return load(fields,
+                () -> slotRepository.findByDoctorIdAndTimeRange(doctorId, startTime, endTime),
+                (root, query, cb) -> cb.and(
+                        cb.equal(root.get("doctorId"), doctorId),
+                        cb.greaterThanOrEqualTo(root.<OffsetDateTime>get("startTime"), startTime),
+                        cb.lessThanOrEqualTo(root.<OffsetDateTime>get("endTime"), endTime)));
+    }
+    
+    @Override
+    public AvailabilityCalendarResponse getDoctorCalendar(UUID doctorId, YearMonth month, ZoneId zone) {
+        int[] availableByDay = availabilityCalendarCache.doctorMonth(doctorId, month, zone,
+                () -> toDays(month, slotRepository.countAvailableByDayForDoctor(
+                        doctorId, monthStart(month, zone), monthStart(month.plusMonths(1), zone), zone.getId())));
+        AvailabilityCalendarResponse response = toCalendar(month, zone, availableByDay);
+        response.setDoctorId(doctorId);
+        return response;
     }
     
     @Override
-    public List<SlotResponse> findSlotsByDoctorAndTimeRange(UUID doctorId, OffsetDateTime startTime, OffsetDateTime endTime) {
-        return slotRepository.findByDoctorIdAndTimeRange(doctorId, startTime, endTime).stream()
+    public AvailabilityCalendarResponse getHospitalCalendar(UUID hospitalId, YearMonth month, ZoneId zone) {
+        int[] availableByDay = availabilityCalendarCache.hospitalMonth(hospitalId, month, zone,
+                () -> toDays(month, slotRepository.countAvailableByDayForHospital(
+                        hospitalId, monthStart(month, zone), monthStart(month.plusMonths(1), zone), zone.getId())));
+        AvailabilityCalendarResponse response = toCalendar(month, zone, availableByDay);
+        response.setHospitalId(hospitalId);
+        return response;
+    }
+    
+    private static OffsetDateTime monthStart(YearMonth month, ZoneId zone) {
+        return month.atDay(1).atStartOfDay(zone).toOffsetDateTime();
+    }
+    
+    private static int[] toDays(YearMonth month, List<SlotRepository.DayCount> counts) {
+        int[] availableByDay = new int[month.lengthOfMonth()];
+        for (SlotRepository.DayCount count : counts) {
+            availableByDay[count.getDay() - 1] = count.getAvailable();
+        }
+        return availableByDay;
+    }
+    
+    private static AvailabilityCalendarResponse toCalendar(YearMonth month, ZoneId zone, int[] availableByDay) {
+        int total = 0;
+        for (int available : availableByDay) {
+            total += available;
+        }
+        AvailabilityCalendarResponse response = new AvailabilityCalendarResponse();
+        response.setMonth(month.toString());
+        response.setZone(zone.getId());
+        response.setAvailableByDay(availableByDay);
+        response.setTotalAvailable(total);
+        return response;
+    }
+    
+    /**
+     * Run the full entity query, or select only the requested columns when ?fields= is present
+     */
+    private List<SlotResponse> load(FieldSelection fields, Supplier<List<Slot>> fullQuery, Specification<Slot> where) {
+        List<Slot> slots = fields.isAll()
+                ? fullQuery.get()
+                : partialEntityLoader.findAll(Slot.class, fields, where);
+        return slots.stream()
                 .map(slotMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -116,34 +243,59 @@ public class AvailabilityServiceImpl implements AvailabilityService {
     @Override
     @Transactional
     public SlotResponse update(UUID id, SlotCreateRequest updateRequest) {
-        Slot slot = slotRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Slot", id));
-        
-        // Business Rule: Cannot update if slot is already booked
-        if (slot.getStatus() == SlotStatus.BOOKED) {
-            throw new IllegalStateException("Cannot update a booked slot");
-        }
-        
-        // Update time if provided and check for overlaps
-        if (updateRequest.getStartTime() != null && updateRequest.getEndTime() != null) {
-            if (slotRepository.hasOverlappingSlot(
-                    slot.getDoctorId(),
-                    id,
-                    updateRequest.getStartTime(),
-                    updateRequest.getEndTime())) {
-                throw new IllegalStateException(
-                    "Slot overlaps with an existing slot for this doctor");
+        SlotWriteEvent event = new SlotWriteEvent(SlotWriteEvent.UPDATE);
+        event.start(null);
+        event.setSlotId(id);
+        String outcome = SlotWriteEvent.ERROR;
+        try {
+            Optional<Slot> foundSlot = slotRepository.findById(id);
+            if (foundSlot.isEmpty()) {
+                outcome = SlotWriteEvent.SLOT_NOT_FOUND;
+                throw new ResourceNotFoundException("Slot", id);
             }
-            slot.setStartTime(updateRequest.getStartTime());
-            slot.setEndTime(updateRequest.getEndTime());
-        }
-        
-        if (updateRequest.getStatus() != null) {
-            slot.setStatus(updateRequest.getStatus());
+            Slot slot = foundSlot.get();
+            event.setDoctorId(slot.getDoctorId());
+            OffsetDateTime oldStartTime = slot.getStartTime();
+            SlotStatus oldStatus = slot.getStatus();
+            
+            // Business Rule: Cannot update if slot is already booked
+            if (slot.getStatus() == SlotStatus.BOOKED) {
+                outcome = SlotWriteEvent.SLOT_BOOKED;
+                throw new IllegalStateException("Cannot update a booked slot");
+            }
+            event.validated();
+            
+            // Update time if provided and check for overlaps
+            if (updateRequest.getStartTime() != null && updateRequest.getEndTime() != null) {
+                if (slotRepository.hasOverlappingSlot(
+                        slot.getDoctorId(),
+                        id,
+                        updateRequest.getStartTime(),
+                        updateRequest.getEndTime())) {
+                    outcome = SlotWriteEvent.OVERLAP;
+                    throw new IllegalStateException(
+                        "Slot overlaps with an existing slot for this doctor");
+                }
+                slot.setStartTime(updateRequest.getStartTime());
+                slot.setEndTime(updateRequest.getEndTime());
+            }
+            event.overlapChecked();
+            
+            if (updateRequest.getStatus() != null) {
+                slot.setStatus(updateRequest.getStatus());
+            }
+            
+            Slot updatedSlot = slotRepository.save(slot);
+            event.saved();
+            eventPublisher.publishEvent(SlotChangedEvent.of(updatedSlot, SlotChangedEvent.UPDATED));
+            eventPublisher.publishEvent(UtilizationChangedEvent.slotMoved(updatedSlot.getDoctorId(), updatedSlot.getHospitalId(),
+                    oldStartTime, oldStatus, updatedSlot.getStartTime(), updatedSlot.getStatus()));
+            
+            outcome = SlotWriteEvent.SAVED;
+            return slotMapper.toResponse(updatedSlot);
+        } finally {
+            event.finish(outcome);
         }
-        
-        Slot updatedSlot = slotRepository.save(slot);
-        return slotMapper.toResponse(updatedSlot);
     }
     
     @Override
@@ -158,6 +310,8 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         }
         
         slotRepository.delete(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.of(slot, SlotChangedEvent.DELETED));
+        eventPublisher.publishEvent(UtilizationChangedEvent.slotRemoved(slot));
     }
     
     @Override
@@ -178,8 +332,13 @@ public class AvailabilityServiceImpl implements AvailabilityService {
         Slot slot = slotRepository.findById(slotId)
                 .orElseThrow(() -> new ResourceNotFoundException("Slot", slotId));
         
+        SlotStatus oldStatus = slot.getStatus();
         slot.setStatus(status);
         Slot updatedSlot = slotRepository.save(slot);
+        eventPublisher.publishEvent(SlotChangedEvent.of(updatedSlot,
+                status == SlotStatus.BOOKED ? SlotChangedEvent.BOOKED : SlotChangedEvent.RELEASED));
+        eventPublisher.publishEvent(UtilizationChangedEvent.slotMoved(updatedSlot.getDoctorId(), updatedSlot.getHospitalId(),
+                updatedSlot.getStartTime(), oldStatus, updatedSlot.getStartTime(), status));
         return slotMapper.toResponse(updatedSlot);
     }
     
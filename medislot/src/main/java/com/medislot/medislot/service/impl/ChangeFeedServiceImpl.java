@@ -0,0 +1,170 @@
+package com.medislot.medislot.service.impl;
+
+import com.medislot.medislot.changefeed.ChangeLogWriter;
+import com.medislot.medislot.changefeed.ChangeToken;
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.dto.change.ChangeFeedResponse;
+import com.medislot.medislot.dto.change.ChangeResponse;
+import com.medislot.medislot.dto.doctor.DoctorResponse;
+import com.medislot.medislot.dto.hospital.HospitalResponse;
+import com.medislot.medislot.dto.slot.SlotResponse;
+import com.medislot.medislot.entity.ChangeLogEntry;
+import com.medislot.medislot.event.AppointmentChangedEvent;
+import com.medislot.medislot.event.DoctorChangedEvent;
+import com.medislot.medislot.event.HospitalChangedEvent;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.exception.GoneException;
+import com.medislot.medislot.mapper.AppointmentMapper;
+import com.medislot.medislot.mapper.DoctorMapper;
+import com.medislot.medislot.mapper.HospitalMapper;
+import com.medislot.medislot.mapper.SlotMapper;
+import com.medislot.medislot.repository.AppointmentRepository;
+import com.medislot.medislot.repository.ChangeLogRepository;
+import com.medislot.medislot.repository.DoctorRepository;
+import com.medislot.medislot.repository.HospitalRepository;
+import com.medislot.medislot.repository.SlotRepository;
+import com.medislot.medislot.service.ChangeFeedService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Implementation of ChangeFeedService
+ * Reads a page of the change log, keeps the latest entry per entity and loads the current
+ * state of the changed entities with one query per entity type. Once the log has been pruned,
+ * tokens from before the prune marker (including "from the beginning") are rejected, since the
+ * changes after them are no longer complete
+ */
+@Service
+@Transactional(readOnly = true)
+public class ChangeFeedServiceImpl implements ChangeFeedService {
+
+    private final ChangeLogRepository changeLogRepository;
+    private final SlotRepository slotRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final DoctorRepository doctorRepository;
+    private final HospitalRepository hospitalRepository;
+    private final SlotMapper slotMapper;
+    private final AppointmentMapper appointmentMapper;
+    private final DoctorMapper doctorMapper;
+    private final HospitalMapper hospitalMapper;
+
+    public ChangeFeedServiceImpl(ChangeLogRepository changeLogRepository,
+                                 SlotRepository slotRepository,
+                                 AppointmentRepository appointmentRepository,
+                                 DoctorRepository doctorRepository,
+                                 HospitalRepository hospitalRepository,
+                                 SlotMapper slotMapper,
+                                 AppointmentMapper appointmentMapper,
+                                 DoctorMapper doctorMapper,
+                                 HospitalMapper hospitalMapper) {
+        this.changeLogRepository = changeLogRepository;
+        this.slotRepository = slotRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.doctorRepository = doctorRepository;
+        this.hospitalRepository = hospitalRepository;
+        this.slotMapper = slotMapper;
+        this.appointmentMapper = appointmentMapper;
+        this.doctorMapper = doctorMapper;
+        this.hospitalMapper = hospitalMapper;
+    }
+
+    @Override
+    public ChangeFeedResponse getChanges(String since, Set<String> entityTypes, int limit) {
+        ChangeToken token = ChangeToken.decode(since);
+        if (isPruned(token)) {
+            throw new GoneException("Sync token has expired; download the full lists and sync from GET /api/changes/token");
+        }
+        List<ChangeLogEntry> entries = changeLogRepository.findAfter(token.txId(), token.seq(), entityTypes, limit);
+
+        // Latest entry per entity, ordered by that entry's position
+        Map<UUID, ChangeLogEntry> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            latest.remove(entry.getEntityId());
+            latest.put(entry.getEntityId(), entry);
+        }
+
+        Map<String, List<UUID>> idsByType = new HashMap<>();
+        for (ChangeLogEntry entry : latest.values()) {
+            if (!ChangeLogWriter.DELETED.equals(entry.getOperation())) {
+                idsByType.computeIfAbsent(entry.getEntityType(), type -> new ArrayList<>()).add(entry.getEntityId());
+            }
+        }
+        Map<UUID, Object> current = loadCurrentState(idsByType);
+
+        List<ChangeResponse> changes = new ArrayList<>(latest.size());
+        for (ChangeLogEntry entry : latest.values()) {
+            ChangeResponse change = new ChangeResponse();
+            change.setEntityType(entry.getEntityType());
+            change.setEntityId(entry.getEntityId());
+            change.setChangedAt(entry.getChangedAt());
+            Object data = current.get(entry.getEntityId());
+            // Removed by a later change that is not part of this page yet
+            change.setOperation(data == null ? ChangeLogWriter.DELETED : entry.getOperation());
+            change.setData(data);
+            changes.add(change);
+        }
+
+        ChangeFeedResponse response = new ChangeFeedResponse();
+        response.setChanges(changes);
+        if (entries.isEmpty()) {
+            response.setNextToken(token.encode());
+        } else {
+            ChangeLogEntry last = entries.get(entries.size() - 1);
+            response.setNextToken(new ChangeToken(last.getTxId(), last.getSeq()).encode());
+        }
+        response.setHasMore(entries.size() == limit);
+        return response;
+    }
+
+    @Override
+    public String getCurrentToken() {
+        return changeLogRepository.findHead()
+                .map(head -> new ChangeToken(head.getTxId(), head.getSeq()))
+                .orElse(ChangeToken.START)
+                .encode();
+    }
+
+    private boolean isPruned(ChangeToken token) {
+        return changeLogRepository.findTail()
+                .filter(tail -> ChangeLogWriter.PRUNED.equals(tail.getOperation()))
+                .map(tail -> token.txId() < tail.getTxId()
+                        || (token.txId() == tail.getTxId() && token.seq() < tail.getSeq()))
+                .orElse(false);
+    }
+
+    private Map<UUID, Object> loadCurrentState(Map<String, List<UUID>> idsByType) {
+        Map<UUID, Object> current = new HashMap<>();
+        load(current, idsByType.get(SlotChangedEvent.AGGREGATE_TYPE),
+                ids -> slotRepository.findAllById(ids).stream().map(slotMapper::toResponse).toList(),
+                SlotResponse::getId);
+        load(current, idsByType.get(AppointmentChangedEvent.AGGREGATE_TYPE),
+                ids -> appointmentRepository.findAllById(ids).stream().map(appointmentMapper::toResponse).toList(),
+                AppointmentResponse::getId);
+        load(current, idsByType.get(DoctorChangedEvent.AGGREGATE_TYPE),
+                ids -> doctorRepository.findAllById(ids).stream().map(doctorMapper::toResponse).toList(),
+                DoctorResponse::getId);
+        load(current, idsByType.get(HospitalChangedEvent.AGGREGATE_TYPE),
+                ids -> hospitalRepository.findAllById(ids).stream().map(hospitalMapper::toResponse).toList(),
+                HospitalResponse::getId);
+        return current;
+    }
+
+    private static <T> void load(Map<UUID, Object> current, List<UUID> ids,
+                                 Function<List<UUID>, List<T>> loader, Function<T, UUID> idOf) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+        for (T response : loader.apply(ids)) {
+            current.put(idOf.apply(response), response);
+        }
+    }
+}
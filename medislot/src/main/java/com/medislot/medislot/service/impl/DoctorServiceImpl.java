@@ -4,18 +4,25 @@ import com.medislot.medislot.dto.doctor.DoctorCreateRequest;
 import com.medislot.medislot.dto.doctor.DoctorResponse;
 import com.medislot.medislot.dto.doctor.DoctorUpdateRequest;
 import com.medislot.medislot.entity.Doctor;
+import com.medislot.medislot.event.DoctorChangedEvent;
 import com.medislot.medislot.exception.DoctorDeletionNotAllowedException;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.mapper.DoctorMapper;
 import com.medislot.medislot.repository.DoctorRepository;
+import com.medislot.medislot.repository.PartialEntityLoader;
 import com.medislot.medislot.service.DoctorService;
+import com.medislot.medislot.util.FieldSelection;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -27,11 +34,17 @@ public class DoctorServiceImpl implements DoctorService {
     
     private final DoctorRepository doctorRepository;
     private final DoctorMapper doctorMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PartialEntityLoader partialEntityLoader;
     
     @Autowired
-    public DoctorServiceImpl(DoctorRepository doctorRepository, DoctorMapper doctorMapper) {
+    public DoctorServiceImpl(DoctorRepository doctorRepository, DoctorMapper doctorMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             PartialEntityLoader partialEntityLoader) {
         this.doctorRepository = doctorRepository;
         this.doctorMapper = doctorMapper;
+        this.eventPublisher = eventPublisher;
+        this.partialEntityLoader = partialEntityLoader;
     }
     
     @Override
@@ -39,6 +52,7 @@ public class DoctorServiceImpl implements DoctorService {
     public DoctorResponse create(DoctorCreateRequest createRequest) {
         Doctor doctor = doctorMapper.toEntity(createRequest);
         Doctor savedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(DoctorChangedEvent.of(savedDoctor, DoctorChangedEvent.CREATED));
         return doctorMapper.toResponse(savedDoctor);
     }
     
@@ -56,10 +70,15 @@ public class DoctorServiceImpl implements DoctorService {
     }
     
     @Override
-    public List<DoctorResponse> findAllActive() {
-        return doctorRepository.findByActiveTrue().stream()
-                .map(doctorMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<DoctorResponse> findAll(FieldSelection fields) {
+        return load(fields, doctorRepository::findAll, null);
+    }
+    
+    @Override
+    public List<DoctorResponse> findAllActive(FieldSelection fields) {
+        return load(fields,
+                doctorRepository::findByActiveTrue,
+                (root, query, cb) -> cb.isTrue(root.get("active")));
     }
     
     @Override
@@ -70,6 +89,7 @@ public class DoctorServiceImpl implements DoctorService {
         
         doctorMapper.updateEntity(doctor, updateRequest);
         Doctor updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(DoctorChangedEvent.of(updatedDoctor, DoctorChangedEvent.UPDATED));
         return doctorMapper.toResponse(updatedDoctor);
     }
     
@@ -85,6 +105,7 @@ public class DoctorServiceImpl implements DoctorService {
         }
         
         doctorRepository.delete(doctor);
+        eventPublisher.publishEvent(DoctorChangedEvent.of(doctor, DoctorChangedEvent.DELETED));
     }
     
     @Override
@@ -95,6 +116,7 @@ public class DoctorServiceImpl implements DoctorService {
         
         doctor.setActive(false);
         Doctor updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(DoctorChangedEvent.of(updatedDoctor, DoctorChangedEvent.UPDATED));
         return doctorMapper.toResponse(updatedDoctor);
     }
     
@@ -106,6 +128,7 @@ public class DoctorServiceImpl implements DoctorService {
         
         doctor.setActive(true);
         Doctor updatedDoctor = doctorRepository.save(doctor);
+        eventPublisher.publishEvent(DoctorChangedEvent.of(updatedDoctor, DoctorChangedEvent.UPDATED));
         return doctorMapper.toResponse(updatedDoctor);
     }
     
@@ -115,15 +138,29 @@ public class DoctorServiceImpl implements DoctorService {
     }
     
     @Override
-    public List<DoctorResponse> findBySpecialtyIgnoreCase(String specialty) {
-        return doctorRepository.findBySpecialtyIgnoreCase(specialty).stream()
-                .map(doctorMapper::toResponse)
-                .collect(Collectors.toList());
+    public List<DoctorResponse> findBySpecialtyIgnoreCase(String specialty, FieldSelection fields) {
+        return load(fields,
+                () -> doctorRepository.findBySpecialtyIgnoreCase(specialty),
+                (root, query, cb) -> cb.equal(cb.upper(root.get("specialty")), specialty.toUpperCase(Locale.ROOT)));
     }
     
     @Override
-    public List<DoctorResponse> findActiveBySpecialtyIgnoreCase(String specialty) {
-        return doctorRepository.findByActiveTrueAndSpecialtyIgnoreCase(specialty).stream()
+    public List<DoctorResponse> findActiveBySpecialtyIgnoreCase(String specialty, FieldSelection fields) {
+        return load(fields,
+                () -> doctorRepository.findByActiveTrueAndSpecialtyIgnoreCase(specialty),
+                (root, query, cb) -> cb.and(
+                        cb.isTrue(root.get("active")),
+                        cb.equal(cb.upper(root.get("specialty")), specialty.toUpperCase(Locale.ROOT))));
+    }
+    
+    /**
+     * Run the full entity query, or select only the requested columns when ?fields= is present
+     */
+    private List<DoctorResponse> load(FieldSelection fields, Supplier<List<Doctor>> fullQuery, Specification<Doctor> where) {
+        List<Doctor> doctors = fields.isAll()
+                ? fullQuery.get()
+                : partialEntityLoader.findAll(Doctor.class, fields, where);
+        return doctors.stream()
                 .map(doctorMapper::toResponse)
                 .collect(Collectors.toList());
     }
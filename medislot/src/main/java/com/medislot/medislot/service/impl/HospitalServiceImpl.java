@@ -3,11 +3,13 @@ package com.medislot.medislot.service.impl;
 import com.medislot.medislot.dto.hospital.HospitalCreateRequest;
 import com.medislot.medislot.dto.hospital.HospitalResponse;
 import com.medislot.medislot.entity.Hospital;
+import com.medislot.medislot.event.HospitalChangedEvent;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.mapper.HospitalMapper;
 import com.medislot.medislot.repository.HospitalRepository;
 import com.medislot.medislot.service.HospitalService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,11 +27,14 @@ public class HospitalServiceImpl implements HospitalService {
     
     private final HospitalRepository hospitalRepository;
     private final HospitalMapper hospitalMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Autowired
-    public HospitalServiceImpl(HospitalRepository hospitalRepository, HospitalMapper hospitalMapper) {
+    public HospitalServiceImpl(HospitalRepository hospitalRepository, HospitalMapper hospitalMapper,
+                               ApplicationEventPublisher eventPublisher) {
         this.hospitalRepository = hospitalRepository;
         this.hospitalMapper = hospitalMapper;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -37,6 +42,7 @@ public class HospitalServiceImpl implements HospitalService {
     public HospitalResponse create(HospitalCreateRequest createRequest) {
         Hospital hospital = hospitalMapper.toEntity(createRequest);
         Hospital savedHospital = hospitalRepository.save(hospital);
+        eventPublisher.publishEvent(HospitalChangedEvent.of(savedHospital, HospitalChangedEvent.CREATED));
         return hospitalMapper.toResponse(savedHospital);
     }
     
@@ -78,6 +84,7 @@ public class HospitalServiceImpl implements HospitalService {
         }
         
         Hospital updatedHospital = hospitalRepository.save(hospital);
+        eventPublisher.publishEvent(HospitalChangedEvent.of(updatedHospital, HospitalChangedEvent.UPDATED));
         return hospitalMapper.toResponse(updatedHospital);
     }
     
@@ -88,6 +95,7 @@ public class HospitalServiceImpl implements HospitalService {
                 .orElseThrow(() -> new ResourceNotFoundException("Hospital", id));
         
         hospitalRepository.delete(hospital);
+        eventPublisher.publishEvent(HospitalChangedEvent.of(hospital, HospitalChangedEvent.DELETED));
     }
     
     @Override
@@ -98,6 +106,7 @@ public class HospitalServiceImpl implements HospitalService {
         
         hospital.setActive(false);
         Hospital updatedHospital = hospitalRepository.save(hospital);
+        eventPublisher.publishEvent(HospitalChangedEvent.of(updatedHospital, HospitalChangedEvent.UPDATED));
         return hospitalMapper.toResponse(updatedHospital);
     }
     
@@ -109,6 +118,7 @@ public class HospitalServiceImpl implements HospitalService {
         
         hospital.setActive(true);
         Hospital updatedHospital = hospitalRepository.save(hospital);
+        eventPublisher.publishEvent(HospitalChangedEvent.of(updatedHospital, HospitalChangedEvent.UPDATED));
         return hospitalMapper.toResponse(updatedHospital);
     }
     
@@ -2,9 +2,12 @@ package com.medislot.medislot.service.impl;
 
 import com.medislot.medislot.dto.patient.PatientCreateRequest;
 import com.medislot.medislot.dto.patient.PatientResponse;
+import com.medislot.medislot.dto.patient.PatientSearchResponse;
 import com.medislot.medislot.entity.Patient;
+import com.medislot.medislot.exception.BadRequestException;
 import com.medislot.medislot.exception.ResourceNotFoundException;
 import com.medislot.medislot.mapper.PatientMapper;
+import com.medislot.medislot.repository.EntityLookup;
 import com.medislot.medislot.repository.PatientRepository;
 import com.medislot.medislot.service.PatientService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,8 +15,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -23,18 +28,33 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PatientServiceImpl implements PatientService {
     
+    // Shorter terms cannot use the trigram indexes
+    private static final int MIN_SEARCH_LENGTH = 3;
+    // Deeper pages mean the query is too broad; keeps every search a bounded index scan
+    private static final int MAX_SEARCH_OFFSET = 1000;
+    private static final Pattern PHONE_QUERY = Pattern.compile("[0-9+()\\-.\\s]+");
+    private static final Pattern NON_DIGITS = Pattern.compile("[^0-9]");
+    
     private final PatientRepository patientRepository;
     private final PatientMapper patientMapper;
+    private final EntityLookup entityLookup;
     
     @Autowired
-    public PatientServiceImpl(PatientRepository patientRepository, PatientMapper patientMapper) {
+    public PatientServiceImpl(PatientRepository patientRepository, PatientMapper patientMapper,
+                              EntityLookup entityLookup) {
         this.patientRepository = patientRepository;
         this.patientMapper = patientMapper;
+        this.entityLookup = entityLookup;
     }
     
     @Override
     @Transactional
     public PatientResponse create(PatientCreateRequest createRequest) {
+        // Same memoized lookup as @UniqueEmail, so a validated request does not query again
+        String email = createRequest.getEmail();
+        if (email != null && !email.isEmpty() && entityLookup.patientEmailExists(email)) {
+            throw new BadRequestException("Email already exists");
+        }
         Patient patient = patientMapper.toEntity(createRequest);
         Patient savedPatient = patientRepository.save(patient);
         return patientMapper.toResponse(savedPatient);
@@ -61,6 +81,44 @@ public class PatientServiceImpl implements PatientService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    public PatientSearchResponse search(String query, boolean activeOnly, int page, int size) {
+        String text = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        // Computed in long so a huge page number cannot wrap around to a small offset
+        long offset = (long) page * size;
+        if (offset > MAX_SEARCH_OFFSET) {
+            throw new BadRequestException("Search results are limited to the first " + MAX_SEARCH_OFFSET + "; refine the query");
+        }
+        
+        // Fetch one extra row to tell whether another page exists, without counting
+        List<Patient> patients;
+        if (PHONE_QUERY.matcher(text).matches()) {
+            String digits = NON_DIGITS.matcher(text).replaceAll("");
+            if (digits.length() < MIN_SEARCH_LENGTH) {
+                throw new BadRequestException("Phone search needs at least " + MIN_SEARCH_LENGTH + " digits");
+            }
+            patients = patientRepository.searchByPhone(digits, "%" + digits + "%", digits + "%",
+                    activeOnly, size + 1, (int) offset);
+        } else {
+            if (text.length() < MIN_SEARCH_LENGTH) {
+                throw new BadRequestException("Search text needs at least " + MIN_SEARCH_LENGTH + " characters");
+            }
+            String escaped = escapeLike(text);
+            patients = patientRepository.searchByNameOrEmail(text, "%" + escaped + "%", escaped + "%",
+                    "% " + escaped + "%", activeOnly, size + 1, (int) offset);
+        }
+        
+        PatientSearchResponse response = new PatientSearchResponse();
+        response.setPage(page);
+        response.setSize(size);
+        response.setHasMore(patients.size() > size);
+        response.setPatients(patients.stream()
+                .limit(size)
+                .map(patientMapper::toResponse)
+                .collect(Collectors.toList()));
+        return response;
+    }
+    
     @Override
     @Transactional
     public PatientResponse update(UUID id, PatientCreateRequest updateRequest) {
@@ -120,4 +178,8 @@ public class PatientServiceImpl implements PatientService {
     public boolean existsById(UUID id) {
         return patientRepository.existsById(id);
     }
+    
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 }
@@ -0,0 +1,123 @@
+package com.medislot.medislot.service.impl;
+
+import com.medislot.medislot.dto.utilization.UtilizationDayResponse;
+import com.medislot.medislot.dto.utilization.UtilizationReportResponse;
+import com.medislot.medislot.entity.SlotUtilization;
+import com.medislot.medislot.exception.BadRequestException;
+import com.medislot.medislot.repository.SlotUtilizationRepository;
+import com.medislot.medislot.service.UtilizationService;
+import com.medislot.medislot.utilization.UtilizationCounters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of UtilizationService
+ * Reports read the pre-aggregated slot_utilization rows, one per day and status, so their cost
+ * depends on the number of days rather than slots
+ */
+@Service
+@Transactional(readOnly = true)
+public class UtilizationServiceImpl implements UtilizationService {
+    
+    private static final int MAX_DAYS = 366;
+    
+    private final SlotUtilizationRepository slotUtilizationRepository;
+    private final UtilizationCounters utilizationCounters;
+    
+    @Autowired
+    public UtilizationServiceImpl(SlotUtilizationRepository slotUtilizationRepository,
+                                  UtilizationCounters utilizationCounters) {
+        this.slotUtilizationRepository = slotUtilizationRepository;
+        this.utilizationCounters = utilizationCounters;
+    }
+    
+    @Override
+    public UtilizationReportResponse doctorReport(UUID doctorId, UUID hospitalId, LocalDate from, LocalDate to) {
+        int days = dayCount(from, to);
+        List<SlotUtilization> rows = hospitalId == null
+                ? slotUtilizationRepository.findByDoctorIdAndDayBetween(doctorId, from, to)
+                : slotUtilizationRepository.findByDoctorIdAndHospitalIdAndDayBetween(doctorId, hospitalId, from, to);
+        UtilizationReportResponse report = toReport(rows, from, days);
+        report.setDoctorId(doctorId);
+        report.setHospitalId(hospitalId);
+        return report;
+    }
+    
+    @Override
+    public UtilizationReportResponse hospitalReport(UUID hospitalId, LocalDate from, LocalDate to) {
+        int days = dayCount(from, to);
+        UtilizationReportResponse report = toReport(
+                slotUtilizationRepository.findByHospitalIdAndDayBetween(hospitalId, from, to), from, days);
+        report.setHospitalId(hospitalId);
+        return report;
+    }
+    
+    @Override
+    public int rebuild() {
+        return utilizationCounters.rebuild(false);
+    }
+    
+    private static int dayCount(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > MAX_DAYS) {
+            throw new BadRequestException("Date range must not exceed " + MAX_DAYS + " days");
+        }
+        return (int) days;
+    }
+    
+    /**
+     * Sum rows into one entry per day of the range, days without rows included
+     */
+    private static UtilizationReportResponse toReport(List<SlotUtilization> rows, LocalDate from, int days) {
+        long[] available = new long[days];
+        long[] booked = new long[days];
+        long[] cancelled = new long[days];
+        for (SlotUtilization row : rows) {
+            int day = (int) ChronoUnit.DAYS.between(from, row.getDay());
+            switch (row.getStatus()) {
+                case AVAILABLE -> available[day] += row.getTotal();
+                case BOOKED -> booked[day] += row.getTotal();
+                case CANCELLED -> cancelled[day] += row.getTotal();
+            }
+        }
+        
+        List<UtilizationDayResponse> entries = new ArrayList<>(days);
+        long totalAvailable = 0;
+        long totalBooked = 0;
+        long totalCancelled = 0;
+        for (int day = 0; day < days; day++) {
+            entries.add(dayResponse(from.plusDays(day), available[day], booked[day], cancelled[day]));
+            totalAvailable += available[day];
+            totalBooked += booked[day];
+            totalCancelled += cancelled[day];
+        }
+        
+        UtilizationReportResponse report = new UtilizationReportResponse();
+        report.setFrom(from);
+        report.setTo(from.plusDays(days - 1));
+        report.setDays(entries);
+        report.setTotal(dayResponse(null, totalAvailable, totalBooked, totalCancelled));
+        return report;
+    }
+    
+    private static UtilizationDayResponse dayResponse(LocalDate day, long available, long booked, long cancelled) {
+        UtilizationDayResponse response = new UtilizationDayResponse();
+        response.setDay(day);
+        response.setAvailableSlots(available);
+        response.setBookedSlots(booked);
+        response.setCancelledAppointments(cancelled);
+        long slots = available + booked;
+        response.setUtilization(slots == 0 ? null : (double) booked / slots);
+        return response;
+    }
+}
@@ -0,0 +1,186 @@
+package com.medislot.medislot.sse;
+
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.exception.ServiceUnavailableException;
+import com.medislot.medislot.mapper.SlotMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Availability Stream Broker
+ * In-process fan-out of committed slot changes to SSE subscribers of a doctor or hospital.
+ * Connections use async servlet requests, so an idle subscriber holds no request thread;
+ * sends run on virtual threads and a single timer drives coalescing and heartbeats
+ */
+@Component
+public class AvailabilityStreamBroker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityStreamBroker.class);
+
+    private final SlotMapper slotMapper;
+    private final long timeoutMillis;
+    private final long coalesceMillis;
+    private final int maxPending;
+    private final int maxSubscribers;
+    private final long stallNanos;
+
+    private final Map<UUID, Set<AvailabilitySubscription>> doctorSubscriptions = new ConcurrentHashMap<>();
+    private final Map<UUID, Set<AvailabilitySubscription>> hospitalSubscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ScheduledExecutorService timer;
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public AvailabilityStreamBroker(SlotMapper slotMapper,
+                                    @Value("${availability-stream.timeout-ms:1800000}") long timeoutMillis,
+                                    @Value("${availability-stream.coalesce-ms:250}") long coalesceMillis,
+                                    @Value("${availability-stream.max-pending:500}") int maxPending,
+                                    @Value("${availability-stream.max-subscribers:20000}") int maxSubscribers,
+                                    @Value("${availability-stream.heartbeat-seconds:25}") long heartbeatSeconds,
+                                    @Value("${availability-stream.stall-timeout-seconds:30}") long stallTimeoutSeconds) {
+        this.slotMapper = slotMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.coalesceMillis = coalesceMillis;
+        this.maxPending = maxPending;
+        this.maxSubscribers = maxSubscribers;
+        this.stallNanos = TimeUnit.SECONDS.toNanos(stallTimeoutSeconds);
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "availability-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.timer.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Open a stream of slot changes for a doctor
+     */
+    public SseEmitter subscribeToDoctor(UUID doctorId) {
+        return subscribe(doctorSubscriptions, doctorId);
+    }
+
+    /**
+     * Open a stream of slot changes for a hospital
+     */
+    public SseEmitter subscribeToHospital(UUID hospitalId) {
+        return subscribe(hospitalSubscriptions, hospitalId);
+    }
+
+    private SseEmitter subscribe(Map<UUID, Set<AvailabilitySubscription>> subscriptions, UUID key) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many availability stream subscribers, retry later");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AvailabilitySubscription subscription = new AvailabilitySubscription(
+                emitter, slotMapper, timer, sender, coalesceMillis, maxPending);
+        subscriptions.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscription);
+
+        Runnable remove = () -> unsubscribe(subscriptions, key, subscription);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(error -> remove.run());
+
+        try {
+            // Tell EventSource clients how soon to reconnect once the stream times out
+            emitter.send(SseEmitter.event().comment("subscribed").reconnectTime(1000));
+        } catch (IOException e) {
+            remove.run();
+        }
+        return emitter;
+    }
+
+    private void unsubscribe(Map<UUID, Set<AvailabilitySubscription>> subscriptions, UUID key,
+                             AvailabilitySubscription subscription) {
+        subscriptions.computeIfPresent(key, (k, set) -> {
+            if (set.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+        subscription.close();
+    }
+
+    /**
+     * Fan out a slot change once its transaction has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSlotChanged(SlotChangedEvent event) {
+        offer(doctorSubscriptions.get(event.doctorId()), event);
+        offer(hospitalSubscriptions.get(event.hospitalId()), event);
+    }
+
+    private static void offer(Set<AvailabilitySubscription> subscriptions, SlotChangedEvent event) {
+        if (subscriptions == null) {
+            return;
+        }
+        for (AvailabilitySubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    /**
+     * Keep idle connections alive and drop subscribers whose sends are stuck
+     */
+    private void heartbeat() {
+        try {
+            long now = System.nanoTime();
+            int stalled = heartbeat(doctorSubscriptions, now) + heartbeat(hospitalSubscriptions, now);
+            if (stalled > 0) {
+                logger.warn("Closed {} stalled availability stream subscribers", stalled);
+            }
+        } catch (Exception e) {
+            logger.error("Availability stream heartbeat failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int heartbeat(Map<UUID, Set<AvailabilitySubscription>> subscriptions, long now) {
+        int stalled = 0;
+        for (Map.Entry<UUID, Set<AvailabilitySubscription>> entry : subscriptions.entrySet()) {
+            for (AvailabilitySubscription subscription : entry.getValue()) {
+                if (subscription.isStalled(now, stallNanos)) {
+                    unsubscribe(subscriptions, entry.getKey(), subscription);
+                    stalled++;
+                } else if (subscription.isClosed()) {
+                    unsubscribe(subscriptions, entry.getKey(), subscription);
+                } else {
+                    subscription.heartbeat();
+                }
+            }
+        }
+        return stalled;
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        for (Set<AvailabilitySubscription> subscriptions : doctorSubscriptions.values()) {
+            subscriptions.forEach(AvailabilitySubscription::close);
+        }
+        for (Set<AvailabilitySubscription> subscriptions : hospitalSubscriptions.values()) {
+            subscriptions.forEach(AvailabilitySubscription::close);
+        }
+        sender.shutdown();
+    }
+}
@@ -0,0 +1,190 @@
+package com.medislot.medislot.sse;
+
+import com.medislot.medislot.dto.slot.SlotChangeResponse;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.mapper.SlotMapper;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One SSE connection of the availability stream
+ * Changes are coalesced per slot (only the latest state of each slot is kept) and sent as one
+ * "slots" event per coalescing window. At most one send is in flight per subscriber, so a slow
+ * client only accumulates pending slot states; past maxPending they are replaced by a single
+ * "resync" event telling the client to reload availability over REST
+ */
+class AvailabilitySubscription {
+
+    static final String SLOTS_EVENT = "slots";
+    static final String RESYNC_EVENT = "resync";
+
+    private final SseEmitter emitter;
+    private final SlotMapper slotMapper;
+    private final ScheduledExecutorService timer;
+    private final Executor sender;
+    private final long coalesceMillis;
+    private final int maxPending;
+
+    private final Map<UUID, SlotChangedEvent> pending = new LinkedHashMap<>();
+    private boolean overflowed;
+    private boolean sendScheduled;
+    private volatile long sendStartedNanos;
+    private volatile boolean closed;
+
+    AvailabilitySubscription(SseEmitter emitter, SlotMapper slotMapper, ScheduledExecutorService timer,
+                             Executor sender, long coalesceMillis, int maxPending) {
+        this.emitter = emitter;
+        this.slotMapper = slotMapper;
+        this.timer = timer;
+        this.sender = sender;
+        this.coalesceMillis = coalesceMillis;
+        this.maxPending = maxPending;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Queue a slot change; the first change of a window schedules the send
+     */
+    void offer(SlotChangedEvent event) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (overflowed) {
+                return;
+            }
+            if (pending.size() >= maxPending && !pending.containsKey(event.slotId())) {
+                pending.clear();
+                overflowed = true;
+            } else {
+                pending.put(event.slotId(), event);
+            }
+            if (sendScheduled) {
+                return;
+            }
+            sendScheduled = true;
+        }
+        timer.schedule(() -> sender.execute(this::flush), coalesceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Send a keep-alive comment when nothing else is being sent
+     * Keeps proxies from closing idle connections and detects clients that went away
+     */
+    void heartbeat() {
+        synchronized (this) {
+            if (closed || sendScheduled) {
+                return;
+            }
+            sendScheduled = true;
+        }
+        sender.execute(() -> {
+            send(SseEmitter.event().comment("keepalive"));
+            afterSend();
+        });
+    }
+
+    /**
+     * Whether a send has been blocked on the client for longer than the given time
+     */
+    boolean isStalled(long now, long stallNanos) {
+        long started = sendStartedNanos;
+        return started != 0 && now - started > stallNanos;
+    }
+
+    private void flush() {
+        List<SlotChangedEvent> batch;
+        boolean resync;
+        synchronized (this) {
+            batch = new ArrayList<>(pending.values());
+            pending.clear();
+            resync = overflowed;
+            overflowed = false;
+        }
+
+        if (resync) {
+            send(SseEmitter.event().name(RESYNC_EVENT).data(Map.of("reason", "too many pending changes")));
+        } else if (!batch.isEmpty()) {
+            List<SlotChangeResponse> changes = new ArrayList<>(batch.size());
+            for (SlotChangedEvent event : batch) {
+                changes.add(slotMapper.toChangeResponse(event));
+            }
+            send(SseEmitter.event().name(SLOTS_EVENT).data(changes));
+        }
+        afterSend();
+    }
+
+    /**
+     * Reschedule if changes arrived while sending, otherwise go idle
+     */
+    private void afterSend() {
+        synchronized (this) {
+            if (closed || (pending.isEmpty() && !overflowed)) {
+                sendScheduled = false;
+                return;
+            }
+        }
+        timer.schedule(() -> sender.execute(this::flush), coalesceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void send(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return;
+        }
+        sendStartedNanos = System.nanoTime();
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            // Client disconnected or the emitter already completed
+            close();
+        } finally {
+            sendStartedNanos = 0;
+        }
+    }
+
+    /**
+     * Stop delivering and complete the response
+     * Callers include the broker timer, so completion runs on the sender: completing an emitter
+     * whose send is stuck on a slow client blocks until that send gives up
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending.clear();
+        }
+        try {
+            sender.execute(this::complete);
+        } catch (RejectedExecutionException e) {
+            // Sender already shut down
+            complete();
+        }
+    }
+
+    private void complete() {
+        try {
+            emitter.complete();
+        } catch (Exception e) {
+            // Already completed
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.medislot.medislot.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves the originating client IP address of a request
+ * Shared by the request logging and rate limiting filters so both see the same client identity.
+ *
+ * X-Forwarded-For is client-controlled, so it is only read when the socket peer is one of the
+ * configured trusted proxies (client-ip.trusted-proxies, addresses or CIDR ranges). The header is
+ * then walked from the right and the first address not belonging to a trusted proxy is the client;
+ * without trusted proxies the socket address is always used
+ */
+@Component
+public class ClientIpResolver {
+
+    private static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${client-ip.trusted-proxies:}") String[] trustedProxies) {
+        List<IpAddressMatcher> matchers = new ArrayList<>();
+        for (String proxy : trustedProxies) {
+            String trimmed = proxy.trim();
+            if (!trimmed.isEmpty()) {
+                matchers.add(new IpAddressMatcher(trimmed));
+            }
+        }
+        this.trustedProxies = List.copyOf(matchers);
+    }
+
+    /**
+     * Get client IP address from request
+     * Falls back to the socket address unless it is a trusted proxy that set X-Forwarded-For
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader(FORWARDED_FOR_HEADER);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+
+        // Each proxy appends the address it received the request from; walk back past our own
+        String client = remoteAddr;
+        int end = forwardedFor.length();
+        while (end > 0) {
+            int comma = forwardedFor.lastIndexOf(',', end - 1);
+            String candidate = forwardedFor.substring(comma + 1, end).trim();
+            end = comma >= 0 ? comma : 0;
+            if (candidate.isEmpty()) {
+                continue;
+            }
+            if (!isTrustedProxy(candidate)) {
+                return candidate;
+            }
+            client = candidate;
+        }
+        return client;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (address == null || trustedProxies.isEmpty()) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // Not an IP literal (e.g. "unknown" or a hostname), never a trusted proxy
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -1,27 +1,34 @@
 package com.medislot.medislot.util;
 
+import java.util.concurrent.Callable;
+
 /**
  * Thread-local holder for correlation ID (X-Request-Id)
  * Allows accessing the correlation ID from anywhere in the request lifecycle
+ *
+ * Safe under virtual threads: the value is a plain (non-inheritable) ThreadLocal that is set and
+ * cleared by CorrelationIdFilter around each request, so it lives exactly as long as the request's
+ * thread and never leaks to a carrier thread. Work handed to another thread must be wrapped with
+ * {@link #wrap(Runnable)} / {@link #wrap(Callable)} to carry the ID across.
  */
 public class CorrelationIdHolder {
-    
+
     private static final ThreadLocal<String> correlationIdHolder = new ThreadLocal<>();
-    
+
     /**
      * Set the correlation ID for the current thread
      */
     public static void setCorrelationId(String correlationId) {
         correlationIdHolder.set(correlationId);
     }
-    
+
     /**
      * Get the correlation ID for the current thread
      */
     public static String getCorrelationId() {
         return correlationIdHolder.get();
     }
-    
+
     /**
      * Clear the correlation ID from the current thread
      * IMPORTANT: Must be called to prevent memory leaks
@@ -29,11 +36,58 @@ public class CorrelationIdHolder {
     public static void clear() {
         correlationIdHolder.remove();
     }
-    
+
     /**
      * Check if a correlation ID exists for the current thread
      */
     public static boolean hasCorrelationId() {
         return correlationIdHolder.get() != null;
     }
+
+    /**
+     * Wrap a task so it runs with the caller's correlation ID on whichever thread executes it
+     * The executing thread's previous value is restored afterwards
+     */
+    public static Runnable wrap(Runnable task) {
+        String correlationId = correlationIdHolder.get();
+        if (correlationId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = correlationIdHolder.get();
+            correlationIdHolder.set(correlationId);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wrap a callable so it runs with the caller's correlation ID on whichever thread executes it
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        String correlationId = correlationIdHolder.get();
+        if (correlationId == null) {
+            return task;
+        }
+        return () -> {
+            String previous = correlationIdHolder.get();
+            correlationIdHolder.set(correlationId);
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(String previous) {
+        if (previous == null) {
+            correlationIdHolder.remove();
+        } else {
+            correlationIdHolder.set(previous);
+        }
+    }
 }
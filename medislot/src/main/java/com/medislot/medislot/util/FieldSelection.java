@@ -0,0 +1,104 @@
+package com.medislot.medislot.util;
+
+import com.medislot.medislot.exception.BadRequestException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sparse fieldset of a request (?fields=id,startTime,status)
+ * Services load only the selected columns and FieldSelectionFilter writes only the selected
+ * properties of response DTOs annotated with @JsonFilter(FieldSelection.FILTER_ID)
+ */
+public final class FieldSelection {
+
+    public static final String PARAMETER = "fields";
+    public static final String FILTER_ID = "fieldSelection";
+    public static final FieldSelection ALL = new FieldSelection(null);
+
+    private static final String REQUEST_ATTRIBUTE = FieldSelection.class.getName();
+    private static final Map<Class<?>, Set<String>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private final Set<String> names;
+
+    private FieldSelection(Set<String> names) {
+        this.names = names;
+    }
+
+    /**
+     * Parse the fields parameter against the properties of the response type and make the
+     * selection visible to serialization of the current request
+     * Null or blank selects all fields; unknown names are rejected
+     */
+    public static FieldSelection forRequest(String fields, Class<?> responseType) {
+        FieldSelection selection = parse(fields, responseType);
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, selection, RequestAttributes.SCOPE_REQUEST);
+        }
+        return selection;
+    }
+
+    public static FieldSelection parse(String fields, Class<?> responseType) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> allowed = PROPERTIES.computeIfAbsent(responseType, FieldSelection::propertiesOf);
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(trimmed)) {
+                throw new BadRequestException("Unknown field '" + trimmed + "'. Allowed fields: " + allowed);
+            }
+            names.add(trimmed);
+        }
+        return names.isEmpty() ? ALL : new FieldSelection(Collections.unmodifiableSet(names));
+    }
+
+    /**
+     * Selection of the request being served; all fields outside a request or without ?fields=
+     */
+    public static FieldSelection current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return ALL;
+        }
+        Object selection = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return selection instanceof FieldSelection fieldSelection ? fieldSelection : ALL;
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    /**
+     * Selected property names in request order (empty when all fields are selected)
+     */
+    public Set<String> names() {
+        return names == null ? Set.of() : names;
+    }
+
+    private static Set<String> propertiesOf(Class<?> responseType) {
+        Set<String> properties = new LinkedHashSet<>();
+        for (Field field : responseType.getDeclaredFields()) {
+            if (!Modifier.isStatic(field.getModifiers())) {
+                properties.add(field.getName());
+            }
+        }
+        return Collections.unmodifiableSet(properties);
+    }
+}
@@ -0,0 +1,28 @@
+package com.medislot.medislot.util;
+
+import tools.jackson.databind.ser.BeanPropertyWriter;
+import tools.jackson.databind.ser.FilterProvider;
+import tools.jackson.databind.ser.PropertyWriter;
+import tools.jackson.databind.ser.std.SimpleBeanPropertyFilter;
+import tools.jackson.databind.ser.std.SimpleFilterProvider;
+
+/**
+ * Jackson property filter applying the request's FieldSelection
+ * Registered on every response mapper (JSON, CBOR, Smile) under FieldSelection.FILTER_ID
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    public static FilterProvider provider() {
+        return new SimpleFilterProvider().addFilter(FieldSelection.FILTER_ID, new FieldSelectionFilter());
+    }
+
+    @Override
+    protected boolean include(BeanPropertyWriter writer) {
+        return FieldSelection.current().includes(writer.getName());
+    }
+
+    @Override
+    protected boolean include(PropertyWriter writer) {
+        return FieldSelection.current().includes(writer.getName());
+    }
+}
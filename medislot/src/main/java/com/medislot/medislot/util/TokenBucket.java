@@ -0,0 +1,60 @@
+package com.medislot.medislot.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket
+ * Implemented as a generic cell rate algorithm: the whole bucket state is a single
+ * "theoretical arrival time" updated with compare-and-set, so concurrent requests
+ * for the same key never block each other
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+    private volatile long lastAccessNanos;
+
+    /**
+     * @param capacity maximum number of tokens (burst size)
+     * @param refillPerSecond tokens added back per second
+     * @param nowNanos current {@link System#nanoTime()} value
+     */
+    public TokenBucket(long capacity, double refillPerSecond, long nowNanos) {
+        if (capacity <= 0 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket capacity and refill rate must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+        this.lastAccessNanos = nowNanos;
+    }
+
+    /**
+     * Try to take one token
+     * @param nowNanos current {@link System#nanoTime()} value
+     * @return 0 if the token was granted, otherwise the nanoseconds until one becomes available
+     */
+    public long tryConsume(long nowNanos) {
+        lastAccessNanos = nowNanos;
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long overshoot = next - nowNanos - burstWindowNanos;
+            if (overshoot > 0) {
+                return overshoot;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Check if the bucket has not been touched for the given idle period
+     */
+    public boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - lastAccessNanos > idleNanos;
+    }
+}
@@ -0,0 +1,226 @@
+package com.medislot.medislot.utilization;
+
+import com.medislot.medislot.entity.UtilizationStatus;
+import com.medislot.medislot.event.UtilizationChangedEvent;
+import com.medislot.medislot.repository.SlotUtilizationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Utilization Counters
+ * Accumulates committed utilization changes per (doctor, hospital, day, status) in LongAdders
+ * and flushes the net deltas to slot_utilization in one batched upsert per interval.
+ *
+ * Recording threads share a read lock; the flush swaps in an empty map under the write lock,
+ * so the drained adders see no further updates. Deltas of a failed flush are put back and
+ * retried. Every node adds its own deltas, so counters stay correct with several nodes
+ */
+@Component
+public class UtilizationCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(UtilizationCounters.class);
+
+    private static final String UPSERT =
+            "INSERT INTO slot_utilization (doctor_id, hospital_id, day, status, total) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (doctor_id, hospital_id, day, status) " +
+            "DO UPDATE SET total = slot_utilization.total + EXCLUDED.total";
+
+    // Same order on every node, so concurrent flushes lock rows in the same order
+    private static final Comparator<Key> KEY_ORDER = Comparator.comparing(Key::doctorId)
+            .thenComparing(Key::hospitalId)
+            .thenComparing(Key::day)
+            .thenComparing(Key::status);
+
+    private final SlotUtilizationRepository slotUtilizationRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Map<Key, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public UtilizationCounters(SlotUtilizationRepository slotUtilizationRepository,
+                               DataSource dataSource,
+                               PlatformTransactionManager transactionManager) {
+        this.slotUtilizationRepository = slotUtilizationRepository;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUtilizationChanged(UtilizationChangedEvent event) {
+        if (event.isNoop()) {
+            return;
+        }
+        if (event.fromStatus() != null) {
+            add(new Key(event.doctorId(), event.hospitalId(), event.fromDay(), event.fromStatus()), -1);
+        }
+        if (event.toStatus() != null) {
+            add(new Key(event.doctorId(), event.hospitalId(), event.toDay(), event.toStatus()), 1);
+        }
+    }
+
+    private void add(Key key, long delta) {
+        ReentrantReadWriteLock.ReadLock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            pending.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Write the accumulated deltas to slot_utilization in one transaction
+     */
+    @Scheduled(fixedDelayString = "${utilization.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        Map<Key, LongAdder> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Key, Long>> deltas = new ArrayList<>(drained.size());
+        for (Map.Entry<Key, LongAdder> entry : drained.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta != 0) {
+                deltas.add(Map.entry(entry.getKey(), delta));
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        deltas.sort(Map.Entry.comparingByKey(KEY_ORDER));
+
+        try {
+            write(deltas);
+            logger.debug("Flushed {} utilization counter deltas", deltas.size());
+        } catch (SQLException e) {
+            logger.warn("Utilization flush of {} deltas failed, retrying later: {}", deltas.size(), e.getMessage());
+            for (Map.Entry<Key, Long> delta : deltas) {
+                add(delta.getKey(), delta.getValue());
+            }
+        }
+    }
+
+    /**
+     * Swap in an empty map; the drained adders see no further updates
+     */
+    private Map<Key, LongAdder> drain() {
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return Map.of();
+            }
+            Map<Key, LongAdder> drained = pending;
+            pending = new ConcurrentHashMap<>();
+            return drained;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private void write(List<Map.Entry<Key, Long>> deltas) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (Map.Entry<Key, Long> delta : deltas) {
+                    Key key = delta.getKey();
+                    statement.setObject(1, key.doctorId());
+                    statement.setObject(2, key.hospitalId());
+                    statement.setObject(3, key.day());
+                    statement.setString(4, key.status().name());
+                    statement.setLong(5, delta.getValue());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Fill slot_utilization from the slots and appointments tables when it is empty
+     * (first start, or data loaded in bulk without going through the services)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (!slotUtilizationRepository.hasRows()) {
+                rebuild(true);
+            }
+        } catch (Exception e) {
+            logger.warn("Utilization backfill failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Recount every row from the source tables
+     * The deltas recorded on this node up to the recount are part of it, so they are drained and
+     * dropped rather than flushed on top (they are put back if the rebuild fails); flushes wait
+     * for the rebuild. Changes committed on other nodes during the rebuild may still be counted
+     * twice, so run it when bookings are quiet
+     * @param onlyIfEmpty skip when another node filled the table first
+     * @return the number of rows written, or -1 when skipped
+     */
+    public synchronized int rebuild(boolean onlyIfEmpty) {
+        List<Map<Key, LongAdder>> superseded = new ArrayList<>(1);
+        Integer rows;
+        try {
+            rows = transactionTemplate.execute(status -> {
+                slotUtilizationRepository.lockTable();
+                if (onlyIfEmpty && slotUtilizationRepository.hasRows()) {
+                    return -1;
+                }
+                slotUtilizationRepository.deleteAllRows();
+                // Everything committed before the recount reads the source tables is counted by it
+                superseded.add(drain());
+                return slotUtilizationRepository.insertSlotTotals() + slotUtilizationRepository.insertCancellationTotals();
+            });
+        } catch (RuntimeException e) {
+            for (Map<Key, LongAdder> drained : superseded) {
+                drained.forEach((key, adder) -> add(key, adder.sum()));
+            }
+            throw e;
+        }
+        if (rows != null && rows >= 0) {
+            logger.info("Utilization counters rebuilt: {} rows", rows);
+        }
+        return rows == null ? -1 : rows;
+    }
+
+    private record Key(UUID doctorId, UUID hospitalId, LocalDate day, UtilizationStatus status) {
+    }
+}
@@ -0,0 +1,8 @@
+package com.medislot.medislot.validation;
+
+/**
+ * Validation group for constraints that only apply when a resource is created,
+ * e.g. uniqueness checks a resource would fail against itself on update
+ */
+public interface OnCreate {
+}
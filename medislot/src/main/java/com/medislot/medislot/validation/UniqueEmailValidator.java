@@ -1,6 +1,6 @@
 package com.medislot.medislot.validation;
 
-import com.medislot.medislot.repository.PatientRepository;
+import com.medislot.medislot.repository.EntityLookup;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,7 +8,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 public class UniqueEmailValidator implements ConstraintValidator<UniqueEmail, String> {
 
     @Autowired
-    private PatientRepository patientRepository;
+    private EntityLookup entityLookup;
 
     @Override
     public boolean isValid(String email, ConstraintValidatorContext context) {
@@ -16,11 +16,11 @@ public class UniqueEmailValidator implements ConstraintValidator<UniqueEmail, St
             return true; // Let @NotBlank handle empty validation
         }
 
-        // Check if repository is available (might not be in test contexts)
-        if (patientRepository == null) {
+        // Check if the lookup is available (might not be in test contexts)
+        if (entityLookup == null) {
             return true;
         }
 
-        return !patientRepository.existsByEmail(email);
+        return !entityLookup.patientEmailExists(email);
     }
 }
@@ -1,8 +1,8 @@
 package com.medislot.medislot.validation;
 
 import com.medislot.medislot.dto.appointment.AppointmentCreateRequest;
-import com.medislot.medislot.entity.SlotStatus;
-import com.medislot.medislot.repository.SlotRepository;
+import com.medislot.medislot.repository.BookingPreflight;
+import com.medislot.medislot.repository.EntityLookup;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +12,7 @@ import java.util.Objects;
 public class ValidAppointmentTimeValidator implements ConstraintValidator<ValidAppointmentTime, AppointmentCreateRequest> {
 
     @Autowired
-    private SlotRepository slotRepository;
+    private EntityLookup entityLookup;
 
     @Override
     public boolean isValid(AppointmentCreateRequest request, ConstraintValidatorContext context) {
@@ -25,16 +25,18 @@ public class ValidAppointmentTimeValidator implements ConstraintValidator<ValidA
             return true;
         }
 
-        // Check if repository is available (might not be in test contexts)
-        if (slotRepository == null) {
+        // Check if the lookup is available (might not be in test contexts)
+        if (entityLookup == null) {
             return true;
         }
 
         // Verify slot exists, is available, and belongs to the specified doctor and hospital
-        return slotRepository.findById(request.getSlotId())
-                .map(slot -> slot.getStatus() == SlotStatus.AVAILABLE
-                        && Objects.equals(slot.getDoctorId(), request.getDoctorId())
-                        && Objects.equals(slot.getHospitalId(), request.getHospitalId()))
-                .orElse(false);
+        // The preflight is memoized for the request, so AppointmentServiceImpl.create reuses it
+        BookingPreflight preflight = entityLookup.bookingPreflight(request.getSlotId(),
+                request.getDoctorId(), request.getHospitalId(), request.getPatientId());
+        return preflight.slotFound()
+                && preflight.slotAvailable()
+                && Objects.equals(preflight.getSlotDoctorId(), request.getDoctorId())
+                && Objects.equals(preflight.getSlotHospitalId(), request.getHospitalId());
     }
 }
@@ -0,0 +1,112 @@
+package com.medislot.medislot.versioning;
+
+import com.medislot.medislot.config.BinaryFormatConfig;
+import com.medislot.medislot.util.FieldSelection;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * ETag construction for versioned resources
+ * A strong ETag must differ between representations of the same resource version, so the
+ * response format selected by the Accept header and the ?fields= selection are appended to the
+ * entity version, and the response is marked Vary: Accept for shared caches
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String of(String version, WebRequest request) {
+        varyByAccept(request);
+        return version + variant(request);
+    }
+
+    /**
+     * The part of the ETag identifying the representation: negotiated format and field selection
+     * Also keys ResponseCacheFilter, so only inputs that change the body are included
+     */
+    public static String variant(WebRequest request) {
+        return representation(request) + fieldSelection(request);
+    }
+
+    /**
+     * Normalized ?fields= value, so the same selection in any order shares an ETag
+     */
+    private static String fieldSelection(WebRequest request) {
+        String fields = request.getParameter(FieldSelection.PARAMETER);
+        if (fields == null || fields.isBlank()) {
+            return "";
+        }
+        return Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(",", ";", ""));
+    }
+
+    /**
+     * Suffix of the negotiated format; JSON (the default) has none
+     * Follows the converter order for acceptable types of equal quality: the highest quality wins,
+     * wildcards resolve to JSON and q=0 types are skipped
+     */
+    private static String representation(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return "";
+        }
+        try {
+            List<MediaType> mediaTypes = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            // Stable sort: types of equal quality keep their header order
+            mediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType mediaType : mediaTypes) {
+                if (mediaType.getQualityValue() <= 0) {
+                    break;
+                }
+                if (mediaType.isWildcardType() || mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                    return "";
+                }
+                if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                    return ".cbor";
+                }
+                if (mediaType.isCompatibleWith(BinaryFormatConfig.APPLICATION_SMILE)) {
+                    return ".smile";
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // Negotiation rejects the request later; the ETag is never sent
+        }
+        return "";
+    }
+
+    /**
+     * The body (and so the ETag) depends on Accept; added once, also to 304 responses
+     */
+    private static void varyByAccept(WebRequest request) {
+        if (!(request instanceof ServletWebRequest servletRequest)) {
+            return;
+        }
+        HttpServletResponse response = servletRequest.getResponse();
+        if (response == null) {
+            return;
+        }
+        for (String vary : response.getHeaders(HttpHeaders.VARY)) {
+            for (String name : vary.split(",")) {
+                if (name.trim().equalsIgnoreCase(HttpHeaders.ACCEPT) || name.trim().equals("*")) {
+                    return;
+                }
+            }
+        }
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+}
@@ -0,0 +1,190 @@
+package com.medislot.medislot.versioning;
+
+import com.medislot.medislot.changefeed.ChangeToken;
+import com.medislot.medislot.entity.ChangeLogEntry;
+import com.medislot.medislot.event.DoctorChangedEvent;
+import com.medislot.medislot.event.DomainEvent;
+import com.medislot.medislot.event.HospitalChangedEvent;
+import com.medislot.medislot.event.SlotChangedEvent;
+import com.medislot.medislot.repository.ChangeLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Entity Version Registry
+ * In-memory version per cacheable scope (doctor and hospital directories, single doctors and
+ * hospitals, slot lists per doctor / hospital), used as strong ETags without touching the database.
+ *
+ * Versions follow the change log: a scope's version is the (tx_id, seq) position of the latest
+ * change log entry that touched it, so every node converges on the same ETag. Scopes unchanged
+ * since startup carry the change log head read at startup, which nodes started at the same head
+ * share; until it is read they carry a version unique to the node. Local commits bump the scope
+ * immediately, so a node never answers 304 for its own writes; changes made on other nodes are
+ * picked up within one poll interval
+ */
+@Component
+public class EntityVersionRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityVersionRegistry.class);
+    private static final Set<String> TRACKED_TYPES = Set.of(
+            SlotChangedEvent.AGGREGATE_TYPE, DoctorChangedEvent.AGGREGATE_TYPE, HospitalChangedEvent.AGGREGATE_TYPE);
+
+    private static final String DOCTORS = "doctors";
+    private static final String HOSPITALS = "hospitals";
+    private static final String SLOTS = "slots";
+
+    private final ChangeLogRepository changeLogRepository;
+    private final int batchSize;
+    // Prefix of versions only this node hands out (local commits, scopes before the head is read)
+    private final String nodeVersion = "n" + Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+    private volatile String baseVersion = nodeVersion;
+    private final Map<String, String> versions = new ConcurrentHashMap<>();
+    private final AtomicLong localChanges = new AtomicLong();
+
+    private ChangeToken cursor;
+
+    public EntityVersionRegistry(ChangeLogRepository changeLogRepository,
+                                 @Value("${entity-versions.batch-size:1000}") int batchSize) {
+        this.changeLogRepository = changeLogRepository;
+        this.batchSize = batchSize;
+    }
+
+    public String doctorsVersion() {
+        return version(DOCTORS);
+    }
+
+    public String doctorVersion(UUID doctorId) {
+        return version("doctor:" + doctorId);
+    }
+
+    public String hospitalsVersion() {
+        return version(HOSPITALS);
+    }
+
+    public String hospitalVersion(UUID hospitalId) {
+        return version("hospital:" + hospitalId);
+    }
+
+    public String slotsVersion() {
+        return version(SLOTS);
+    }
+
+    public String doctorSlotsVersion(UUID doctorId) {
+        return version("slots:doctor:" + doctorId);
+    }
+
+    public String hospitalSlotsVersion(UUID hospitalId) {
+        return version("slots:hospital:" + hospitalId);
+    }
+
+    private String version(String scope) {
+        return versions.getOrDefault(scope, baseVersion);
+    }
+
+    /**
+     * Bump the scopes of a change committed on this node
+     * The value is unique to this node and replaced by a later log position; a poll whose query
+     * ran before the bump never overwrites it with an older one
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onDomainEvent(DomainEvent event) {
+        String localVersion = nodeVersion + "-" + localChanges.incrementAndGet();
+        if (event instanceof SlotChangedEvent slot) {
+            touchSlot(slot.doctorId(), slot.hospitalId(), localVersion, Long.MAX_VALUE);
+        } else if (event instanceof DoctorChangedEvent doctor) {
+            touchDoctor(doctor.doctorId(), localVersion, Long.MAX_VALUE);
+        } else if (event instanceof HospitalChangedEvent hospital) {
+            touchHospital(hospital.hospitalId(), localVersion, Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Apply change log entries written since the last poll (including other nodes' changes)
+     */
+    @Scheduled(fixedDelayString = "${entity-versions.poll-interval-ms:500}")
+    public void poll() {
+        try {
+            if (cursor == null) {
+                // Start from the current head; earlier history is covered by the base version
+                cursor = changeLogRepository.findHead()
+                        .map(head -> new ChangeToken(head.getTxId(), head.getSeq()))
+                        .orElse(ChangeToken.START);
+                baseVersion = "h" + cursor.txId() + "." + cursor.seq();
+                return;
+            }
+            List<ChangeLogEntry> entries;
+            do {
+                // Local bumps counted after this may be newer than anything the query returns
+                long localMark = localChanges.get();
+                entries = changeLogRepository.findAfter(cursor.txId(), cursor.seq(), TRACKED_TYPES, batchSize);
+                for (ChangeLogEntry entry : entries) {
+                    apply(entry, localMark);
+                    cursor = new ChangeToken(entry.getTxId(), entry.getSeq());
+                }
+            } while (entries.size() == batchSize);
+        } catch (Exception e) {
+            logger.warn("Entity version poll failed: {}", e.getMessage());
+        }
+    }
+
+    private void apply(ChangeLogEntry entry, long localMark) {
+        String position = entry.getTxId() + "." + entry.getSeq();
+        switch (entry.getEntityType()) {
+            case SlotChangedEvent.AGGREGATE_TYPE -> touchSlot(entry.getDoctorId(), entry.getHospitalId(), position, localMark);
+            case DoctorChangedEvent.AGGREGATE_TYPE -> touchDoctor(entry.getEntityId(), position, localMark);
+            case HospitalChangedEvent.AGGREGATE_TYPE -> touchHospital(entry.getEntityId(), position, localMark);
+            default -> {
+            }
+        }
+    }
+
+    private void touchSlot(UUID doctorId, UUID hospitalId, String version, long localMark) {
+        put(SLOTS, version, localMark);
+        if (doctorId != null) {
+            put("slots:doctor:" + doctorId, version, localMark);
+        }
+        if (hospitalId != null) {
+            put("slots:hospital:" + hospitalId, version, localMark);
+        }
+    }
+
+    private void touchDoctor(UUID doctorId, String version, long localMark) {
+        put(DOCTORS, version, localMark);
+        put("doctor:" + doctorId, version, localMark);
+    }
+
+    private void touchHospital(UUID hospitalId, String version, long localMark) {
+        put(HOSPITALS, version, localMark);
+        put("hospital:" + hospitalId, version, localMark);
+    }
+
+    /**
+     * Set a scope's version unless it holds a local bump made after localMark was read
+     */
+    private void put(String scope, String version, long localMark) {
+        versions.compute(scope, (key, current) -> localChange(current) > localMark ? current : version);
+    }
+
+    /**
+     * Counter of a local version of this node, -1 for log positions and other nodes' versions
+     */
+    private long localChange(String version) {
+        String prefix = nodeVersion + "-";
+        if (version == null || !version.startsWith(prefix)) {
+            return -1;
+        }
+        return Long.parseLong(version.substring(prefix.length()));
+    }
+}
@@ -0,0 +1,73 @@
+-- Base schema (the entities under com.medislot.medislot.entity)
+-- Every file in this directory is idempotent, so they can also be applied to a database whose
+-- tables were created by ddl-auto=update
+
+CREATE TABLE IF NOT EXISTS hospitals (
+    id         uuid         PRIMARY KEY,
+    created_at timestamp(6) with time zone NOT NULL,
+    name       varchar(255) NOT NULL,
+    address    varchar(255),
+    active     boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS doctors (
+    id         uuid         PRIMARY KEY,
+    created_at timestamp(6) with time zone NOT NULL,
+    full_name  varchar(255) NOT NULL,
+    specialty  varchar(255) NOT NULL,
+    active     boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS patients (
+    id         uuid         PRIMARY KEY,
+    created_at timestamp(6) with time zone NOT NULL,
+    full_name  varchar(255) NOT NULL,
+    phone      varchar(255),
+    email      varchar(255),
+    active     boolean      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS doctor_hospitals (
+    doctor_id   uuid NOT NULL REFERENCES doctors (id),
+    hospital_id uuid NOT NULL REFERENCES hospitals (id),
+    created_at  timestamp(6) with time zone NOT NULL,
+    PRIMARY KEY (doctor_id, hospital_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_doctor_hospital_hospital_id ON doctor_hospitals (hospital_id);
+
+CREATE TABLE IF NOT EXISTS slots (
+    id          uuid         PRIMARY KEY,
+    created_at  timestamp(6) with time zone NOT NULL,
+    doctor_id   uuid         NOT NULL REFERENCES doctors (id),
+    hospital_id uuid         NOT NULL REFERENCES hospitals (id),
+    start_time  timestamp(6) with time zone NOT NULL,
+    end_time    timestamp(6) with time zone NOT NULL,
+    status      varchar(255) NOT NULL CHECK (status IN ('AVAILABLE', 'BOOKED'))
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_slot_doctor_start_time ON slots (doctor_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_slot_hospital_start_time ON slots (hospital_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_slot_doctor_hospital_start_time ON slots (doctor_id, hospital_id, start_time);
+
+CREATE TABLE IF NOT EXISTS appointments (
+    id          uuid         PRIMARY KEY,
+    created_at  timestamp(6) with time zone NOT NULL,
+    doctor_id   uuid         NOT NULL REFERENCES doctors (id),
+    hospital_id uuid         NOT NULL REFERENCES hospitals (id),
+    slot_id     uuid         NOT NULL UNIQUE REFERENCES slots (id),
+    patient_id  uuid         NOT NULL REFERENCES patients (id),
+    status      varchar(255) NOT NULL CHECK (status IN ('BOOKED', 'CANCELLED'))
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id         uuid         PRIMARY KEY,
+    created_at timestamp(6) with time zone NOT NULL,
+    email      varchar(255) NOT NULL UNIQUE,
+    password   varchar(255) NOT NULL,
+    first_name varchar(255) NOT NULL,
+    last_name  varchar(255) NOT NULL,
+    role       varchar(255) NOT NULL CHECK (role IN ('ADMIN', 'DOCTOR', 'PATIENT')),
+    active     boolean      NOT NULL,
+    profile_id uuid
+);
@@ -0,0 +1,23 @@
+-- Transactional outbox (OutboxEvent, OutboxRelay)
+-- Safe to run where ddl-auto=update already created the table
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id              bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    aggregate_type  varchar(50)  NOT NULL,
+    aggregate_id    uuid         NOT NULL,
+    event_type      varchar(100) NOT NULL,
+    payload         text         NOT NULL,
+    correlation_id  varchar(64),
+    created_at      timestamp(6) with time zone NOT NULL,
+    published_at    timestamp(6) with time zone,
+    attempts        integer      NOT NULL,
+    last_error      varchar(500),
+    next_attempt_at timestamp(6) with time zone,
+    parked_at       timestamp(6) with time zone
+);
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS next_attempt_at timestamp(6) with time zone;
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS parked_at timestamp(6) with time zone;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_published_id ON outbox_events (published_at, id);
+CREATE INDEX IF NOT EXISTS idx_outbox_aggregate_id ON outbox_events (aggregate_id, id);
@@ -0,0 +1,14 @@
+-- Change log behind the change feed and cross-node entity versions (ChangeLogEntry)
+
+CREATE TABLE IF NOT EXISTS change_log (
+    seq         bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    tx_id       bigint      NOT NULL,
+    entity_type varchar(50) NOT NULL,
+    entity_id   uuid        NOT NULL,
+    operation   varchar(10) NOT NULL,
+    doctor_id   uuid,
+    hospital_id uuid,
+    changed_at  timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_log_tx_seq ON change_log (tx_id, seq);
@@ -0,0 +1,13 @@
+-- Per-day utilization counters (SlotUtilization, UtilizationCounters)
+-- The table is filled from slots and appointments on the first start (UtilizationCounters.backfill)
+
+CREATE TABLE IF NOT EXISTS slot_utilization (
+    doctor_id   uuid        NOT NULL,
+    hospital_id uuid        NOT NULL,
+    day         date        NOT NULL,
+    status      varchar(20) NOT NULL CHECK (status IN ('AVAILABLE', 'BOOKED', 'CANCELLED')),
+    total       bigint      NOT NULL,
+    PRIMARY KEY (doctor_id, hospital_id, day, status)
+);
+
+CREATE INDEX IF NOT EXISTS idx_slot_utilization_hospital_day ON slot_utilization (hospital_id, day);
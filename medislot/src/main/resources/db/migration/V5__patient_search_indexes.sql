@@ -0,0 +1,10 @@
+-- Trigram indexes behind GET /api/patients/search (PatientSearchIndexes)
+-- Only needed with patient-search.create-indexes=false. CREATE INDEX CONCURRENTLY cannot run in a
+-- transaction block, so apply this file in autocommit mode (psql without --single-transaction).
+-- If a build fails, the index is left INVALID: DROP INDEX CONCURRENTLY it and run the file again
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patient_full_name_trgm ON patients USING gin (lower(full_name) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patient_email_trgm ON patients USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_patient_phone_digits_trgm ON patients USING gin ((regexp_replace(phone, '[^0-9]', '', 'g')) gin_trgm_ops);
@@ -0,0 +1,3 @@
+-- Lookup of expired change log entries (ChangeLogRetention)
+
+CREATE INDEX IF NOT EXISTS idx_change_log_changed_at ON change_log (changed_at);
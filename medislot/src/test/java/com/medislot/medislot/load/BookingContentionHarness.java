@@ -0,0 +1,242 @@
+package com.medislot.medislot.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Booking contention harness
+ * Seeds doctors, patients and a small set of hot slots through the API, then releases thousands
+ * of concurrent POST /api/appointments at those slots from virtual threads. Reports throughput,
+ * latency percentiles and the response breakdown, and checks the booking invariants in the
+ * database afterwards:
+ *   - no slot has more than one BOOKED appointment
+ *   - no slot is BOOKED without a BOOKED appointment (and vice versa)
+ *   - the API never returned 201 twice for the same slot
+ * Needs a running PostgreSQL (DB_URL / DB_USERNAME / DB_PASSWORD), so it is opt-in:
+ *   ./mvnw test -Dtest=BookingContentionHarness -Dmedislot.load-test=true
+ * Tunables (system properties, prefix medislot.contention.): doctors, slots-per-doctor, patients,
+ * clients, requests-per-client, virtual-threads
+ */
+@EnabledIfSystemProperty(named = "medislot.load-test", matches = "true")
+class BookingContentionHarness {
+
+    private static final String PREFIX = "medislot.contention.";
+
+    private final int doctors = Integer.getInteger(PREFIX + "doctors", 4);
+    private final int slotsPerDoctor = Integer.getInteger(PREFIX + "slots-per-doctor", 5);
+    private final int patients = Integer.getInteger(PREFIX + "patients", 50);
+    private final int clients = Integer.getInteger(PREFIX + "clients", 2000);
+    private final int requestsPerClient = Integer.getInteger(PREFIX + "requests-per-client", 3);
+    private final boolean virtualThreads = Boolean.parseBoolean(System.getProperty(PREFIX + "virtual-threads", "true"));
+
+    @Test
+    void concurrentBookingsKeepInvariants() throws Exception {
+        try (ConfigurableApplicationContext context = LoadTestSupport.startApplication(
+                Map.of("spring.threads.virtual.enabled", virtualThreads));
+             HttpClient client = LoadTestSupport.newHttpClient()) {
+
+            String baseUrl = LoadTestSupport.baseUrl(context);
+            String adminToken = LoadTestSupport.registerUser(client, baseUrl, "ADMIN");
+            String patientToken = LoadTestSupport.registerUser(client, baseUrl, "PATIENT");
+
+            SeedData seed = seed(client, baseUrl, adminToken);
+            System.out.printf("Seeded %d doctors, %d hot slots, %d patients%n",
+                    seed.doctorIds().size(), seed.slots().size(), seed.patientIds().size());
+
+            Run run = fire(client, baseUrl, patientToken, seed);
+            LoadResult result = run.result();
+            System.out.println(LoadResult.header());
+            System.out.println(result.toRow());
+            System.out.println("Responses: " + run.statusCounts());
+
+            List<String> violations = new ArrayList<>();
+            run.successesPerSlot().forEach((slotId, successes) -> {
+                if (successes.get() > 1) {
+                    violations.add("API returned 201 " + successes.get() + " times for slot " + slotId);
+                }
+            });
+            violations.addAll(checkDatabase(context.getBean(DataSource.class), seed));
+
+            long bookedSlots = run.successesPerSlot().values().stream().filter(c -> c.get() > 0).count();
+            System.out.printf("Booked %d of %d hot slots%n", bookedSlots, seed.slots().size());
+            if (violations.isEmpty()) {
+                System.out.println("Invariants: OK");
+            } else {
+                System.out.println("Invariant violations:");
+                violations.forEach(violation -> System.out.println("  " + violation));
+            }
+
+            assertThat(violations).isEmpty();
+        }
+    }
+
+    /**
+     * Create a hospital, doctors, patients and future slots through the API
+     */
+    private SeedData seed(HttpClient client, String baseUrl, String adminToken) throws Exception {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        UUID hospitalId = LoadTestSupport.create(client, baseUrl + "/api/hospitals", adminToken, """
+                {"name":"Contention Hospital %s","address":"1 Load Test Street"}
+                """.formatted(run));
+
+        List<UUID> doctorIds = new ArrayList<>();
+        for (int i = 0; i < doctors; i++) {
+            doctorIds.add(LoadTestSupport.create(client, baseUrl + "/api/doctors", adminToken, """
+                    {"fullName":"Dr. Contention %s-%d","specialty":"Load Testing"}
+                    """.formatted(run, i)));
+        }
+
+        List<UUID> patientIds = new ArrayList<>();
+        for (int i = 0; i < patients; i++) {
+            patientIds.add(LoadTestSupport.create(client, baseUrl + "/api/patients", adminToken, """
+                    {"fullName":"Patient %s-%d","phone":"+1555%07d","email":"patient-%s-%d@medislot.test"}
+                    """.formatted(run, i, ThreadLocalRandom.current().nextInt(10_000_000), run, i)));
+        }
+
+        List<HotSlot> slots = new ArrayList<>();
+        OffsetDateTime firstStart = OffsetDateTime.now(ZoneOffset.UTC).plusDays(7).truncatedTo(ChronoUnit.HOURS);
+        for (UUID doctorId : doctorIds) {
+            for (int i = 0; i < slotsPerDoctor; i++) {
+                OffsetDateTime start = firstStart.plusMinutes(30L * i);
+                UUID slotId = LoadTestSupport.create(client, baseUrl + "/api/availability", adminToken, """
+                        {"doctorId":"%s","hospitalId":"%s","startTime":"%s","endTime":"%s"}
+                        """.formatted(doctorId, hospitalId, start, start.plusMinutes(30)));
+                slots.add(new HotSlot(slotId, doctorId, hospitalId));
+            }
+        }
+        return new SeedData(hospitalId, doctorIds, patientIds, slots);
+    }
+
+    /**
+     * Release all clients at once against the hot slots
+     */
+    private Run fire(HttpClient client, String baseUrl, String token, SeedData seed) throws Exception {
+        Map<UUID, AtomicInteger> successesPerSlot = new ConcurrentHashMap<>();
+        seed.slots().forEach(slot -> successesPerSlot.put(slot.id(), new AtomicInteger()));
+        Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<long[]> samples = new ConcurrentLinkedQueue<>();
+        CountDownLatch startGate = new CountDownLatch(1);
+
+        long started;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                executor.submit(() -> {
+                    long[] latencies = new long[requestsPerClient];
+                    startGate.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        HotSlot slot = seed.slots().get(random.nextInt(seed.slots().size()));
+                        UUID patientId = seed.patientIds().get(random.nextInt(seed.patientIds().size()));
+                        HttpRequest request = LoadTestSupport.post(baseUrl + "/api/appointments", token, """
+                                {"doctorId":"%s","hospitalId":"%s","slotId":"%s","patientId":"%s"}
+                                """.formatted(slot.doctorId(), slot.hospitalId(), slot.id(), patientId));
+
+                        long start = System.nanoTime();
+                        String key;
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            key = "HTTP " + response.statusCode();
+                            if (response.statusCode() == 201) {
+                                successesPerSlot.get(slot.id()).incrementAndGet();
+                            } else if (response.statusCode() >= 500) {
+                                errors.computeIfAbsent(key, k -> new LongAdder()).increment();
+                            }
+                        } catch (Exception e) {
+                            key = e.getClass().getSimpleName();
+                            errors.computeIfAbsent(key, k -> new LongAdder()).increment();
+                        }
+                        latencies[r] = System.nanoTime() - start;
+                        statusCounts.computeIfAbsent(key, k -> new LongAdder()).increment();
+                    }
+                    samples.add(latencies);
+                    return null;
+                });
+            }
+            started = System.nanoTime();
+            startGate.countDown();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        LoadResult result = LoadGenerator.summarize("POST /api/appointments (hot slots)",
+                clients, elapsed, samples, errors);
+        Map<String, Long> counts = statusCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+        return new Run(result, counts, successesPerSlot);
+    }
+
+    /**
+     * Check the booking invariants for the seeded slots directly in the database
+     */
+    private List<String> checkDatabase(DataSource dataSource, SeedData seed) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String placeholders = String.join(",", Collections.nCopies(seed.slots().size(), "?"));
+        Object[] slotIds = seed.slots().stream().map(HotSlot::id).toArray();
+        List<String> violations = new ArrayList<>();
+
+        jdbcTemplate.query("""
+                SELECT slot_id, COUNT(*) AS booked FROM appointments
+                WHERE status = 'BOOKED' AND slot_id IN (%s)
+                GROUP BY slot_id HAVING COUNT(*) > 1
+                """.formatted(placeholders),
+                rs -> {
+                    violations.add("Slot " + rs.getString("slot_id") + " has " + rs.getLong("booked") + " BOOKED appointments");
+                }, slotIds);
+
+        jdbcTemplate.query("""
+                SELECT s.id FROM slots s
+                WHERE s.status = 'BOOKED' AND s.id IN (%s)
+                  AND NOT EXISTS (SELECT 1 FROM appointments a WHERE a.slot_id = s.id AND a.status = 'BOOKED')
+                """.formatted(placeholders),
+                rs -> {
+                    violations.add("Slot " + rs.getString("id") + " is BOOKED without a BOOKED appointment");
+                }, slotIds);
+
+        jdbcTemplate.query("""
+                SELECT a.id, a.slot_id FROM appointments a JOIN slots s ON s.id = a.slot_id
+                WHERE a.status = 'BOOKED' AND s.status <> 'BOOKED' AND a.slot_id IN (%s)
+                """.formatted(placeholders),
+                rs -> {
+                    violations.add("Appointment " + rs.getString("id") + " is BOOKED but slot "
+                            + rs.getString("slot_id") + " is not");
+                }, slotIds);
+
+        return violations;
+    }
+
+    private record HotSlot(UUID id, UUID doctorId, UUID hospitalId) {
+    }
+
+    private record SeedData(UUID hospitalId, List<UUID> doctorIds, List<UUID> patientIds, List<HotSlot> slots) {
+    }
+
+    private record Run(LoadResult result, Map<String, Long> statusCounts, Map<UUID, AtomicInteger> successesPerSlot) {
+    }
+}
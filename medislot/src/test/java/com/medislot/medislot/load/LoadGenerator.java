@@ -0,0 +1,132 @@
+package com.medislot.medislot.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load generator
+ * Every simulated client is a virtual thread that sends its next request as soon as the
+ * previous one completes, so the offered concurrency equals the number of clients
+ */
+public final class LoadGenerator {
+
+    private LoadGenerator() {
+    }
+
+    /**
+     * Run a scenario
+     * @param scenario name printed in the report
+     * @param clients number of concurrent clients
+     * @param warmup period whose samples are discarded
+     * @param duration measurement period after warmup
+     * @param httpClient shared client
+     * @param requestFactory builds the next request for a client index
+     */
+    public static LoadResult run(String scenario,
+                                 int clients,
+                                 Duration warmup,
+                                 Duration duration,
+                                 HttpClient httpClient,
+                                 IntFunction<HttpRequest> requestFactory) {
+        long measureStart = System.nanoTime() + warmup.toNanos();
+        long measureEnd = measureStart + duration.toNanos();
+
+        ConcurrentLinkedQueue<long[]> samplesPerClient = new ConcurrentLinkedQueue<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                int clientIndex = i;
+                executor.submit(() -> {
+                    long[] samples = new long[256];
+                    int count = 0;
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= measureEnd) {
+                            break;
+                        }
+                        String error = null;
+                        try {
+                            HttpResponse<Void> response = httpClient.send(
+                                    requestFactory.apply(clientIndex), HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                error = "HTTP " + response.statusCode();
+                            }
+                        } catch (Exception e) {
+                            error = e.getClass().getSimpleName();
+                        }
+                        long end = System.nanoTime();
+                        if (start < measureStart) {
+                            continue;
+                        }
+                        if (error != null) {
+                            errors.computeIfAbsent(error, k -> new LongAdder()).increment();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = end - start;
+                    }
+                    samplesPerClient.add(Arrays.copyOf(samples, count));
+                });
+            }
+        }
+
+        return summarize(scenario, clients, duration, samplesPerClient, errors);
+    }
+
+    /**
+     * Merge per-client latency samples (nanoseconds) and error counts into a result
+     */
+    static LoadResult summarize(String scenario, int clients, Duration duration,
+                                Collection<long[]> samplesPerClient,
+                                Map<String, LongAdder> errors) {
+        List<long[]> parts = new ArrayList<>(samplesPerClient);
+        int total = parts.stream().mapToInt(p -> p.length).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] part : parts) {
+            System.arraycopy(part, 0, all, offset, part.length);
+            offset += part.length;
+        }
+        Arrays.sort(all);
+
+        Map<String, Long> errorBreakdown = new TreeMap<>();
+        errors.forEach((key, value) -> errorBreakdown.put(key, value.sum()));
+        long errorCount = errorBreakdown.values().stream().mapToLong(Long::longValue).sum();
+
+        return new LoadResult(
+                scenario,
+                clients,
+                total,
+                errorCount,
+                errorBreakdown,
+                total / (duration.toNanos() / 1_000_000_000.0),
+                percentileMicros(all, 0.50),
+                percentileMicros(all, 0.90),
+                percentileMicros(all, 0.99),
+                total == 0 ? 0 : all[total - 1] / 1000);
+    }
+
+    private static long percentileMicros(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1000;
+    }
+}
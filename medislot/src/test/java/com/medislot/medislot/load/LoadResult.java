@@ -0,0 +1,30 @@
+package com.medislot.medislot.load;
+
+import java.util.Map;
+
+/**
+ * Outcome of one load scenario
+ * Latencies are in microseconds, measured client-side over the measurement window only
+ */
+public record LoadResult(String scenario,
+                         int clients,
+                         long requests,
+                         long errors,
+                         Map<String, Long> errorBreakdown,
+                         double throughputPerSecond,
+                         long p50Micros,
+                         long p90Micros,
+                         long p99Micros,
+                         long maxMicros) {
+
+    public static String header() {
+        return String.format("%-32s %8s %10s %8s %12s %10s %10s %10s %10s",
+                "scenario", "clients", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)");
+    }
+
+    public String toRow() {
+        return String.format("%-32s %8d %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f",
+                scenario, clients, requests, errors, throughputPerSecond,
+                p50Micros / 1000.0, p90Micros / 1000.0, p99Micros / 1000.0, maxMicros / 1000.0);
+    }
+}
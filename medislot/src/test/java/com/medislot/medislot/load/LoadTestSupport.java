@@ -0,0 +1,127 @@
+package com.medislot.medislot.load;
+
+import com.medislot.medislot.MedislotApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Shared plumbing for load tests
+ * Starts the application on a random port against the database configured through
+ * DB_URL / DB_USERNAME / DB_PASSWORD and obtains JWT tokens through the public auth API
+ */
+public final class LoadTestSupport {
+
+    private static final Pattern TOKEN_PATTERN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F-]{36})\"");
+
+    private LoadTestSupport() {
+    }
+
+    /**
+     * Start the application with load-test friendly settings plus the given overrides
+     */
+    public static ConfigurableApplicationContext startApplication(Map<String, Object> overrides) {
+        List<String> properties = new ArrayList<>(List.of(
+                "server.port=0",
+                "rate-limit.enabled=false",
+                "server.tomcat.max-connections=20000",
+                "server.tomcat.accept-count=10000",
+                "logging.level.com.medislot.medislot=WARN",
+                "logging.level.org.springframework=WARN",
+                "logging.level.org.hibernate=WARN",
+                "spring.jpa.show-sql=false"
+        ));
+        overrides.forEach((key, value) -> properties.add(key + "=" + value));
+        return new SpringApplicationBuilder(MedislotApplication.class)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    public static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    /**
+     * HTTP client sized for thousands of concurrent connections
+     */
+    public static HttpClient newHttpClient() {
+        return HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(30))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    /**
+     * Register a fresh user with the given role and return its JWT
+     */
+    public static String registerUser(HttpClient client, String baseUrl, String role)
+            throws IOException, InterruptedException {
+        String email = "load-" + UUID.randomUUID() + "@medislot.test";
+        String body = """
+                {"email":"%s","password":"load-test-pw","firstName":"Load","lastName":"Test","role":"%s"}
+                """.formatted(email, role);
+        String response = send(client, post(baseUrl + "/api/auth/register", null, body), 201);
+        Matcher matcher = TOKEN_PATTERN.matcher(response);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No token in register response: " + response);
+        }
+        return matcher.group(1);
+    }
+
+    /**
+     * POST a JSON body and return the id of the created resource
+     */
+    public static UUID create(HttpClient client, String url, String token, String body)
+            throws IOException, InterruptedException {
+        String response = send(client, post(url, token, body), 201);
+        Matcher matcher = ID_PATTERN.matcher(response);
+        if (!matcher.find()) {
+            throw new IllegalStateException("No id in response from " + url + ": " + response);
+        }
+        return UUID.fromString(matcher.group(1));
+    }
+
+    public static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+    }
+
+    public static HttpRequest post(String url, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(60))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static String send(HttpClient client, HttpRequest request, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(request.method() + " " + request.uri()
+                    + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return response.body();
+    }
+}
@@ -0,0 +1,75 @@
+package com.medislot.medislot.load;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Platform vs virtual thread load comparison
+ * Boots the application once per threading mode and drives a read endpoint at 1k and 10k
+ * concurrent clients, printing throughput and latency percentiles for each run.
+ * Needs a running PostgreSQL (DB_URL / DB_USERNAME / DB_PASSWORD), so it is opt-in:
+ *   ./mvnw test -Dtest=VirtualThreadLoadTest -Dmedislot.load-test=true
+ * Tunables: -Dmedislot.load-test.concurrency=1000,10000 -Dmedislot.load-test.duration-seconds=30
+ */
+@EnabledIfSystemProperty(named = "medislot.load-test", matches = "true")
+class VirtualThreadLoadTest {
+
+    private static final String TARGET_PATH = "/api/doctors/active";
+
+    @Test
+    void compareThreadingModes() throws Exception {
+        int[] concurrencyLevels = parseConcurrency(System.getProperty("medislot.load-test.concurrency", "1000,10000"));
+        Duration duration = Duration.ofSeconds(Long.getLong("medislot.load-test.duration-seconds", 30));
+        Duration warmup = Duration.ofSeconds(Long.getLong("medislot.load-test.warmup-seconds", 10));
+
+        List<LoadResult> results = new ArrayList<>();
+        for (boolean virtualThreads : new boolean[] {false, true}) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = LoadTestSupport.startApplication(
+                    Map.of("spring.threads.virtual.enabled", virtualThreads));
+                 HttpClient client = LoadTestSupport.newHttpClient()) {
+
+                String baseUrl = LoadTestSupport.baseUrl(context);
+                String token = LoadTestSupport.registerUser(client, baseUrl, "PATIENT");
+                HttpRequest request = LoadTestSupport.get(baseUrl + TARGET_PATH, token);
+
+                for (int clients : concurrencyLevels) {
+                    LoadResult result = LoadGenerator.run(
+                            mode + " GET " + TARGET_PATH, clients, warmup, duration, client, i -> request);
+                    results.add(result);
+                    System.out.println(LoadResult.header());
+                    System.out.println(result.toRow());
+                    if (!result.errorBreakdown().isEmpty()) {
+                        System.out.println("  errors: " + result.errorBreakdown());
+                    }
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.println("=== Threading mode comparison ===");
+        System.out.println(LoadResult.header());
+        results.forEach(result -> System.out.println(result.toRow()));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.requests()).isPositive());
+    }
+
+    private static int[] parseConcurrency(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .mapToInt(Integer::parseInt)
+                .toArray();
+    }
+}
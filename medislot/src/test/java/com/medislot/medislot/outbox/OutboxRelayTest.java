@@ -0,0 +1,155 @@
+package com.medislot.medislot.outbox;
+
+import com.medislot.medislot.entity.OutboxEvent;
+import com.medislot.medislot.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Per-aggregate ordering, retry and parking of the outbox relay
+ * The repository is a mock, so only the relay's own handling of a locked batch is covered
+ */
+class OutboxRelayTest {
+
+    private static final UUID AGGREGATE_A = UUID.fromString("6f1c2a9e-3b4d-4e5f-8a7b-1c2d3e4f5a6b");
+    private static final UUID AGGREGATE_B = UUID.fromString("0a1b2c3d-4e5f-4a7b-8c9d-0e1f2a3b4c5d");
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 3, 10, 9, 0, 0, 0, ZoneOffset.UTC);
+    private static final int BATCH_SIZE = 10;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final RecordingPublisher publisher = new RecordingPublisher();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(repository, publisher, mock(PlatformTransactionManager.class),
+                BATCH_SIZE, 500, 30000, MAX_ATTEMPTS, 72);
+    }
+
+    @Test
+    void publishesEachAggregateInSequenceOrder() {
+        List<OutboxEvent> batch = List.of(event(1, AGGREGATE_A), event(2, AGGREGATE_B), event(3, AGGREGATE_A));
+        when(repository.lockNextBatch(anyInt())).thenReturn(batch);
+
+        relay.relay();
+
+        assertThat(publisher.sequences).containsExactly(1L, 2L, 3L);
+        assertThat(batch).allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    void failedAggregateHoldsBackItsLaterEventsOnly() {
+        publisher.failing.add(AGGREGATE_A);
+        OutboxEvent first = event(1, AGGREGATE_A);
+        OutboxEvent other = event(2, AGGREGATE_B);
+        OutboxEvent later = event(3, AGGREGATE_A);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(first, other, later));
+
+        relay.relay();
+
+        assertThat(publisher.sequences).containsExactly(2L);
+        assertThat(other.getPublishedAt()).isNotNull();
+        assertThat(first.getPublishedAt()).isNull();
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).isEqualTo("unavailable");
+        assertThat(first.getNextAttemptAt()).isAfter(first.getCreatedAt());
+        assertThat(later.getPublishedAt()).isNull();
+        assertThat(later.getAttempts()).isZero();
+    }
+
+    @Test
+    void partialFailureDoesNotPauseTheRelay() {
+        publisher.failing.add(AGGREGATE_A);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(event(1, AGGREGATE_A), event(2, AGGREGATE_B)));
+
+        relay.relay();
+        relay.relay();
+
+        verify(repository, times(2)).lockNextBatch(BATCH_SIZE);
+    }
+
+    @Test
+    void batchWithoutAnyPublishPausesTheRelay() {
+        publisher.failing.add(AGGREGATE_A);
+        publisher.failing.add(AGGREGATE_B);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(event(1, AGGREGATE_A), event(2, AGGREGATE_B)));
+
+        relay.relay();
+        relay.relay();
+
+        verify(repository, times(1)).lockNextBatch(BATCH_SIZE);
+    }
+
+    @Test
+    void retriedEventIsPublishedOnceTheDestinationRecovers() {
+        publisher.failing.add(AGGREGATE_A);
+        OutboxEvent event = event(1, AGGREGATE_A);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(event, event(2, AGGREGATE_B)));
+        relay.relay();
+
+        publisher.failing.clear();
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(event));
+        relay.relay();
+
+        assertThat(event.getPublishedAt()).isNotNull();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getParkedAt()).isNull();
+    }
+
+    @Test
+    void eventIsParkedAfterMaxAttempts() {
+        publisher.failing.add(AGGREGATE_A);
+        OutboxEvent event = event(1, AGGREGATE_A);
+        event.setAttempts(MAX_ATTEMPTS - 1);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(event, event(2, AGGREGATE_B)));
+
+        relay.relay();
+
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(event.getParkedAt()).isNotNull();
+        assertThat(event.getNextAttemptAt()).isNull();
+        assertThat(event.getPublishedAt()).isNull();
+    }
+
+    private static OutboxEvent event(long id, UUID aggregateId) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setAggregateType("Appointment");
+        event.setAggregateId(aggregateId);
+        event.setEventType("AppointmentBooked");
+        event.setPayload("{}");
+        event.setCreatedAt(CREATED_AT);
+        return event;
+    }
+
+    private static final class RecordingPublisher implements OutboxPublisher {
+
+        private final Set<UUID> failing = new HashSet<>();
+        private final List<Long> sequences = new ArrayList<>();
+
+        @Override
+        public void publish(OutboxMessage message) throws Exception {
+            if (failing.contains(message.aggregateId())) {
+                throw new IllegalStateException("unavailable");
+            }
+            sequences.add(message.sequence());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.medislot.medislot.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Matching and ranking of the directory autocomplete index
+ */
+class DirectoryIndexTest {
+
+    private static final int LIMIT = 10;
+
+    private final DirectoryIndex index = new DirectoryIndex();
+
+    @Test
+    void exactPrefixMatchesNameAndDetail() {
+        UUID smith = doctor("Anna Smith", "Cardiology", true);
+
+        assertThat(index.search("smi", null, false, LIMIT))
+                .singleElement()
+                .satisfies(match -> {
+                    assertThat(match.id()).isEqualTo(smith);
+                    assertThat(match.field()).isEqualTo(DirectoryIndex.Field.NAME);
+                    assertThat(match.distance()).isZero();
+                });
+        assertThat(index.search("CARDIO", null, false, LIMIT))
+                .singleElement()
+                .satisfies(match -> assertThat(match.field()).isEqualTo(DirectoryIndex.Field.SPECIALTY));
+    }
+
+    @Test
+    void typosWithinTheEditBudgetMatch() {
+        UUID smith = doctor("Anna Smith", "Cardiology", true);
+
+        assertThat(index.search("kardiology", null, false, LIMIT))
+                .singleElement()
+                .satisfies(match -> {
+                    assertThat(match.id()).isEqualTo(smith);
+                    assertThat(match.distance()).isEqualTo(1);
+                });
+        // Tokens of up to three characters must match exactly
+        assertThat(index.search("smx", null, false, LIMIT)).isEmpty();
+    }
+
+    @Test
+    void everyTokenMustMatch() {
+        UUID cardiologist = doctor("Anna Smith", "Cardiology", true);
+        doctor("Anna Jones", "Dermatology", true);
+
+        assertThat(ids(index.search("anna cardio", null, false, LIMIT))).containsExactly(cardiologist);
+        assertThat(index.search("anna neuro", null, false, LIMIT)).isEmpty();
+    }
+
+    @Test
+    void exactMatchesRankBeforeTypos() {
+        UUID mara = doctor("Mara Lopez", "Pediatrics", true);
+        UUID mark = doctor("Mark Lopez", "Pediatrics", true);
+
+        assertThat(ids(index.search("mark", null, false, LIMIT))).containsExactly(mark, mara);
+    }
+
+    @Test
+    void nameMatchesRankBeforeSpecialtyMatches() {
+        UUID bySpecialty = doctor("Ann Lee", "Dermatology", true);
+        UUID byName = doctor("Derm Patel", "Pediatrics", true);
+
+        assertThat(ids(index.search("derm", null, false, LIMIT))).containsExactly(byName, bySpecialty);
+    }
+
+    @Test
+    void activeRankBeforeInactiveThenAlphabetical() {
+        UUID inactive = doctor("Aaron Adams", "Surgery", false);
+        UUID bob = doctor("Bob Adams", "Surgery", true);
+        UUID alice = doctor("Alice Adams", "Surgery", true);
+
+        assertThat(ids(index.search("adams", null, false, LIMIT))).containsExactly(alice, bob, inactive);
+        assertThat(ids(index.search("adams", null, true, LIMIT))).containsExactly(alice, bob);
+        assertThat(ids(index.search("adams", null, false, 1))).containsExactly(alice);
+    }
+
+    @Test
+    void kindRestrictsResults() {
+        UUID doctor = doctor("Central Grey", "Surgery", true);
+        UUID hospital = UUID.randomUUID();
+        index.putHospital(hospital, "Central Clinic", "1 Main Street", true);
+
+        assertThat(ids(index.search("central", DirectoryIndex.Kind.HOSPITAL, false, LIMIT))).containsExactly(hospital);
+        assertThat(ids(index.search("central", DirectoryIndex.Kind.DOCTOR, false, LIMIT))).containsExactly(doctor);
+    }
+
+    @Test
+    void removedEntriesStopMatchingAndTheirNumbersAreReused() {
+        UUID removed = doctor("Anna Smith", "Cardiology", true);
+        index.remove(removed);
+        UUID added = doctor("Omar Haddad", "Neurology", true);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("smith", null, false, LIMIT)).isEmpty();
+        assertThat(index.search("cardiology", null, false, LIMIT)).isEmpty();
+        assertThat(ids(index.search("haddad", null, false, LIMIT))).containsExactly(added);
+    }
+
+    @Test
+    void updatedEntryIsReindexed() {
+        UUID id = doctor("Anna Smith", "Cardiology", true);
+        index.putDoctor(id, "Anna Smith", "Oncology", true);
+
+        assertThat(index.search("cardiology", null, false, LIMIT)).isEmpty();
+        assertThat(ids(index.search("oncology", null, false, LIMIT))).containsExactly(id);
+    }
+
+    @Test
+    void consecutiveSearchesDoNotShareState() {
+        UUID smith = doctor("Anna Smith", "Cardiology", true);
+        UUID jones = doctor("Anna Jones", "Dermatology", true);
+
+        assertThat(ids(index.search("anna", null, false, LIMIT))).containsExactlyInAnyOrder(smith, jones);
+        assertThat(ids(index.search("jones anna", null, false, LIMIT))).containsExactly(jones);
+        assertThat(ids(index.search("smith", null, false, LIMIT))).containsExactly(smith);
+    }
+
+    private UUID doctor(String fullName, String specialty, boolean active) {
+        UUID id = UUID.randomUUID();
+        index.putDoctor(id, fullName, specialty, active);
+        return id;
+    }
+
+    private static List<UUID> ids(List<DirectoryIndex.Match> matches) {
+        return matches.stream().map(DirectoryIndex.Match::id).toList();
+    }
+}
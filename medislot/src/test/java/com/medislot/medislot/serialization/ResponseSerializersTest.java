@@ -0,0 +1,133 @@
+package com.medislot.medislot.serialization;
+
+import com.medislot.medislot.dto.ApiResponse;
+import com.medislot.medislot.dto.appointment.AppointmentResponse;
+import com.medislot.medislot.dto.slot.SlotResponse;
+import com.medislot.medislot.entity.AppointmentStatus;
+import com.medislot.medislot.entity.SlotStatus;
+import com.medislot.medislot.util.FieldSelection;
+import com.medislot.medislot.util.FieldSelectionFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The streaming serializers must produce exactly the bytes of Jackson's bean serialization
+ */
+class ResponseSerializersTest {
+
+    private static final UUID DOCTOR_ID = UUID.fromString("6f1c2a9e-3b4d-4e5f-8a7b-1c2d3e4f5a6b");
+    private static final UUID HOSPITAL_ID = UUID.fromString("0a1b2c3d-4e5f-4a7b-8c9d-0e1f2a3b4c5d");
+    private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 3, 10, 9, 0, 0, 0, ZoneOffset.UTC);
+
+    private final JsonMapper beanMapper = JsonMapper.builder()
+            .filterProvider(FieldSelectionFilter.provider())
+            .build();
+    private final JsonMapper streamingMapper = JsonMapper.builder()
+            .filterProvider(FieldSelectionFilter.provider())
+            .addModule(new ResponseSerializersModule())
+            .build();
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void slotListMatchesBeanSerialization() {
+        ApiResponse<List<SlotResponse>> response = new ApiResponse<>(slots(), "Slots retrieved successfully");
+
+        assertSameBytes(response);
+    }
+
+    @Test
+    void appointmentListMatchesBeanSerialization() {
+        ApiResponse<List<AppointmentResponse>> response =
+                new ApiResponse<>(appointments(), "Appointments retrieved successfully");
+
+        assertSameBytes(response);
+    }
+
+    @Test
+    void sparseFieldsetMatchesBeanSerialization() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        FieldSelection.forRequest("status,id,startTime", SlotResponse.class);
+
+        assertSameBytes(new ApiResponse<>(slots(), "Slots retrieved successfully"));
+        FieldSelection.forRequest("patientId,createdAt", AppointmentResponse.class);
+        assertSameBytes(new ApiResponse<>(appointments(), "Appointments retrieved successfully"));
+    }
+
+    @Test
+    void timestampFormattingMatchesIsoFormatter() {
+        List<OffsetDateTime> samples = List.of(
+                BASE_TIME,
+                BASE_TIME.withNano(1),
+                BASE_TIME.withNano(120_000_000),
+                BASE_TIME.withNano(123_456_789),
+                BASE_TIME.withOffsetSameLocal(ZoneOffset.ofHours(4)),
+                BASE_TIME.withOffsetSameLocal(ZoneOffset.ofHoursMinutes(-3, -30)),
+                BASE_TIME.withOffsetSameLocal(ZoneOffset.ofHoursMinutesSeconds(5, 45, 30)),
+                OffsetDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(10000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC),
+                OffsetDateTime.of(-5, 12, 31, 23, 59, 59, 999_999_999, ZoneOffset.UTC));
+
+        for (OffsetDateTime sample : samples) {
+            assertThat(JsonEncodingCache.formatIso(sample))
+                    .isEqualTo(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(sample));
+        }
+    }
+
+    private void assertSameBytes(Object value) {
+        assertThat(new String(streamingMapper.writeValueAsBytes(value)))
+                .isEqualTo(new String(beanMapper.writeValueAsBytes(value)));
+    }
+
+    private static List<SlotResponse> slots() {
+        List<SlotResponse> slots = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            SlotResponse slot = new SlotResponse();
+            slot.setId(new UUID(0x5107L, i));
+            slot.setDoctorId(DOCTOR_ID);
+            slot.setHospitalId(i % 5 == 0 ? UUID.randomUUID() : HOSPITAL_ID);
+            slot.setStartTime(BASE_TIME.plusMinutes(30L * i).withNano(i * 1_000_000));
+            slot.setEndTime(BASE_TIME.plusMinutes(30L * i + 30));
+            slot.setStatus(i % 3 == 0 ? SlotStatus.BOOKED : SlotStatus.AVAILABLE);
+            slot.setCreatedAt(BASE_TIME.minusDays(7).withOffsetSameInstant(ZoneOffset.ofHours(4)));
+            slots.add(slot);
+        }
+        // Unset properties are written as null
+        slots.add(new SlotResponse());
+        return slots;
+    }
+
+    private static List<AppointmentResponse> appointments() {
+        List<AppointmentResponse> appointments = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            AppointmentResponse appointment = new AppointmentResponse();
+            appointment.setId(new UUID(0xA990L, i));
+            appointment.setDoctorId(DOCTOR_ID);
+            appointment.setHospitalId(HOSPITAL_ID);
+            appointment.setSlotId(new UUID(0x5107L, i));
+            appointment.setPatientId(new UUID(0x9A7L, i % 4));
+            appointment.setStatus(i % 2 == 0 ? AppointmentStatus.BOOKED : AppointmentStatus.CANCELLED);
+            appointment.setCreatedAt(BASE_TIME.minusHours(i).withNano(i * 10));
+            appointments.add(appointment);
+        }
+        appointments.add(new AppointmentResponse());
+        return appointments;
+    }
+}